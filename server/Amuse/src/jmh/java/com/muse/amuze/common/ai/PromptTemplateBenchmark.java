@@ -0,0 +1,79 @@
+package com.muse.amuze.common.ai;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+/**
+ * 시스템 프롬프트 생성 비교 (gradle jmh -PjmhInclude=PromptTemplateBenchmark)
+ * - 대상 : 캐릭터 설정 + 현재 상태 템플릿 (placeholder 6종, 공통 규칙은 값이 없는 고정 텍스트)
+ * - readAndReplace : 기존 방식 (요청마다 파일 읽기 + String.replace 6회 체인)
+ * - cachedReplace  : 파일만 캐시하고 replace 체인 유지
+ * - template       : 미리 파싱된 PromptTemplate 단일 패스 렌더링
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptTemplateBenchmark {
+
+	private static final String SUMMARY = "서아와 주인공은 비 오는 날 도서관에서 처음 만났고, 잃어버린 일기장을 함께 찾으며 가까워졌다. ".repeat(4);
+	private static final String SETTINGS = "서아: 21세, 국문과, 조용하지만 호기심이 많음. 주인공: 같은 과 선배, 무뚝뚝하지만 다정함.";
+
+	private Resource[] resources;
+	private String cachedText;
+	private PromptTemplate template;
+	private Map<String, Object> values;
+
+	@Setup
+	public void setUp() throws IOException {
+		resources = new Resource[] { new ClassPathResource("prompts/write-character-prompt.txt"),
+				new ClassPathResource("prompts/write-state-prompt.txt") };
+		cachedText = read();
+		template = PromptTemplate.parse("write-context", cachedText);
+		values = Map.of("totalSummary", SUMMARY, "characterSettings", SETTINGS, "relationLevel", "친구",
+				"affinityScore", 42, "userName", "민준", "mainCharName", "서아");
+	}
+
+	@Benchmark
+	public String readAndReplace() throws IOException {
+		return replaceChain(read());
+	}
+
+	@Benchmark
+	public String cachedReplace() {
+		return replaceChain(cachedText);
+	}
+
+	@Benchmark
+	public String template() {
+		return template.render(values);
+	}
+
+	private String read() throws IOException {
+		StringBuilder text = new StringBuilder();
+		for (Resource resource : resources) {
+			text.append(StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8)).append("\n\n");
+		}
+		return text.toString();
+	}
+
+	private String replaceChain(String text) {
+		return text.replace("{{totalSummary}}", SUMMARY)
+				.replace("{{characterSettings}}", SETTINGS)
+				.replace("{{relationLevel}}", "친구")
+				.replace("{{affinityScore}}", String.valueOf(42))
+				.replace("{{userName}}", "민준").replace("{{mainCharName}}", "서아");
+	}
+}
@@ -0,0 +1,114 @@
+package com.muse.amuze.common.auth;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.muse.amuze.user.model.dto.KakaoLoginRequest;
+import com.muse.amuze.user.model.entity.User;
+import com.muse.amuze.user.model.service.AuthService;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT 인증 필터 처리량 비교 (gradle jmh -PjmhInclude=JwtAuthenticationFilterBenchmark)
+ * - legacy       : 기존 방식 (validateToken + getEmail -> 파서 생성/서명 검증 2회 + 사용자 조회)
+ * - filterParse  : 캐시 미적중 시 필터 경로 (파싱 1회, 토큰 Claims 로 사용자 구성)
+ * - filterCached : 같은 토큰 반복 요청 (캐시 적중)
+ * 사용자 조회(users 테이블)는 메모리 스텁이므로 실제 DB 왕복 비용은 legacy 결과에 포함되지 않음
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+	private JwtTokenProvider provider;
+	private SecretKey key;
+	private AuthService authService;
+	private JwtAuthenticationFilter cachedFilter;
+	private JwtAuthenticationFilter uncachedFilter;
+	private MockHttpServletRequest request;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		provider = new JwtTokenProvider();
+		Field secret = JwtTokenProvider.class.getDeclaredField("secretKey");
+		secret.setAccessible(true);
+		secret.set(provider, SECRET);
+		provider.init();
+		key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+		User user = User.builder().id(7).email("writer@amuse.com").nickname("작가").role("USER").build();
+		authService = new AuthService() {
+			@Override
+			public Map<String, Object> loginKakao(KakaoLoginRequest request) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void logout(String userEmail) {
+			}
+
+			@Override
+			public UserDetails loadUserByUsername(String email) {
+				return user;
+			}
+		};
+
+		token = provider.createAccessToken(user.getId(), user.getEmail(), user.getRole(), user.getNickname());
+		cachedFilter = new JwtAuthenticationFilter(provider, new JwtPrincipalCache(1000, Duration.ofMinutes(1)),
+				authService);
+		uncachedFilter = new JwtAuthenticationFilter(provider, new JwtPrincipalCache(1000, Duration.ZERO),
+				authService);
+
+		request = new MockHttpServletRequest("GET", "/images/novel/cover.png");
+		request.addHeader("Authorization", "Bearer " + token);
+	}
+
+	@Benchmark
+	public Object legacy() {
+		// 변경 전 validateToken / getEmail 과 동일하게 매번 파서 생성 + 서명 검증 2회
+		Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+		String email = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+		return authService.loadUserByUsername(email);
+	}
+
+	@Benchmark
+	public Object filterParse() throws Exception {
+		return runFilter(uncachedFilter);
+	}
+
+	@Benchmark
+	public Object filterCached() throws Exception {
+		return runFilter(cachedFilter);
+	}
+
+	private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		SecurityContextHolder.clearContext();
+		request.removeAttribute(filter.getClass().getName() + ".FILTERED"); // OncePerRequestFilter 재실행 허용
+		return principal;
+	}
+}
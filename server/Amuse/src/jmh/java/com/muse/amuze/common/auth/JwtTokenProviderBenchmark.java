@@ -0,0 +1,61 @@
+package com.muse.amuze.common.auth;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JWT 토큰 검증 단위 비용 (gradle jmh -PjmhInclude=JwtTokenProviderBenchmark)
+ * - validateToken : 서명 검증 + 파싱 1회
+ * - getEmail      : 서명 검증 + 파싱 1회 후 subject
+ * - validateThenGetEmail : 두 메서드를 이어 부르는 호출 패턴 (파싱 2회)
+ * - parseClaims   : 필터가 쓰는 경로 (파싱 1회로 검증 + Claims)
+ * 필터 전체(캐시 포함) 비교는 JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+	private JwtTokenProvider provider;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		provider = new JwtTokenProvider();
+		Field secret = JwtTokenProvider.class.getDeclaredField("secretKey");
+		secret.setAccessible(true);
+		secret.set(provider, SECRET);
+		provider.init();
+		token = provider.createAccessToken(7, "writer@amuse.com", "USER", "작가");
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return provider.validateToken(token);
+	}
+
+	@Benchmark
+	public String getEmail() {
+		return provider.getEmail(token);
+	}
+
+	@Benchmark
+	public String validateThenGetEmail() {
+		return provider.validateToken(token) ? provider.getEmail(token) : null;
+	}
+
+	@Benchmark
+	public Object parseClaims() {
+		return provider.parseClaims(token);
+	}
+}
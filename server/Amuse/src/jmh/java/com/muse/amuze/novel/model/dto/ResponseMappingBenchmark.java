@@ -0,0 +1,89 @@
+package com.muse.amuze.novel.model.dto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.NovelStats;
+import com.muse.amuze.novel.model.entity.StoryScene;
+import com.muse.amuze.user.model.entity.User;
+
+/**
+ * 응답 DTO 변환 + JSON 직렬화 비용 (gradle jmh -PjmhInclude=ResponseMappingBenchmark)
+ * - sceneOf             : 장면 생성 응답 1건 (StorySceneResponse.of)
+ * - scenesMap           : 소설 전체 장면 목록 변환 (StorySceneResponse.from x sceneCount)
+ * - scenesMapSerialize  : 변환 + 직렬화 (GET /{id}/scenes 응답 본문 생성까지)
+ * - novelsMapSerialize  : 목록 1페이지(12개) NovelResponse.of 변환 + 직렬화
+ * - ObjectMapper 는 Spring MVC 와 같은 설정(Jackson2ObjectMapperBuilder, JavaTimeModule 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+	private static final String SENTENCE = "창밖으로 빗소리가 잦아들자 서아는 조용히 고개를 들어 그를 바라보았다. ";
+
+	@Param({ "30", "300", "1000" })
+	private int sceneCount;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private List<StoryScene> scenes;
+	private List<Novel> novels;
+	private NovelStats stats;
+	private Character mainChar;
+
+	@Setup
+	public void setUp() {
+		User author = User.builder().id(7).email("writer@amuse.com").nickname("작가").profileImageUrl("/images/user/7.png")
+				.build();
+		Novel novel = Novel.builder().id(1L).author(author).title("벤치마크").description("비 오는 날의 이야기")
+				.tags(List.of("로맨스", "캠퍼스")).build();
+		mainChar = Character.builder().id(2L).novel(novel).name("서아").role(CharacterRole.MAIN).affinity(120)
+				.relationshipLevel("FRIEND").build();
+		String body = SENTENCE.repeat(800 / SENTENCE.length());
+		scenes = IntStream.rangeClosed(1, sceneCount)
+				.mapToObj(i -> StoryScene.builder().id((long) i).novel(novel).sequenceOrder(i).userInput("입력 " + i)
+						.aiOutput(body).keyEvent("사건 " + i).affinityAtMoment(i % 400).build())
+				.toList();
+		novels = IntStream.rangeClosed(1, 12)
+				.mapToObj(i -> Novel.builder().id((long) i).author(author).title("소설 " + i).description("설명 " + i)
+						.tags(List.of("로맨스", "캠퍼스")).coverImageUrl("/images/novel/" + i + ".png").build())
+				.toList();
+		stats = NovelStats.builder().novelId(1L).viewCount(1234L).likeCount(56L).build();
+	}
+
+	@Benchmark
+	public StorySceneResponse sceneOf() {
+		return StorySceneResponse.of(scenes.get(0), 3, "배려하는 행동에 마음이 조금 열렸다.", mainChar, false);
+	}
+
+	@Benchmark
+	public List<StorySceneResponse> scenesMap() {
+		return scenes.stream().map(StorySceneResponse::from).toList();
+	}
+
+	@Benchmark
+	public byte[] scenesMapSerialize() throws Exception {
+		return objectMapper.writeValueAsBytes(scenes.stream().map(StorySceneResponse::from).toList());
+	}
+
+	@Benchmark
+	public byte[] novelsMapSerialize() throws Exception {
+		return objectMapper.writeValueAsBytes(novels.stream().map(n -> NovelResponse.of(n, stats, mainChar)).toList());
+	}
+}
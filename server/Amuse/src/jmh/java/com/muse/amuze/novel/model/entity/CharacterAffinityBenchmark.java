@@ -0,0 +1,37 @@
+package com.muse.amuze.novel.model.entity;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 호감도 갱신 비용 (gradle jmh -PjmhInclude=CharacterAffinityBenchmark)
+ * - Character.updateAffinity : 등급 하한선 적용 + 등급 재계산 (장면 저장마다 1회)
+ * - 변동값을 -5~+9 로 돌려가며 적용 (등급 하한선 때문에 결국 LOVER 구간 301~400 에서 오르내림 - 실제 장기 연재와 같은 상태)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CharacterAffinityBenchmark {
+
+	private Character character;
+	private int step;
+
+	@Setup
+	public void setUp() {
+		character = Character.builder().id(1L).name("서아").role(CharacterRole.MAIN).build();
+	}
+
+	@Benchmark
+	public String updateAffinity() {
+		step = (step + 1) % 15;
+		character.updateAffinity(step - 5);
+		return character.getRelationshipLevel();
+	}
+}
@@ -0,0 +1,90 @@
+package com.muse.amuze.novel.model.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.muse.amuze.common.ai.AiOutputStreamParser;
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+
+/**
+ * AI 장면 응답 파싱 비용 (gradle jmh -PjmhInclude=AiSceneParserBenchmark)
+ * - readTree   : 트리 파싱 후 필드 꺼내기 (이전 extractJson + readTree 방식의 정상 응답 경로)
+ * - clean      : AiSceneParser 스트리밍 파싱 (정상 JSON)
+ * - fenced     : 앞뒤에 설명/코드펜스가 붙은 응답
+ * - truncated  : 끝이 잘린 응답 (key_event 누락 -> 보완 대상)
+ * - streamFeed : 스트리밍 응답을 8글자 조각으로 받아 본문만 점진 해석 (AiOutputStreamParser)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiSceneParserBenchmark {
+
+	private static final String SENTENCE = "창밖으로 빗소리가 잦아들자 서아는 \"괜찮아요?\" 하고 물었다.\n";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AiSceneParser parser = new AiSceneParser("json_schema");
+
+	private String clean;
+	private String fenced;
+	private String truncated;
+	private String[] chunks;
+
+	@Setup
+	public void setUp() {
+		ObjectNode json = objectMapper.createObjectNode();
+		json.put(AiSceneParser.AI_OUTPUT, SENTENCE.repeat(800 / SENTENCE.length()));
+		json.put(AiSceneParser.AFFINITY_DELTA, 3);
+		json.put(AiSceneParser.REASON, "배려하는 행동에 마음이 조금 열렸다.");
+		json.put(AiSceneParser.KEY_EVENT, "두 사람이 한 우산을 쓰고 정류장까지 걸었다.");
+		clean = json.toString();
+		fenced = "다음은 요청하신 장면입니다.\n```json\n" + clean + "\n```\n즐겁게 읽어 주세요.";
+		truncated = clean.substring(0, clean.indexOf(",\"" + AiSceneParser.KEY_EVENT + "\""));
+
+		chunks = new String[(clean.length() + 7) / 8];
+		for (int i = 0; i < chunks.length; i++) {
+			chunks[i] = clean.substring(i * 8, Math.min(clean.length(), i * 8 + 8));
+		}
+	}
+
+	@Benchmark
+	public AiSceneResult readTree() throws Exception {
+		JsonNode node = objectMapper.readTree(clean.substring(clean.indexOf('{'), clean.lastIndexOf('}') + 1));
+		return new AiSceneResult(node.path(AiSceneParser.AI_OUTPUT).asText(), node.path(AiSceneParser.AFFINITY_DELTA).asInt(),
+				node.path(AiSceneParser.REASON).asText(), node.path(AiSceneParser.KEY_EVENT).asText());
+	}
+
+	@Benchmark
+	public Object clean() {
+		return parser.parse(clean);
+	}
+
+	@Benchmark
+	public Object fenced() {
+		return parser.parse(fenced);
+	}
+
+	@Benchmark
+	public Object truncated() {
+		return parser.parse(truncated);
+	}
+
+	@Benchmark
+	public int streamFeed() {
+		AiOutputStreamParser streamParser = new AiOutputStreamParser(AiSceneParser.AI_OUTPUT);
+		int decoded = 0;
+		for (String chunk : chunks) {
+			decoded += streamParser.feed(chunk).length();
+		}
+		return decoded;
+	}
+}
@@ -0,0 +1,87 @@
+package com.muse.amuze.novel.model.service;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.common.ai.PromptTemplateRegistry;
+import com.muse.amuze.common.ai.TokenCounter;
+import com.muse.amuze.common.tracing.PhaseTracer;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+/**
+ * 장면 생성 프롬프트 조립 비용 (gradle jmh -PjmhInclude=ScenePromptBenchmark)
+ * - NovelServiceImpl.buildMessage : 템플릿 렌더링 + 토큰 예산 패킹(장면별 토큰 추정) + 메세지 구성
+ * - 컨텍스트는 캐시에 들어 있는 상태 그대로 (최근 CACHED_SCENES 개 장면, 이전 장면 메세지 미리 변환)
+ * - sceneChars : 장면 본문 길이 (토큰 추정 비용이 본문 길이에 비례)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScenePromptBenchmark {
+
+	private static final String SENTENCE = "창밖으로 빗소리가 잦아들자 서아는 조용히 고개를 들어 그를 바라보았다. ";
+
+	@Param({ "400", "800" })
+	private int sceneChars;
+
+	private NovelServiceImpl novelService;
+	private MethodHandle buildMessage;
+	private NovelContext context;
+
+	@Setup
+	public void setUp() throws Exception {
+		PromptTemplateRegistry promptTemplates = new PromptTemplateRegistry(new PathMatchingResourcePatternResolver());
+		promptTemplates.init();
+		NovelContextCache novelContextCache = new NovelContextCache(new ObjectMapper(), 0, Duration.ofMinutes(1));
+		ContextPacker contextPacker = new ContextPacker(new TokenCounter(), 4000, 5500, 3, 5);
+
+		// buildMessage 에서 쓰는 의존성만 채움
+		novelService = new NovelServiceImpl(null, novelContextCache, null, null, null, null, contextPacker, null, null,
+				null, null, null, null, promptTemplates, null, PhaseTracer.noop(), null, null, null);
+		buildMessage = MethodHandles.privateLookupIn(NovelServiceImpl.class, MethodHandles.lookup())
+				.findVirtual(NovelServiceImpl.class, "buildMessage",
+						MethodType.methodType(List.class, NovelContext.class, String.class, boolean.class));
+
+		Novel novel = Novel.builder().id(1L).title("벤치마크").characterSettings("서아: 21세, 국문과, 조용하지만 호기심이 많음.")
+				.totalSummary("두 사람은 비 오는 날 도서관에서 처음 만났고, 잃어버린 일기장을 함께 찾으며 가까워졌다.").version(0L).build();
+		Character userChar = Character.builder().id(1L).novel(novel).name("민준").role(CharacterRole.USER).build();
+		Character mainChar = Character.builder().id(2L).novel(novel).name("서아").role(CharacterRole.MAIN).affinity(120)
+				.relationshipLevel("FRIEND").version(0L).build();
+		String body = SENTENCE.repeat(Math.max(1, sceneChars / SENTENCE.length()));
+		List<StoryScene> scenes = IntStream.rangeClosed(1, NovelContextCache.CACHED_SCENES)
+				.mapToObj(i -> StoryScene.builder().id((long) i).novel(novel).sequenceOrder(i).userInput("입력 " + i)
+						.aiOutput(body).keyEvent("사건 " + i).build())
+				.toList();
+		context = new NovelContext(novel, userChar, mainChar, scenes, novelContextCache.renderHistory(scenes));
+	}
+
+	@Benchmark
+	public Object userMode() throws Throwable {
+		return (List<?>) buildMessage.invokeExact(novelService, context, "서아에게 우산을 건넨다.", false);
+	}
+
+	@Benchmark
+	public Object autoMode() throws Throwable {
+		return (List<?>) buildMessage.invokeExact(novelService, context, (String) null, true);
+	}
+}
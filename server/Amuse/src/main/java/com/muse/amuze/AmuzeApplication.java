@@ -6,8 +6,10 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 import org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // 시간 추적
+@EnableScheduling // 주기 작업 (조회수/좋아요 반영)
 @SpringBootApplication(exclude={SecurityAutoConfiguration.class})
 @EnableSpringDataWebSupport(pageSerializationMode = PageSerializationMode.VIA_DTO)
 public class AmuzeApplication {
@@ -0,0 +1,125 @@
+package com.muse.amuze.common.ai;
+
+/**
+ * 스트리밍으로 들어오는 AI 응답(JSON 조각)에서 특정 문자열 필드의 값을 점진적으로 꺼내는 파서
+ * - 조각이 들어올 때마다 feed() 호출 -> 이번에 새로 해석된 본문 텍스트만 반환
+ * - 이스케이프(\n, \", \\uXXXX 등)가 조각 경계에서 잘려도 다음 조각이 올 때까지 기다렸다가 해석
+ * - 스트림이 끝나면 getRaw()로 전체 원문을 얻어 나머지 필드를 일반 JSON 파싱으로 처리
+ */
+public class AiOutputStreamParser {
+
+	private final String fieldKey; // ex) "ai_output" (따옴표 포함)
+	private final StringBuilder raw = new StringBuilder(); // 지금까지 받은 전체 원문
+
+	private int cursor = 0; // 다음에 해석할 원문 위치
+	private boolean inValue = false; // 필드 값(문자열) 내부를 읽는 중인지
+	private boolean finished = false; // 필드 값 읽기 완료 여부
+
+	public AiOutputStreamParser(String fieldName) {
+		this.fieldKey = "\"" + fieldName + "\"";
+	}
+
+	/** 새 조각을 추가하고, 이번 조각으로 새로 확정된 필드 값 텍스트를 반환
+	 * @param chunk
+	 * @return 새로 해석된 텍스트 (없으면 빈 문자열)
+	 */
+	public String feed(String chunk) {
+		if (chunk == null || chunk.isEmpty()) return "";
+		raw.append(chunk);
+
+		if (finished) return "";
+
+		if (!inValue && !findValueStart()) return "";
+
+		return decodeAvailable();
+	}
+
+	/** 필드 값 읽기가 끝났는지 (닫는 따옴표까지 도착)
+	 * @return
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/** 지금까지 받은 전체 원문
+	 * @return
+	 */
+	public String getRaw() {
+		return raw.toString();
+	}
+
+	// "ai_output" : " 까지 찾아서 cursor를 값의 시작 위치로 이동
+	private boolean findValueStart() {
+		int keyIndex = raw.indexOf(fieldKey, Math.max(0, cursor));
+		if (keyIndex == -1) return false;
+
+		int i = keyIndex + fieldKey.length();
+		while (i < raw.length() && Character.isWhitespace(raw.charAt(i))) i++;
+		if (i >= raw.length()) return false; // ':' 아직 도착 안함
+		if (raw.charAt(i) != ':') { // 키가 아닌 값 안의 문자열이었음 -> 건너뛰고 다시 탐색
+			cursor = keyIndex + fieldKey.length();
+			return findValueStart();
+		}
+		i++;
+		while (i < raw.length() && Character.isWhitespace(raw.charAt(i))) i++;
+		if (i >= raw.length()) return false; // 여는 따옴표 아직 도착 안함
+		if (raw.charAt(i) != '"') { // 문자열 값이 아님
+			finished = true;
+			return false;
+		}
+
+		cursor = i + 1;
+		inValue = true;
+		return true;
+	}
+
+	// cursor 부터 해석 가능한 만큼 디코딩
+	private String decodeAvailable() {
+		StringBuilder out = new StringBuilder();
+		int length = raw.length();
+
+		while (cursor < length) {
+			char c = raw.charAt(cursor);
+
+			if (c == '"') { // 값 종료
+				cursor++;
+				inValue = false;
+				finished = true;
+				break;
+			}
+
+			if (c != '\\') {
+				out.append(c);
+				cursor++;
+				continue;
+			}
+
+			// 이스케이프 처리 (다음 문자가 아직 없으면 대기)
+			if (cursor + 1 >= length) break;
+			char escaped = raw.charAt(cursor + 1);
+
+			if (escaped == 'u') {
+				if (cursor + 6 > length) break; // \\uXXXX 4자리 대기
+				try {
+					out.append((char) Integer.parseInt(raw.substring(cursor + 2, cursor + 6), 16));
+				} catch (NumberFormatException e) {
+					out.append(raw, cursor, cursor + 6); // 깨진 유니코드는 원문 그대로
+				}
+				cursor += 6;
+				continue;
+			}
+
+			switch (escaped) {
+			case 'n' -> out.append('\n');
+			case 't' -> out.append('\t');
+			case 'r' -> out.append('\r');
+			case 'b' -> out.append('\b');
+			case 'f' -> out.append('\f');
+			default -> out.append(escaped); // \" \\ \/ 등
+			}
+			cursor += 2;
+		}
+
+		return out.toString();
+	}
+}
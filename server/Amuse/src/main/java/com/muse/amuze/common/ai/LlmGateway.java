@@ -0,0 +1,572 @@
+package com.muse.amuze.common.ai;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.metadata.OpenAiUsage;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.muse.amuze.common.tracing.PhaseTracer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 모든 AI(chatModel) 호출이 거치는 관문
+ * - 호출 1회 제한 시간(attempt-timeout) + 재시도 포함 전체 제한 시간(deadline)
+ *   스트리밍은 스트림 전체에 deadline + 조각 사이 대기 제한 시간(stream-idle-timeout)
+ * - 재시도 가능한 오류(시간 초과, 네트워크, 429/5xx, 응답 형식 오류)만 지수 백오프 + 지터 후 재시도
+ *   (DB 트랜잭션 안에서 호출되면 커넥션을 붙잡고 대기하지 않도록 재시도 없이 1회만 호출)
+ * - 서킷 브레이커 : 공급자 장애(연속 실패)가 감지되면 open-duration 동안 호출 없이 바로 실패, 이후 1건만 시험 호출
+ * - 재시도 불가 오류(400/401 등 요청 자체의 문제)는 바로 실패하며 브레이커 실패로 세지 않음
+ *   Error(OutOfMemoryError 등)는 감싸지 않고 그대로 던짐 (재시도/브레이커 대상 아님)
+ * - 운영 지표(Micrometer, 모두 operation 태그) :
+ *   amuse.llm.request (재시도 포함 호출 1건, outcome), amuse.llm.attempt (공급자 호출 1회, outcome = 실패 원인),
+ *   amuse.llm.retries, amuse.llm.tokens (type = prompt/cached/completion), amuse.llm.prompt.chars, amuse.llm.breaker.state
+ * - 구간 추적 : llm.{operation} (호출 1건) > llm.attempt (시도 번호, 결과, 토큰 수) / llm.backoff (재시도 대기)
+ */
+@Component
+@Slf4j
+public class LlmGateway {
+
+	private static final String UNAVAILABLE_MESSAGE = "AI 작가가 현재 원고 작성을 거부하고 있습니다. 잠시 후 다시 시도해 주세요.";
+	private static final String OPEN_MESSAGE = "AI 서버가 혼잡하여 잠시 요청을 받지 않습니다. 잠시 후 다시 시도해 주세요.";
+
+	/** AI 응답 변환 함수 (예외 발생 시 응답 형식 오류로 보고 재시도)
+	 * @param <T>
+	 */
+	@FunctionalInterface
+	public interface ResponseMapper<T> {
+		T map(ChatResponse response) throws Exception;
+	}
+
+	private enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	// 지표 outcome 태그 값
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+	private static final String FORMAT_ERROR = "format_error";
+	private static final String SHORT_CIRCUIT = "short_circuit";
+
+	private final OpenAiChatModel chatModel;
+	private final MeterRegistry meterRegistry;
+	private final PhaseTracer phaseTracer;
+	private final Duration attemptTimeout;
+	private final Duration deadline;
+	private final Duration streamIdleTimeout;
+	private final int maxAttempts;
+	private final Duration backoffInitial;
+	private final Duration backoffMax;
+	private final int failureThreshold;
+	private final Duration openDuration;
+
+	// 호출 제한 시간 적용용 실행기 (호출 1건당 스레드 1개, 호출 측 추적 문맥을 이어받음)
+	// spring.threads.virtual.enabled=true 이면 가상 스레드, 아니면 재사용하는 플랫폼 스레드 (llm-call-)
+	private final ExecutorService callExecutor;
+
+	// 서킷 브레이커 상태 (this 로 동기화)
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAtNanos;
+	private boolean probeInFlight;
+
+	// 지표
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+	private final LongAdder formatErrors = new LongAdder();
+	private final LongAdder shortCircuited = new LongAdder();
+
+	// 토큰 사용량 (응답 메타데이터) - 프롬프트 캐시 적중 확인용
+	private final LongAdder promptTokens = new LongAdder();
+	private final LongAdder cachedTokens = new LongAdder();
+	private final LongAdder completionTokens = new LongAdder();
+	private final LongAdder cachedCalls = new LongAdder();
+	private final LongAdder cachedNanos = new LongAdder();
+	private final LongAdder uncachedCalls = new LongAdder();
+	private final LongAdder uncachedNanos = new LongAdder();
+
+	@Autowired
+	public LlmGateway(OpenAiChatModel chatModel, MeterRegistry meterRegistry, PhaseTracer phaseTracer,
+			@Value("${amuse.llm.attempt-timeout:60s}") Duration attemptTimeout,
+			@Value("${amuse.llm.deadline:90s}") Duration deadline,
+			@Value("${amuse.llm.stream-idle-timeout:30s}") Duration streamIdleTimeout,
+			@Value("${amuse.llm.max-attempts:3}") int maxAttempts,
+			@Value("${amuse.llm.backoff-initial:300ms}") Duration backoffInitial,
+			@Value("${amuse.llm.backoff-max:4s}") Duration backoffMax,
+			@Value("${amuse.llm.breaker.failure-threshold:5}") int failureThreshold,
+			@Value("${amuse.llm.breaker.open-duration:30s}") Duration openDuration,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this(chatModel, meterRegistry, phaseTracer, new Settings(attemptTimeout, deadline, streamIdleTimeout, maxAttempts,
+				backoffInitial, backoffMax, failureThreshold, openDuration, virtualThreads));
+	}
+
+	public LlmGateway(OpenAiChatModel chatModel, MeterRegistry meterRegistry, PhaseTracer phaseTracer,
+			Settings settings) {
+		this.chatModel = chatModel;
+		this.meterRegistry = meterRegistry;
+		this.phaseTracer = phaseTracer;
+		this.callExecutor = phaseTracer.wrap(settings.virtualThreads() ? Executors.newVirtualThreadPerTaskExecutor()
+				: Executors.newCachedThreadPool(new CustomizableThreadFactory("llm-call-")));
+		this.attemptTimeout = settings.attemptTimeout();
+		this.deadline = settings.deadline();
+		this.streamIdleTimeout = settings.streamIdleTimeout();
+		this.maxAttempts = Math.max(1, settings.maxAttempts());
+		this.backoffInitial = settings.backoffInitial();
+		this.backoffMax = settings.backoffMax();
+		this.failureThreshold = Math.max(1, settings.failureThreshold());
+		this.openDuration = settings.openDuration();
+
+		// 0 : CLOSED, 1 : HALF_OPEN, 2 : OPEN
+		Gauge.builder("amuse.llm.breaker.state", this, gateway -> switch (gateway.breakerState()) {
+			case CLOSED -> 0;
+			case HALF_OPEN -> 1;
+			case OPEN -> 2;
+		}).description("AI 서킷 브레이커 상태 (0 닫힘, 1 시험 호출, 2 열림)").register(meterRegistry);
+	}
+
+	/** AI 호출 후 응답 텍스트 반환
+	 * @param operation : 로그/지표용 호출 이름 (ex. scene.generate)
+	 * @param prompt
+	 * @return
+	 */
+	public String callText(String operation, Prompt prompt) {
+		return call(operation, prompt, response -> response.getResult().getOutput().getText());
+	}
+
+	/** AI 호출 후 mapper 로 변환한 결과 반환 (재시도 가능한 오류는 백오프 후 재시도)
+	 * @param operation : 로그/지표용 호출 이름 (ex. scene.generate)
+	 * @param prompt
+	 * @param mapper    : 응답 변환 (예외 시 응답 형식 오류 -> 재시도)
+	 * @return
+	 */
+	public <T> T call(String operation, Prompt prompt, ResponseMapper<T> mapper) {
+		return phaseTracer.trace("llm." + operation, span -> callWithRetry(operation, prompt, mapper));
+	}
+
+	// 재시도 포함 호출 (시도마다 llm.attempt span - 시도 번호, 결과, 토큰 수)
+	private <T> T callWithRetry(String operation, Prompt prompt, ResponseMapper<T> mapper) {
+		boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+		int attempts = inTransaction ? 1 : maxAttempts;
+		if (inTransaction && maxAttempts > 1) {
+			log.warn("[{}] DB 트랜잭션 안에서 AI 호출 - 재시도 없이 1회만 호출합니다.", operation);
+		}
+
+		long requestStartedAt = System.nanoTime();
+		long deadlineAt = requestStartedAt + deadline.toNanos();
+		RuntimeException last = null;
+		recordPromptSize(operation, prompt);
+
+		for (int attempt = 1; attempt <= attempts; attempt++) {
+			acquirePermission(operation, requestStartedAt);
+			calls.increment();
+
+			long remaining = deadlineAt - System.nanoTime();
+			long timeoutNanos = Math.min(attemptTimeout.toNanos(), remaining);
+
+			try (PhaseTracer.Scope span = phaseTracer.open("llm.attempt")) {
+				span.tag("llm.operation", operation).tag("llm.attempt", attempt);
+
+				ChatResponse response = null;
+				long startedAt = System.nanoTime();
+				try {
+					response = invoke(prompt, timeoutNanos);
+				} catch (RuntimeException e) {
+					span.tag("llm.outcome", cause(e)).error(e);
+					recordTime("amuse.llm.attempt", operation, cause(e), startedAt);
+					if (!isRetryable(e)) {
+						releaseProbe();
+						failures.increment();
+						recordTime("amuse.llm.request", operation, FAILURE, requestStartedAt);
+						log.warn("[{}] AI 호출 실패 (재시도 불가): {}", operation, e.getMessage());
+						throw e;
+					}
+					onUpstreamFailure();
+					last = e;
+					log.warn("[{}] AI 호출 실패 (시도 {}/{}): {}", operation, attempt, attempts, e.getMessage());
+				} catch (Error e) {
+					// JVM 오류 : 재시도/브레이커 실패로 세지 않고 시험 호출 권한만 반납 후 그대로 던짐
+					span.tag("llm.outcome", FAILURE).error(e);
+					releaseProbe();
+					failures.increment();
+					recordTime("amuse.llm.request", operation, FAILURE, requestStartedAt);
+					throw e;
+				}
+
+				if (response != null) {
+					// 공급자는 응답했으므로 브레이커에는 성공으로 기록 (형식 오류는 모델 출력 문제)
+					onSuccess();
+					recordUsage(operation, response, System.nanoTime() - startedAt);
+					try {
+						T result = mapper.map(response);
+						span.tag("llm.outcome", SUCCESS);
+						recordTime("amuse.llm.attempt", operation, SUCCESS, startedAt);
+						recordTime("amuse.llm.request", operation, SUCCESS, requestStartedAt);
+						return result;
+					} catch (Exception e) {
+						formatErrors.increment();
+						span.tag("llm.outcome", FORMAT_ERROR).error(e);
+						recordTime("amuse.llm.attempt", operation, FORMAT_ERROR, startedAt);
+						last = new IllegalStateException("AI 응답 형식 오류: " + e.getMessage(), e);
+						log.warn("[{}] AI 응답 형식 오류 (시도 {}/{}): {}", operation, attempt, attempts, e.getMessage());
+					}
+				}
+			}
+			if (!backoff(operation, attempt, attempts, deadlineAt)) break;
+		}
+
+		failures.increment();
+		recordTime("amuse.llm.request", operation, FAILURE, requestStartedAt);
+		log.error("[{}] AI 호출 최종 실패", operation, last);
+		throw new LlmUnavailableException(UNAVAILABLE_MESSAGE, last);
+	}
+
+	/** 스트리밍 AI 호출 (재시도 없음 - 이미 전송된 조각을 되돌릴 수 없으므로, 실패 시 호출 측에서 일반 호출로 재시도)
+	 * - 브레이커가 열려 있으면 바로 실패
+	 * - 제한 시간 : 스트림 전체 deadline (조각이 계속 와도 넘으면 중단) + 조각 사이 stream-idle-timeout (첫 조각 포함)
+	 * @param operation
+	 * @param prompt
+	 * @return
+	 */
+	public Flux<ChatResponse> stream(String operation, Prompt prompt) {
+		long startedAt = System.nanoTime();
+		recordPromptSize(operation, prompt);
+		acquirePermission(operation, startedAt);
+		calls.increment();
+		return chatModel.stream(prompt)
+				.timeout(streamIdleTimeout, Flux.error(() -> streamTimeout("AI 스트리밍 응답 대기 시간 초과", streamIdleTimeout)))
+				.takeUntilOther(Mono.delay(deadline)
+						.then(Mono.error(() -> streamTimeout("AI 스트리밍 전체 제한 시간 초과", deadline))))
+				.doOnNext(chunk -> recordUsage(operation, chunk, System.nanoTime() - startedAt)) // 사용량은 마지막 조각에만 있음
+				.doOnComplete(() -> {
+					onSuccess();
+					recordTime("amuse.llm.attempt", operation, SUCCESS, startedAt);
+					recordTime("amuse.llm.request", operation, SUCCESS, startedAt);
+				})
+				.doOnCancel(this::releaseProbe)
+				.doOnError(e -> {
+					failures.increment();
+					recordTime("amuse.llm.attempt", operation, cause(e), startedAt);
+					recordTime("amuse.llm.request", operation, FAILURE, startedAt);
+					if (isRetryable(e)) {
+						onUpstreamFailure();
+					} else {
+						releaseProbe();
+					}
+					log.warn("[{}] AI 스트리밍 실패: {}", operation, e.getMessage());
+				});
+	}
+
+	// 스트리밍 제한 시간 초과 (재시도 대상 - 호출 측에서 일반 호출로 재시도)
+	private LlmTimeoutException streamTimeout(String message, Duration limit) {
+		timeouts.increment();
+		return new LlmTimeoutException(message + " (" + limit.toMillis() + "ms)");
+	}
+
+	// 제한 시간 안에 호출 (초과 시 호출 스레드 중단 후 TimeoutException -> 재시도 대상)
+	private ChatResponse invoke(Prompt prompt, long timeoutNanos) {
+		if (timeoutNanos <= 0) {
+			timeouts.increment();
+			throw new LlmTimeoutException("AI 호출 전체 제한 시간 초과");
+		}
+		Future<ChatResponse> future = callExecutor.submit(() -> chatModel.call(prompt));
+		try {
+			return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			timeouts.increment();
+			throw new LlmTimeoutException("AI 응답 시간 초과 (" + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms)");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) throw re;
+			if (e.getCause() instanceof Error error) throw error; // JVM 오류는 공급자 장애가 아님 - 재시도/브레이커 제외
+			throw new TransientAiException("AI 호출 오류: " + e.getCause().getMessage(), e.getCause());
+		} catch (CancellationException e) {
+			throw new LlmTimeoutException("AI 호출이 취소되었습니다.");
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new NonTransientAiException("AI 호출 대기 중 요청이 중단되었습니다.");
+		}
+	}
+
+	// 재시도 가능 여부 : 시간 초과, 네트워크 오류, 일시적 공급자 오류(429/5xx - TransientAiException)
+	static boolean isRetryable(Throwable e) {
+		if (e instanceof NonTransientAiException) return false;
+		return e instanceof TransientAiException || e instanceof LlmTimeoutException
+				|| e instanceof ResourceAccessException || e instanceof TimeoutException || e instanceof IOException
+				|| (e.getCause() != null && e.getCause() != e && isRetryable(e.getCause()));
+	}
+
+	// 지수 백오프 + full jitter (다음 시도가 없거나 전체 제한 시간을 넘기면 false)
+	private boolean backoff(String operation, int attempt, int attempts, long deadlineAt) {
+		if (attempt >= attempts) return false;
+
+		long capMillis = Math.min(backoffMax.toMillis(), backoffInitial.toMillis() << Math.min(attempt - 1, 20));
+		long sleepMillis = ThreadLocalRandom.current().nextLong(capMillis + 1);
+		if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepMillis) >= deadlineAt) return false;
+
+		retries.increment();
+		Counter.builder("amuse.llm.retries").tag("operation", operation).register(meterRegistry).increment();
+		try {
+			phaseTracer.trace("llm.backoff", span -> {
+				span.tag("llm.backoff.millis", sleepMillis);
+				Thread.sleep(sleepMillis);
+				return null;
+			});
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	// 브레이커 확인 : OPEN 이면 바로 실패, open-duration 이 지났으면 1건만 시험 호출(HALF_OPEN) 허용
+	private synchronized void acquirePermission(String operation, long requestStartedAt) {
+		if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDuration.toNanos()) {
+			state = State.HALF_OPEN;
+			probeInFlight = false;
+		}
+		if (state == State.OPEN || (state == State.HALF_OPEN && probeInFlight)) {
+			shortCircuited.increment();
+			recordTime("amuse.llm.request", operation, SHORT_CIRCUIT, requestStartedAt);
+			log.debug("[{}] 서킷 브레이커 열림 - AI 호출 생략", operation);
+			throw new LlmUnavailableException(OPEN_MESSAGE, null);
+		}
+		if (state == State.HALF_OPEN) probeInFlight = true;
+	}
+
+	private synchronized void onSuccess() {
+		if (state != State.CLOSED) log.info("AI 공급자 응답 회복 - 서킷 브레이커 닫힘");
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		probeInFlight = false;
+	}
+
+	private synchronized void onUpstreamFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			if (state != State.OPEN) log.warn("AI 공급자 연속 실패 {}회 - 서킷 브레이커 열림 ({})", consecutiveFailures, openDuration);
+			state = State.OPEN;
+			openedAtNanos = System.nanoTime();
+			probeInFlight = false;
+		}
+	}
+
+	// 응답 메타데이터의 토큰 사용량 기록 (사용량이 없는 응답/스트리밍 조각은 무시)
+	// cached : 공급자 프롬프트 캐시에서 처리된 입력 토큰 (OpenAI prompt_tokens_details.cached_tokens)
+	private void recordUsage(String operation, ChatResponse response, long elapsedNanos) {
+		if (response == null || response.getMetadata() == null) return;
+		Usage usage = response.getMetadata().getUsage();
+		if (usage == null || usage.getPromptTokens() == null || usage.getPromptTokens() == 0) return;
+
+		long prompt = usage.getPromptTokens();
+		long completion = usage.getGenerationTokens() != null ? usage.getGenerationTokens() : 0L;
+		long cached = 0L;
+		if (usage instanceof OpenAiUsage openAiUsage && openAiUsage.getPromptTokensDetails() != null
+				&& openAiUsage.getPromptTokensDetails().cachedTokens() != null) {
+			cached = openAiUsage.getPromptTokensDetails().cachedTokens();
+		}
+
+		promptTokens.add(prompt);
+		cachedTokens.add(cached);
+		completionTokens.add(completion);
+		countTokens(operation, "prompt", prompt);
+		countTokens(operation, "cached", cached);
+		countTokens(operation, "completion", completion);
+		phaseTracer.tag("llm.tokens.prompt", prompt);
+		phaseTracer.tag("llm.tokens.cached", cached);
+		phaseTracer.tag("llm.tokens.completion", completion);
+		if (cached > 0) {
+			cachedCalls.increment();
+			cachedNanos.add(elapsedNanos);
+		} else {
+			uncachedCalls.increment();
+			uncachedNanos.add(elapsedNanos);
+		}
+		log.debug("[{}] 토큰 : 입력 {} (캐시 {}) / 출력 {}, {}ms", operation, prompt, cached, completion,
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+	}
+
+	private void countTokens(String operation, String type, long tokens) {
+		Counter.builder("amuse.llm.tokens").baseUnit("tokens").tags("operation", operation, "type", type)
+				.register(meterRegistry).increment(tokens);
+	}
+
+	private void recordTime(String name, String operation, String outcome, long startedAtNanos) {
+		Timer.builder(name).tags("operation", operation, "outcome", outcome).register(meterRegistry)
+				.record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+	}
+
+	// 프롬프트 크기 (모든 메세지 글자 수 합)
+	private void recordPromptSize(String operation, Prompt prompt) {
+		long chars = 0;
+		for (Message message : prompt.getInstructions()) {
+			if (message.getText() != null) chars += message.getText().length();
+		}
+		DistributionSummary.builder("amuse.llm.prompt.chars").baseUnit("chars").tag("operation", operation)
+				.register(meterRegistry).record(chars);
+	}
+
+	// 실패 원인 태그 : timeout / transient(네트워크, 429/5xx) / non_transient(400/401 등)
+	private static String cause(Throwable e) {
+		if (e instanceof LlmTimeoutException || e instanceof TimeoutException) return "timeout";
+		return isRetryable(e) ? "transient" : "non_transient";
+	}
+
+	private synchronized State breakerState() {
+		return state;
+	}
+
+	// 공급자 상태와 무관한 실패/취소 -> 시험 호출 자리만 반납
+	private synchronized void releaseProbe() {
+		probeInFlight = false;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		callExecutor.shutdownNow();
+	}
+
+	/** 게이트웨이 현재 지표
+	 * @return
+	 */
+	public synchronized Stats stats() {
+		return new Stats(state.name(), calls.sum(), retries.sum(), failures.sum(), timeouts.sum(), formatErrors.sum(),
+				shortCircuited.sum());
+	}
+
+	/** 게이트웨이 지표
+	 * @param breakerState   서킷 브레이커 상태 (CLOSED / OPEN / HALF_OPEN)
+	 * @param calls          실제 AI 호출 수 (재시도 포함)
+	 * @param retries        재시도 수
+	 * @param failures       최종 실패 수
+	 * @param timeouts       시간 초과 수
+	 * @param formatErrors   응답 형식 오류 수 (재호출 원인)
+	 * @param shortCircuited 브레이커가 열려 바로 실패한 수
+	 */
+	public record Stats(String breakerState, long calls, long retries, long failures, long timeouts,
+			long formatErrors, long shortCircuited) {
+	}
+
+	/** 토큰 사용량 지표
+	 * @return
+	 */
+	public TokenUsage tokenUsage() {
+		return new TokenUsage(promptTokens.sum(), cachedTokens.sum(), completionTokens.sum(),
+				averageMillis(cachedNanos.sum(), cachedCalls.sum()), averageMillis(uncachedNanos.sum(), uncachedCalls.sum()));
+	}
+
+	private long averageMillis(long nanos, long count) {
+		return count == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(nanos / count);
+	}
+
+	/** 토큰 사용량 지표 (누적)
+	 * @param promptTokens          입력 토큰 수
+	 * @param cachedTokens          입력 중 공급자 프롬프트 캐시로 처리된 토큰 수 (할인 과금)
+	 * @param completionTokens      출력 토큰 수
+	 * @param cachedCallAvgMillis   캐시가 적중한 호출의 평균 응답 시간
+	 * @param uncachedCallAvgMillis 캐시가 적중하지 않은 호출의 평균 응답 시간
+	 */
+	public record TokenUsage(long promptTokens, long cachedTokens, long completionTokens, long cachedCallAvgMillis,
+			long uncachedCallAvgMillis) {
+
+		/** 입력 토큰 중 캐시 적중 비율
+		 * @return
+		 */
+		public double cacheHitRatio() {
+			return promptTokens == 0 ? 0.0 : (double) cachedTokens / promptTokens;
+		}
+	}
+
+	/** 게이트웨이 설정 (amuse.llm.*)
+	 * @param attemptTimeout    호출 1회 제한 시간
+	 * @param deadline          재시도 포함 전체 제한 시간 (스트리밍은 스트림 전체)
+	 * @param streamIdleTimeout 스트리밍 조각 사이 최대 대기 시간 (첫 조각 포함)
+	 * @param maxAttempts       최대 시도 수
+	 * @param backoffInitial    첫 재시도 대기 상한 (이후 2배씩)
+	 * @param backoffMax        재시도 대기 최대 상한
+	 * @param failureThreshold  서킷 브레이커가 열리는 연속 실패 수
+	 * @param openDuration      서킷 브레이커가 열려 있는 시간
+	 * @param virtualThreads    호출 실행기에 가상 스레드 사용 (spring.threads.virtual.enabled)
+	 */
+	public record Settings(Duration attemptTimeout, Duration deadline, Duration streamIdleTimeout, int maxAttempts,
+			Duration backoffInitial, Duration backoffMax, int failureThreshold, Duration openDuration,
+			boolean virtualThreads) {
+
+		/** 설정 파일에 값이 없을 때와 같은 기본값 */
+		public static Settings defaults() {
+			return new Settings(Duration.ofSeconds(60), Duration.ofSeconds(90), Duration.ofSeconds(30), 3,
+					Duration.ofMillis(300), Duration.ofSeconds(4), 5, Duration.ofSeconds(30), false);
+		}
+
+		public Settings withTimeouts(Duration attemptTimeout, Duration deadline) {
+			return new Settings(attemptTimeout, deadline, streamIdleTimeout, maxAttempts, backoffInitial, backoffMax,
+					failureThreshold, openDuration, virtualThreads);
+		}
+
+		public Settings withStreamIdleTimeout(Duration streamIdleTimeout) {
+			return new Settings(attemptTimeout, deadline, streamIdleTimeout, maxAttempts, backoffInitial, backoffMax,
+					failureThreshold, openDuration, virtualThreads);
+		}
+
+		public Settings withMaxAttempts(int maxAttempts) {
+			return new Settings(attemptTimeout, deadline, streamIdleTimeout, maxAttempts, backoffInitial, backoffMax,
+					failureThreshold, openDuration, virtualThreads);
+		}
+
+		public Settings withBackoff(Duration backoffInitial, Duration backoffMax) {
+			return new Settings(attemptTimeout, deadline, streamIdleTimeout, maxAttempts, backoffInitial, backoffMax,
+					failureThreshold, openDuration, virtualThreads);
+		}
+
+		public Settings withBreaker(int failureThreshold, Duration openDuration) {
+			return new Settings(attemptTimeout, deadline, streamIdleTimeout, maxAttempts, backoffInitial, backoffMax,
+					failureThreshold, openDuration, virtualThreads);
+		}
+
+		public Settings withVirtualThreads(boolean virtualThreads) {
+			return new Settings(attemptTimeout, deadline, streamIdleTimeout, maxAttempts, backoffInitial, backoffMax,
+					failureThreshold, openDuration, virtualThreads);
+		}
+	}
+
+	/** 호출 시간 초과 (재시도 대상) */
+	public static class LlmTimeoutException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public LlmTimeoutException(String message) {
+			super(message);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.muse.amuze.common.ai;
+
+/**
+ * AI 호출 최종 실패 (재시도 소진, 전체 제한 시간 초과, 서킷 브레이커 열림)
+ * - 메세지는 사용자에게 그대로 보여줄 수 있는 문구
+ */
+public class LlmUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public LlmUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,98 @@
+package com.muse.amuze.common.ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 미리 파싱된 프롬프트 템플릿
+ * - 원문을 한 번만 "고정 문자열 / {{placeholder}}" 조각으로 분리해 두고
+ * - render() 시 조각을 순서대로 한 번만 이어 붙임 (String.replace 체인처럼 전체 프롬프트를 여러 번 복사하지 않음)
+ */
+public final class PromptTemplate {
+
+	private static final String OPEN = "{{";
+	private static final String CLOSE = "}}";
+
+	private final String name;
+	private final String[] literals; // 조각 i 의 고정 문자열 (placeholder 앞)
+	private final String[] keys; // 조각 i 의 placeholder 이름 (마지막 조각은 null)
+	private final int literalLength; // 고정 문자열 총 길이 (StringBuilder 초기 크기 계산용)
+	private final Set<String> placeholders;
+
+	private PromptTemplate(String name, List<String> literals, List<String> keys) {
+		this.name = name;
+		this.literals = literals.toArray(String[]::new);
+		this.keys = keys.toArray(String[]::new);
+		this.literalLength = literals.stream().mapToInt(String::length).sum();
+
+		Set<String> names = new LinkedHashSet<>();
+		for (String key : keys) {
+			if (key != null) names.add(key);
+		}
+		this.placeholders = Collections.unmodifiableSet(names);
+	}
+
+	/** 템플릿 원문 파싱
+	 * @param name : 템플릿 이름 (오류 메세지용)
+	 * @param text : 템플릿 원문
+	 * @return
+	 */
+	public static PromptTemplate parse(String name, String text) {
+		List<String> literals = new ArrayList<>();
+		List<String> keys = new ArrayList<>();
+
+		int cursor = 0;
+		while (true) {
+			int open = text.indexOf(OPEN, cursor);
+			int close = open == -1 ? -1 : text.indexOf(CLOSE, open + OPEN.length());
+			if (open == -1 || close == -1) {
+				literals.add(text.substring(cursor));
+				keys.add(null);
+				break;
+			}
+			literals.add(text.substring(cursor, open));
+			keys.add(text.substring(open + OPEN.length(), close).trim());
+			cursor = close + CLOSE.length();
+		}
+
+		return new PromptTemplate(name, literals, keys);
+	}
+
+	/** 템플릿 렌더링 (단일 패스)
+	 * @param values : placeholder 이름 -> 값 (누락 시 예외)
+	 * @return
+	 */
+	public String render(Map<String, ?> values) {
+		int capacity = literalLength;
+		for (String key : keys) {
+			if (key == null) continue;
+			Object value = values.get(key);
+			if (value == null) {
+				throw new IllegalArgumentException("프롬프트 템플릿 [" + name + "] 값 누락: {{" + key + "}}");
+			}
+			capacity += String.valueOf(value).length();
+		}
+
+		StringBuilder sb = new StringBuilder(capacity);
+		for (int i = 0; i < literals.length; i++) {
+			sb.append(literals[i]);
+			if (keys[i] != null) sb.append(values.get(keys[i]));
+		}
+		return sb.toString();
+	}
+
+	/** 템플릿에 포함된 placeholder 이름 목록
+	 * @return
+	 */
+	public Set<String> getPlaceholders() {
+		return placeholders;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
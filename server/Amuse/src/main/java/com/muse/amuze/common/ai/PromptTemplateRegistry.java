@@ -0,0 +1,133 @@
+package com.muse.amuze.common.ai;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * classpath:prompts/*.txt 프롬프트 템플릿 저장소
+ * - 시작 시 한 번 읽어서 PromptTemplate 으로 파싱해 둠 (요청마다 파일을 다시 읽지 않음)
+ * - require() : 사용하는 쪽이 제공할 값 목록을 등록 -> 템플릿에 제공되지 않는 {{placeholder}}가 있으면 부팅 실패
+ * - amuse.prompt.reload-enabled=true (개발용) 이면 파일 변경 시 다시 읽음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PromptTemplateRegistry {
+
+	private static final String LOCATION = "classpath*:prompts/*.txt";
+	private static final long RELOAD_CHECK_MILLIS = 1000L; // 파일 변경 확인 주기
+
+	private final ResourcePatternResolver resourcePatternResolver;
+
+	@Value("${amuse.prompt.reload-enabled:false}")
+	private boolean reloadEnabled;
+
+	private final Map<String, Entry> templates = new ConcurrentHashMap<>();
+	private final Map<String, Set<String>> suppliedKeys = new ConcurrentHashMap<>();
+
+	private record Entry(PromptTemplate template, Resource resource, long lastModified, long checkedAt) {
+	}
+
+	@PostConstruct
+	public void init() throws IOException {
+		for (Resource resource : resourcePatternResolver.getResources(LOCATION)) {
+			String filename = resource.getFilename();
+			if (filename == null) continue;
+			String name = filename.substring(0, filename.lastIndexOf('.'));
+			templates.put(name, load(name, resource));
+		}
+		log.info("프롬프트 템플릿 {}개 로드: {}", templates.size(), templates.keySet());
+	}
+
+	/** 템플릿 사용 등록 + 검증 (부팅 시 호출)
+	 * @param name : 템플릿 이름 (파일명에서 .txt 제외)
+	 * @param keys : 사용하는 쪽에서 제공하는 placeholder 이름
+	 * @return
+	 */
+	public PromptTemplate require(String name, String... keys) {
+		Set<String> supplied = new HashSet<>(Arrays.asList(keys));
+		PromptTemplate template = get(name);
+		validate(template, supplied);
+		suppliedKeys.merge(name, supplied, (a, b) -> {
+			Set<String> merged = new HashSet<>(a);
+			merged.retainAll(b); // 여러 곳에서 쓰면 모두가 제공하는 값만 허용
+			return merged;
+		});
+		return template;
+	}
+
+	/** 템플릿 조회 (개발 모드에서는 파일 변경 시 다시 읽음)
+	 * @param name
+	 * @return
+	 */
+	public PromptTemplate get(String name) {
+		Entry entry = templates.get(name);
+		if (entry == null) {
+			throw new IllegalStateException("프롬프트 템플릿을 찾을 수 없습니다: prompts/" + name + ".txt");
+		}
+		if (reloadEnabled) {
+			entry = reloadIfChanged(name, entry);
+		}
+		return entry.template();
+	}
+
+	private Entry reloadIfChanged(String name, Entry entry) {
+		long now = System.currentTimeMillis();
+		if (now - entry.checkedAt() < RELOAD_CHECK_MILLIS) return entry;
+
+		try {
+			long lastModified = entry.resource().lastModified();
+			if (lastModified == entry.lastModified()) {
+				Entry checked = new Entry(entry.template(), entry.resource(), lastModified, now);
+				templates.put(name, checked);
+				return checked;
+			}
+
+			Entry reloaded = load(name, entry.resource());
+			Set<String> supplied = suppliedKeys.get(name);
+			if (supplied != null) validate(reloaded.template(), supplied);
+			templates.put(name, reloaded);
+			log.info("프롬프트 템플릿 다시 읽음: {}", name);
+			return reloaded;
+		} catch (IOException | IllegalStateException e) {
+			log.error("프롬프트 템플릿 [{}] 다시 읽기 실패 - 기존 템플릿 유지: {}", name, e.getMessage());
+			Entry kept = new Entry(entry.template(), entry.resource(), entry.lastModified(), now);
+			templates.put(name, kept);
+			return kept;
+		}
+	}
+
+	private Entry load(String name, Resource resource) throws IOException {
+		String text = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+		long lastModified;
+		try {
+			lastModified = resource.lastModified();
+		} catch (IOException e) {
+			lastModified = 0L; // jar 내부 등 수정시간을 알 수 없는 경우
+		}
+		return new Entry(PromptTemplate.parse(name, text), resource, lastModified, System.currentTimeMillis());
+	}
+
+	private void validate(PromptTemplate template, Set<String> supplied) {
+		Set<String> missing = new HashSet<>(template.getPlaceholders());
+		missing.removeAll(supplied);
+		if (!missing.isEmpty()) {
+			throw new IllegalStateException("프롬프트 템플릿 [" + template.getName() + "]에 제공되지 않는 값이 있습니다: " + missing);
+		}
+	}
+}
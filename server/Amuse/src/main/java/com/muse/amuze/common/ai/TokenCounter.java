@@ -0,0 +1,38 @@
+package com.muse.amuze.common.ai;
+
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.stereotype.Component;
+
+import com.knuddels.jtokkit.api.EncodingType;
+
+/**
+ * 프롬프트 토큰 수 추정기
+ * - gpt-4o 계열 BPE 사전(o200k_base) 사용 : 한글이 음절 단위로 잘게 쪼개지던 cl100k 보다 실제 과금 토큰에 가까움
+ *   (글자 수 / 4 같은 영어 기준 추정은 한글 본문에서 2~3배까지 어긋남)
+ * - 메세지는 본문 + 역할/구분자 오버헤드(MESSAGE_OVERHEAD)로 계산
+ */
+@Component
+public class TokenCounter {
+
+	public static final int MESSAGE_OVERHEAD = 4; // 메세지당 역할/구분자 토큰 (OpenAI chat 형식)
+
+	private final TokenCountEstimator estimator = new JTokkitTokenCountEstimator(EncodingType.O200K_BASE);
+
+	/** 텍스트 토큰 수
+	 * @param text
+	 * @return
+	 */
+	public int count(String text) {
+		return text == null || text.isEmpty() ? 0 : estimator.estimate(text);
+	}
+
+	/** 메세지 토큰 수 (오버헤드 포함)
+	 * @param message
+	 * @return
+	 */
+	public int count(Message message) {
+		return count(message.getText()) + MESSAGE_OVERHEAD;
+	}
+}
@@ -10,8 +10,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.muse.amuze.common.file.ImageController;
+import com.muse.amuze.user.model.entity.User;
 import com.muse.amuze.user.model.service.AuthService;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,8 +30,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	// 실제 검사 로직)
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtPrincipalCache jwtPrincipalCache;
 	private final AuthService authService;
 
+	// 공개 이미지(/images/**)는 토큰 검사 생략
+	// (@Component 라 서블릿 필터로도 자동 등록되어 이미지 전용 보안 체인과 별개로 한 번 더 실행됨)
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return request.getRequestURI().startsWith(request.getContextPath() + ImageController.PATH);
+	}
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
@@ -37,23 +48,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String token = resolveToken(request);
 
 		// 2. 토큰이 유효하면 사용자 정보를 시큐리티 컨텍스트에 저장
-		if (token != null && jwtTokenProvider.validateToken(token)) {
-			String email = jwtTokenProvider.getEmail(token);
-
-			// DB에서 사용자 정보와 권한을 포함한 UserDetails 객체를 가져옵니다.
-			UserDetails userDetails = authService.loadUserByUsername(email);
-
-			// 유저 인증 객체 생성 (이때 권한 정보를 함께 넣을 수 있음)
-			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
-					Collections.emptyList());
-		
-			// 시큐리티 저장소에 이 사람 인증되었다고 기록
-			SecurityContextHolder.getContext().setAuthentication(authentication); // Principal, 사용자의 이메일이 name 역할을 함
+		if (token != null) {
+			UserDetails userDetails = resolveUser(token);
+
+			if (userDetails != null) {
+				// 유저 인증 객체 생성 (이때 권한 정보를 함께 넣을 수 있음)
+				UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails,
+						null, Collections.emptyList());
+
+				// 시큐리티 저장소에 이 사람 인증되었다고 기록
+				SecurityContextHolder.getContext().setAuthentication(authentication); // Principal, 사용자의 이메일이 name 역할을 함
+			}
 		}
 
 		filterChain.doFilter(request, response);
 	}
 
+	// 토큰 -> 사용자 정보 (캐시 -> 토큰 Claims -> DB 순서, 유효하지 않은 토큰이면 null)
+	private UserDetails resolveUser(String token) {
+		User cached = jwtPrincipalCache.get(token);
+		if (cached != null) return cached;
+
+		// 서명 검증 + 파싱 1회
+		Claims claims = jwtTokenProvider.parseClaims(token);
+		if (claims == null) return null;
+
+		User user;
+		Integer userId = jwtTokenProvider.getUserId(claims);
+		if (userId != null) {
+			// 토큰에 담긴 사용자 정보로 구성 (DB 조회 없음)
+			user = User.builder().id(userId).email(claims.getSubject()).role(jwtTokenProvider.getRole(claims))
+					.nickname(jwtTokenProvider.getNickname(claims)).build();
+		} else {
+			// 사용자 정보가 없는 이전 형식 토큰 -> DB에서 사용자 정보와 권한을 포함한 UserDetails 객체를 가져옵니다.
+			user = (User) authService.loadUserByUsername(claims.getSubject());
+		}
+
+		jwtPrincipalCache.put(token, user, claims.getExpiration().getTime());
+		return user;
+	}
+
 	// AccessToken이 진짜인지, 그리고 누구인지 검사
 	private String resolveToken(HttpServletRequest request) {
 		String bearerToken = request.getHeader("Authorization");
@@ -62,4 +96,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		}
 		return null;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.muse.amuze.common.auth;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.muse.amuze.user.model.entity.User;
+
+/**
+ * 인증된 토큰 -> 사용자 정보 캐시 (짧은 TTL)
+ * - 같은 토큰으로 연속 요청(이미지 묶음 요청 등) 시 서명 검증/파싱/DB 조회를 생략
+ * - 토큰 만료 시각이 TTL 보다 이르면 만료 시각까지만 사용
+ * - 로그아웃/사용자 정보 변경 시 evictUser() 로 해당 사용자의 항목 제거
+ */
+@Component
+public class JwtPrincipalCache {
+
+	private record Entry(User user, long expiresAtMillis) {
+	}
+
+	private final Cache<String, Entry> cache;
+
+	public JwtPrincipalCache(@Value("${amuse.auth.principal-cache.max-size:10000}") long maxSize,
+			@Value("${amuse.auth.principal-cache.ttl:60s}") Duration ttl) {
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+	}
+
+	/** 토큰으로 캐시된 사용자 조회 (없거나 토큰이 만료되었으면 null)
+	 * @param token
+	 * @return
+	 */
+	public User get(String token) {
+		Entry entry = cache.getIfPresent(token);
+		if (entry == null) return null;
+		if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+			cache.invalidate(token);
+			return null;
+		}
+		return entry.user();
+	}
+
+	/** 검증된 토큰의 사용자 저장
+	 * @param token
+	 * @param user
+	 * @param expiresAtMillis : 토큰 만료 시각
+	 */
+	public void put(String token, User user, long expiresAtMillis) {
+		cache.put(token, new Entry(user, expiresAtMillis));
+	}
+
+	/** 사용자의 모든 토큰 항목 제거 (로그아웃/정보 변경)
+	 * @param email
+	 */
+	public void evictUser(String email) {
+		cache.asMap().values().removeIf(entry -> email.equals(entry.user().getEmail()));
+	}
+
+	/** 캐시 지표 (적중률 등)
+	 * @return
+	 */
+	public Stats stats() {
+		CacheStats s = cache.stats();
+		return new Stats(cache.estimatedSize(), s.hitCount(), s.missCount(), s.hitRate());
+	}
+
+	public record Stats(long size, long hits, long misses, double hitRatio) {
+	}
+}
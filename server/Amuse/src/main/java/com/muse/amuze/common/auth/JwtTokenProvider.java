@@ -9,7 +9,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -24,8 +26,11 @@ public class JwtTokenProvider { 	// 토큰을 발행하고 내용을 확인함.
     private String secretKey;
     
     private static final String ROLE_KEY = "role";
+    private static final String USER_ID_KEY = "uid";
+    private static final String NICKNAME_KEY = "nickname";
 
     private SecretKey key;
+    private JwtParser parser; // 스레드 안전 - 한 번 만들어 재사용
 
     // 만료 시간 설정 (밀리초 단위)
     //private final long accessTokenValidity = 1000L * 60 * 60; // 1시간
@@ -36,16 +41,19 @@ public class JwtTokenProvider { 	// 토큰을 발행하고 내용을 확인함.
     protected void init() {
         // 비밀키를 HMAC-SHA 알고리즘에 적합한 형태로 변환
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
-    // AccessToken 생성
-    public String createAccessToken(String email, String role) {
+    // AccessToken 생성 - 인증 필터가 DB 조회 없이 사용자 정보를 만들 수 있도록 id/권한/닉네임 포함
+    public String createAccessToken(Integer userId, String email, String role, String nickname) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidity);
 
         return Jwts.builder()
                 .subject(email)                 // 기존 setSubject()
                 .claim(ROLE_KEY, role)            // 그대로 claim()
+                .claim(USER_ID_KEY, userId)
+                .claim(NICKNAME_KEY, nickname)
                 .issuedAt(now)                  // 기존 setIssuedAt()
                 .expiration(validity)            // 기존 setExpiration()
                 .signWith(key)                  // 알고리즘 생략 가능 (key 객체에 정보가 포함됨)
@@ -65,22 +73,40 @@ public class JwtTokenProvider { 	// 토큰을 발행하고 내용을 확인함.
                 .compact();
     }
 
-    // 토큰 유효성 검사
-    public boolean validateToken(String token) {
+    // 토큰 검증 + Claims 추출 (서명 검증/파싱 1회) - 유효하지 않으면 null
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             log.error("잘못된 JWT 토큰입니다: {}", e.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    // 토큰 유효성 검사
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
     }
 
     // 토큰에서 이메일(Subject) 추출
     public String getEmail(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
+
+    // Claims 에서 사용자 id 추출 (이전 형식 토큰이면 null)
+    public Integer getUserId(Claims claims) {
+        return claims.get(USER_ID_KEY, Integer.class);
+    }
+
+    // Claims 에서 닉네임 추출 (이전 형식 토큰이면 null)
+    public String getNickname(Claims claims) {
+        return claims.get(NICKNAME_KEY, String.class);
+    }
+
+    // Claims 에서 권한 추출
+    public String getRole(Claims claims) {
+        return claims.get(ROLE_KEY, String.class);
+    }
 }
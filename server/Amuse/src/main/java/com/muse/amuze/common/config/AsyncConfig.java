@@ -1,10 +1,59 @@
 package com.muse.amuze.common.config;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+	// 동시에 실행할 요약(AI) 작업 수 - 대화형 장면 생성과 AI 호출량을 나눠 쓰도록 작게 유지
+	@Value("${amuse.summary.pool-size:2}")
+	private int summaryPoolSize;
+
+	// 대기열 최대 크기 - 초과 시 요청 거절(AbortPolicy) 후 SummaryScheduler 에서 집계
+	@Value("${amuse.summary.queue-capacity:100}")
+	private int summaryQueueCapacity;
+
+	// 이미지 축소본 생성 (CPU 작업) - 동시 생성 수 / 대기열 최대 크기 (초과 시 버리고 다음 요청 때 다시 시도)
+	@Value("${amuse.image.pool-size:2}")
+	private int imagePoolSize;
+
+	@Value("${amuse.image.queue-capacity:200}")
+	private int imageQueueCapacity;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreadsEnabled;
+
+	/** 줄거리 요약 전용 실행기 (bounded queue)
+	 * - 종료 처리(대기 작업 마무리)는 SummaryScheduler 에서 담당
+	 * @return
+	 */
+	@Bean(name = "summaryExecutor", destroyMethod = "shutdownNow")
+	public ThreadPoolExecutor summaryExecutor() {
+		ThreadFactory threadFactory = virtualThreadsEnabled
+				? Thread.ofVirtual().name("summary-", 1).factory()
+				: new CustomizableThreadFactory("summary-");
+
+		return new ThreadPoolExecutor(summaryPoolSize, summaryPoolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(summaryQueueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/** 이미지 축소본 생성 전용 실행기 (bounded queue, CPU 작업이라 가상 스레드를 쓰지 않음)
+	 * @return
+	 */
+	@Bean(name = "imageExecutor", destroyMethod = "shutdownNow")
+	public ThreadPoolExecutor imageExecutor() {
+		return new ThreadPoolExecutor(imagePoolSize, imagePoolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(imageQueueCapacity), new CustomizableThreadFactory("image-"),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
 }
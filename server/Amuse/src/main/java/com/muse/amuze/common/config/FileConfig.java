@@ -8,14 +8,12 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.support.StandardServletMultipartResolver;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import jakarta.servlet.MultipartConfigElement;
 
 @Configuration
 @PropertySource("classpath:/config.properties")
-public class FileConfig implements WebMvcConfigurer{
+public class FileConfig {
 	
 	@Value("${spring.servlet.multipart.file-size-threshold}")
 	private long fileSizeThreshold;
@@ -29,40 +27,7 @@ public class FileConfig implements WebMvcConfigurer{
 	@Value("${spring.servlet.multipart.max-file-size}")
 	private long maxFileSize;
 	
-	// 프로필 이미지 관련 경로
-	@Value("${amuse.profile.resource-handler}")
-	private String profileResourceHandler;
-	
-	@Value("${amuse.profile.resource-location}")
-	private String profileResourceLocation;
-	
-	// 소설커버 이미지 관련 경로
-	@Value("${amuse.novel.resource-handler}")
-	private String novelResourceHandler;
-	
-	@Value("${amuse.novel.resource-location}")
-	private String novelResourceLocation;
-	
-	// 캐릭터 프로필 이미지 관련 경로
-	@Value("${amuse.char.resource-handler}")
-	private String charResourceHandler;
-	
-	@Value("${amuse.char.resource-location}")
-	private String charResourceLocation;
-	
-	@Override
-	public void addResourceHandlers(ResourceHandlerRegistry registry) {
-		
-		registry.addResourceHandler(profileResourceHandler)
-		.addResourceLocations(profileResourceLocation);
-		
-		registry.addResourceHandler(novelResourceHandler)
-		.addResourceLocations(novelResourceLocation);
-		
-		registry.addResourceHandler(charResourceHandler)
-		.addResourceLocations(charResourceLocation);
-		
-	}
+	// 업로드 이미지 제공(/images/**)은 ImageController 에서 담당 (캐시 헤더, ETag, sendfile)
 	
 	// MultipartResolver 설정
 	@Bean
@@ -0,0 +1,129 @@
+package com.muse.amuze.common.config;
+
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.muse.amuze.common.auth.JwtPrincipalCache;
+import com.muse.amuze.common.file.BlobStore;
+import com.muse.amuze.common.file.ImageVariants;
+import com.muse.amuze.novel.model.service.AiSceneParser;
+import com.muse.amuze.novel.model.service.ContextPacker;
+import com.muse.amuze.novel.model.service.NovelContextCache;
+import com.muse.amuze.novel.model.service.NovelStatsCounter;
+import com.muse.amuze.novel.model.service.SceneGenerationGate;
+import com.muse.amuze.novel.model.service.SummaryScheduler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 운영 지표 등록 (/actuator/prometheus)
+ * - 각 컴포넌트가 LongAdder 로 누적하는 stats() 값을 수집 시점에 읽어 Micrometer 지표로 노출 (요청 경로 추가 비용 없음)
+ *   누적값은 FunctionCounter, 현재값(대기열 길이, 캐시 크기 등)은 Gauge
+ * - 호출 단위 지표(AI 호출 시간/토큰/프롬프트 크기, DB 구간 시간)는 LlmGateway, NovelServiceImpl, SummaryServiceImpl 에서 직접 기록
+ * - 엔드포인트별 응답 시간은 Spring Boot 기본 http.server.requests (히스토그램/백분위는 application.properties)
+ */
+@Configuration
+public class MetricsConfig {
+
+	/** 줄거리 요약 스케줄러 (대기열 길이, 실행 중 수, 요청/실행 결과)
+	 * @param scheduler
+	 * @return
+	 */
+	@Bean
+	public MeterBinder summarySchedulerMetrics(SummaryScheduler scheduler) {
+		return registry -> {
+			gauge(registry, "amuse.summary.queue.depth", scheduler, s -> s.stats().queueDepth());
+			gauge(registry, "amuse.summary.active", scheduler, s -> s.stats().active());
+			counter(registry, "amuse.summary.requests", scheduler, s -> s.stats().submitted(), "result", "submitted");
+			counter(registry, "amuse.summary.requests", scheduler, s -> s.stats().coalesced(), "result", "coalesced");
+			counter(registry, "amuse.summary.requests", scheduler, s -> s.stats().rejected(), "result", "rejected");
+			counter(registry, "amuse.summary.runs", scheduler, s -> s.stats().completed(), "result", "completed");
+			counter(registry, "amuse.summary.runs", scheduler, s -> s.stats().failures(), "result", "failed");
+			gauge(registry, "amuse.summary.run.max.millis", scheduler, s -> s.stats().maxRunMillis());
+		};
+	}
+
+	/** 장면 생성 컨텍스트 캐시 / 인증 정보 캐시
+	 * @param contextCache
+	 * @param principalCache
+	 * @return
+	 */
+	@Bean
+	public MeterBinder cacheMetrics(NovelContextCache contextCache, JwtPrincipalCache principalCache) {
+		return registry -> {
+			gauge(registry, "amuse.context.cache.size", contextCache, c -> c.stats().size());
+			counter(registry, "amuse.context.cache.requests", contextCache, c -> c.stats().hits(), "result", "hit");
+			counter(registry, "amuse.context.cache.requests", contextCache, c -> c.stats().misses(), "result", "miss");
+			counter(registry, "amuse.context.cache.evictions", contextCache, c -> c.stats().evictions());
+
+			gauge(registry, "amuse.auth.principal.cache.size", principalCache, c -> c.stats().size());
+			counter(registry, "amuse.auth.principal.cache.requests", principalCache, c -> c.stats().hits(), "result", "hit");
+			counter(registry, "amuse.auth.principal.cache.requests", principalCache, c -> c.stats().misses(), "result", "miss");
+		};
+	}
+
+	/** 장면 생성 파이프라인 (단일 실행 관문, 응답 파서, 컨텍스트 패커, 조회수/좋아요 누적기)
+	 * @param gate
+	 * @param parser
+	 * @param packer
+	 * @param statsCounter
+	 * @return
+	 */
+	@Bean
+	public MeterBinder sceneGenerationMetrics(SceneGenerationGate gate, AiSceneParser parser, ContextPacker packer,
+			NovelStatsCounter statsCounter) {
+		return registry -> {
+			gauge(registry, "amuse.generation.active.novels", gate, g -> g.stats().activeNovels());
+			counter(registry, "amuse.generation.requests", gate, g -> g.stats().started(), "result", "started");
+			counter(registry, "amuse.generation.requests", gate, g -> g.stats().joined(), "result", "joined");
+
+			counter(registry, "amuse.llm.scene.parsed", parser, p -> p.stats().parsed());
+			counter(registry, "amuse.llm.scene.malformed", parser, p -> p.stats().malformed());
+			counter(registry, "amuse.llm.scene.repairs", parser, p -> p.stats().repairs());
+
+			counter(registry, "amuse.context.packs", packer, p -> p.stats().packs());
+			counter(registry, "amuse.context.packs.over.budget", packer, p -> p.stats().overBudget());
+			gauge(registry, "amuse.context.packed.tokens.avg", packer, p -> p.stats().averageTokens());
+			gauge(registry, "amuse.context.packed.tokens.max", packer, p -> p.stats().maxTokens());
+
+			gauge(registry, "amuse.novel.stats.tracked", statsCounter, c -> c.stats().trackedNovels());
+			counter(registry, "amuse.novel.stats.flushed.rows", statsCounter, c -> c.stats().flushedRows());
+			counter(registry, "amuse.novel.stats.flush.failures", statsCounter, c -> c.stats().flushFailures());
+		};
+	}
+
+	/** 업로드 이미지 저장소 (새로 저장/중복 생략, 저장 바이트, 정리한 파일) / 축소본 생성
+	 * @param blobStore
+	 * @param imageVariants
+	 * @return
+	 */
+	@Bean
+	public MeterBinder blobStoreMetrics(BlobStore blobStore, ImageVariants imageVariants) {
+		return registry -> {
+			counter(registry, "amuse.blob.uploads", blobStore, b -> b.stats().stored(), "result", "stored");
+			counter(registry, "amuse.blob.uploads", blobStore, b -> b.stats().deduplicated(), "result", "deduplicated");
+			counter(registry, "amuse.blob.written.bytes", blobStore, b -> b.stats().bytesWritten());
+			counter(registry, "amuse.blob.swept", blobStore, b -> b.stats().swept());
+
+			gauge(registry, "amuse.image.variant.queue.depth", imageVariants, v -> v.stats().queueDepth());
+			counter(registry, "amuse.image.variants", imageVariants, v -> v.stats().generated(), "result", "generated");
+			counter(registry, "amuse.image.variants", imageVariants, v -> v.stats().rejected(), "result", "rejected");
+			counter(registry, "amuse.image.variants", imageVariants, v -> v.stats().failures(), "result", "failed");
+			counter(registry, "amuse.image.variant.backfills", imageVariants, v -> v.stats().backfills());
+		};
+	}
+
+	private static <T> void gauge(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value) {
+		Gauge.builder(name, target, value).register(registry);
+	}
+
+	private static <T> void counter(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value,
+			String... tags) {
+		FunctionCounter.builder(name, target, value).tags(tags).register(registry);
+	}
+}
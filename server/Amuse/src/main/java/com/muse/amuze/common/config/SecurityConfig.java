@@ -2,6 +2,7 @@ package com.muse.amuze.common.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -11,6 +12,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.muse.amuze.common.auth.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -21,6 +23,26 @@ public class SecurityConfig {
 	
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+	/** 업로드 이미지 전용 체인 (/images/**) - 공개 이미지라 인증/세션/요청 캐시 없이 통과
+	 * - 기본 보안 헤더의 Cache-Control: no-cache, no-store 를 끔 (ImageController 가 immutable/ETag 캐시 헤더를 직접 지정)
+	 * @param http
+	 * @return
+	 * @throws Exception
+	 */
+	@Bean
+	@Order(1)
+	public SecurityFilterChain imageFilterChain(HttpSecurity http) throws Exception {
+		http
+			.securityMatcher("/images/**")
+			.csrf(AbstractHttpConfigurer::disable)
+			.requestCache(AbstractHttpConfigurer::disable)
+			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+			.headers(headers -> headers.cacheControl(cache -> cache.disable()))
+			.authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+		return http.build();
+	}
+
 	@Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -29,7 +51,13 @@ public class SecurityConfig {
             .cors(cors -> {}) 
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/error", "/images/**").permitAll() 
+                // SSE(비동기) 응답 완료 시 재진입하는 ASYNC 디스패치는 이미 인증된 요청이므로 통과
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/error").permitAll()
+                // 헬스 체크 / Prometheus 수집 (운영 환경에서는 네트워크 단에서 내부 대역만 허용)
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                // 그 외 관리 엔드포인트(spans, metrics 등)는 관리자만 - 모든 사용자의 추적 정보(소설 id, 오류 메세지 등)가 담김
+                .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                 .requestMatchers("/api/novel/**").authenticated()
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,72 @@
+package com.muse.amuze.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 모드 설정 (opt-in : spring.profiles.active=virtual -> application-virtual.properties)
+ * - spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리, @Async(applicationTaskExecutor),
+ *   그리고 요청 스레드에서 실행되는 AI(OpenAI) 블로킹 호출까지 모두 가상 스레드에서 실행됨
+ * - 가상 스레드가 캐리어 스레드에 고정(pinning)되는 구간(synchronized 내부 블로킹, 네이티브 호출 등)을
+ *   JFR 이벤트(jdk.VirtualThreadPinned)로 감시하여 로그로 보고
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int REPORT_FRAMES = 8; // 로그에 남길 스택 프레임 수
+
+	@Value("${amuse.virtual-thread.pinning-threshold:20ms}")
+	private Duration pinningThreshold;
+
+	private final LongAdder pinnedCount = new LongAdder();
+
+	/** pinning 감지 JFR 스트림
+	 * @return
+	 */
+	@Bean(destroyMethod = "close")
+	public RecordingStream virtualThreadPinningRecorder() {
+		RecordingStream stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(pinningThreshold).withStackTrace();
+		stream.onEvent(PINNED_EVENT, event -> {
+			pinnedCount.increment();
+			log.warn("가상 스레드 pinning 감지 ({}ms, 누적 {}회)\n{}", event.getDuration().toMillis(), pinnedCount.sum(),
+					formatStackTrace(event.getStackTrace()));
+		});
+		stream.startAsync();
+
+		log.info("가상 스레드 모드 활성화 - pinning 감시 임계값: {}ms", pinningThreshold.toMillis());
+		return stream;
+	}
+
+	/** 지금까지 감지된 pinning 횟수
+	 * @return
+	 */
+	public long getPinnedCount() {
+		return pinnedCount.sum();
+	}
+
+	// 상위 프레임만 추려서 출력 (synchronized 블록 위치 파악용)
+	private String formatStackTrace(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) return "\t(스택 정보 없음)";
+		List<RecordedFrame> frames = stackTrace.getFrames();
+		return frames.stream().limit(REPORT_FRAMES)
+				.map(f -> "\tat " + f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+				.collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,272 @@
+package com.muse.amuze.common.file;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지 저장소 (소설 커버, 캐릭터 프로필, 사용자 프로필 공통)
+ * - 파일 이름 = 내용의 SHA-256 -> 같은 이미지는 한 번만 저장 (중복 제거), 이름 충돌 없음
+ * - 경로는 해시 앞 4자리로 2단계 분산 (ab/cd/{hash}.png) - 한 폴더에 파일이 몰리지 않도록
+ * - 업로드를 읽으면서 해시 계산 + FileChannel 로 임시 파일에 기록 -> 완성된 파일만 원자적 이름 변경으로 공개
+ * - 내용 앞부분으로 판별한 이미지 형식(png, jpg, gif, webp)만 저장 (html/svg 등은 원본 확장자와 관계없이 거절)
+ *   (DB 트랜잭션 밖에서 호출, 쓰는 도중의 파일이 노출되지 않음)
+ * - 참조 수(image_blob.ref_count) : 엔티티에 URL 을 연결/교체하는 트랜잭션 안에서 retain/release
+ *   참조가 0 이 된 뒤 유예 시간이 지난 파일은 sweep 에서 삭제 (저장 후 트랜잭션이 롤백된 파일 포함)
+ */
+@Component
+@Slf4j
+public class BlobStore {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int HEADER_SIZE = 12; // 이미지 형식 판별용 앞부분
+	private static final int SWEEP_BATCH = 500;
+	private static final String TEMP_FOLDER = "tmp";
+	private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+	private final ImageBlobRepository repository;
+	private final Path root;
+	private final Path tempFolder;
+	private final String webPath;
+	private final Duration sweepGrace;
+
+	private final LongAdder stored = new LongAdder();
+	private final LongAdder deduplicated = new LongAdder();
+	private final LongAdder bytesWritten = new LongAdder();
+	private final LongAdder swept = new LongAdder();
+
+	public BlobStore(ImageBlobRepository repository,
+			@Value("${amuse.blob.folder-path}") String folderPath,
+			@Value("${amuse.blob.web-path}") String webPath,
+			@Value("${amuse.blob.sweep-grace:24h}") Duration sweepGrace) throws IOException {
+		this.repository = repository;
+		this.root = Path.of(folderPath).toAbsolutePath().normalize();
+		this.tempFolder = Files.createDirectories(root.resolve(TEMP_FOLDER));
+		this.webPath = webPath.endsWith("/") ? webPath : webPath + "/";
+		this.sweepGrace = sweepGrace;
+	}
+
+	/** 업로드 이미지 저장 (이미 같은 내용이 있으면 기존 파일 사용)
+	 * - 트랜잭션 밖에서 호출하고, 반환값을 엔티티에 연결하는 트랜잭션 안에서 retain
+	 * @param file
+	 * @return 저장된 이미지 (파일이 없거나 비어 있으면 null)
+	 * @throws IOException
+	 * @throws UnsupportedImageException : 지원하는 이미지 형식이 아닌 경우
+	 */
+	public StoredBlob store(MultipartFile file) throws IOException {
+		if (file == null || file.isEmpty()) return null;
+
+		Path temp = Files.createTempFile(tempFolder, "upload-", ".tmp");
+		try {
+			MessageDigest digest = sha256();
+			byte[] header = new byte[HEADER_SIZE];
+			int headerLength = 0;
+			long size = 0;
+
+			try (InputStream input = file.getInputStream();
+					ReadableByteChannel in = Channels.newChannel(input);
+					FileChannel out = FileChannel.open(temp, WRITE)) {
+				ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+				while (in.read(buffer) != -1) {
+					buffer.flip();
+					if (headerLength < HEADER_SIZE) {
+						int n = Math.min(HEADER_SIZE - headerLength, buffer.remaining());
+						buffer.get(buffer.position(), header, headerLength, n);
+						headerLength += n;
+					}
+					digest.update(buffer);
+					buffer.rewind();
+					size += buffer.remaining();
+					while (buffer.hasRemaining()) out.write(buffer);
+					buffer.clear();
+				}
+				out.force(true); // 이름 변경 전에 내용을 디스크에 기록
+			}
+
+			String extension = extension(header, headerLength);
+			if (extension == null) {
+				throw new UnsupportedImageException("지원하지 않는 이미지 형식입니다. (png, jpg, gif, webp) : "
+						+ file.getOriginalFilename());
+			}
+			String hash = HexFormat.of().formatHex(digest.digest());
+			String path = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + extension;
+
+			// 정리(sweep) 대상에서 빠지도록 먼저 등록/갱신한 뒤 파일 공개
+			repository.register(hash, path, size);
+			publish(temp, root.resolve(path), size);
+			return new StoredBlob(hash, path, size, webPath + path);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	// 임시 파일 -> 최종 경로 (같은 내용이 이미 있으면 임시 파일 폐기)
+	private void publish(Path temp, Path target, long size) throws IOException {
+		if (Files.exists(target)) {
+			Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+			deduplicated.increment();
+			return;
+		}
+		Files.createDirectories(target.getParent());
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (FileAlreadyExistsException e) {
+			// 같은 이미지를 동시에 올린 다른 요청이 먼저 공개 - 내용이 같으므로 그대로 사용
+			deduplicated.increment();
+			return;
+		} catch (AtomicMoveNotSupportedException e) {
+			throw new IOException("이미지 저장 폴더가 원자적 이름 변경을 지원하지 않습니다: " + root, e);
+		}
+		stored.increment();
+		bytesWritten.add(size);
+	}
+
+	/** 이미지를 엔티티에 연결 (참조 +1) - 엔티티 저장과 같은 트랜잭션에서 호출
+	 * @param blob : null 이면 무시
+	 */
+	public void retain(StoredBlob blob) {
+		if (blob != null) repository.retain(blob.hash());
+	}
+
+	/** 엔티티에서 이미지 연결 해제 (참조 -1) - 교체/삭제와 같은 트랜잭션에서 호출
+	 * @param url : 이 저장소의 URL 이 아니면(이전 방식 파일, 외부 프로필 URL) 무시
+	 */
+	public void release(String url) {
+		String hash = hashOf(url);
+		if (hash != null) repository.release(hash);
+	}
+
+	/** 이 저장소 URL 의 원본 파일 경로
+	 * @param url
+	 * @return 저장소 URL 이 아니면 null
+	 */
+	public Path resolve(String url) {
+		String hash = hashOf(url);
+		if (hash == null) return null;
+		Path file = root.resolve(url.substring(webPath.length())).normalize();
+		return file.startsWith(root) ? file : null;
+	}
+
+	/** 이 저장소 URL 의 내용 해시
+	 * @param url
+	 * @return 저장소 URL 이 아니면 null
+	 */
+	public String hashOf(String url) {
+		if (url == null || !url.startsWith(webPath)) return null;
+		String name = url.substring(url.lastIndexOf('/') + 1);
+		int dot = name.indexOf('.');
+		String hash = dot < 0 ? name : name.substring(0, dot);
+		return HASH.matcher(hash).matches() ? hash : null;
+	}
+
+	/** 참조가 없는 이미지 정리 (주기 실행)
+	 * - 참조 0 + 유예 시간 동안 다시 저장/참조되지 않은 행만 삭제한 뒤 파일 삭제
+	 * - 유예 시간 안에 같은 이미지가 다시 올라오면 파일 수정 시각이 갱신되어 행과 파일 모두 남김
+	 *   (수정 시각을 행 삭제 전에 확인 - 행만 지우고 파일을 남기면 다시 정리되지 않는 고아 파일이 됨)
+	 * - 같은 폴더의 축소본({hash}_*, ImageVariants)도 함께 삭제
+	 * @return 삭제한 파일 수
+	 */
+	@Scheduled(fixedDelayString = "${amuse.blob.sweep-interval:6h}", initialDelayString = "${amuse.blob.sweep-interval:6h}")
+	public int sweep() {
+		LocalDateTime before = LocalDateTime.now().minus(sweepGrace);
+		long beforeMillis = System.currentTimeMillis() - sweepGrace.toMillis();
+		int removed = 0;
+
+		for (ImageBlob blob : repository.findUnreferenced(before, Limit.of(SWEEP_BATCH))) {
+			Path file = root.resolve(blob.getPath());
+			try {
+				if (Files.exists(file) && Files.getLastModifiedTime(file).toMillis() >= beforeMillis) continue;
+				if (repository.deleteUnreferenced(blob.getHash(), before) == 0) continue; // 그 사이 다시 참조/등록됨
+				if (repository.existsById(blob.getHash())) continue; // 행 삭제 직후 같은 이미지가 다시 등록됨
+
+				if (Files.deleteIfExists(file)) removed++;
+				if (Files.isDirectory(file.getParent())) deleteVariants(file.getParent(), blob.getHash());
+			} catch (IOException e) {
+				log.warn("참조 없는 이미지 삭제 실패 - {}", file, e);
+			}
+		}
+		swept.add(removed);
+		if (removed > 0) log.info("참조 없는 이미지 {}개 정리", removed);
+		return removed;
+	}
+
+	private void deleteVariants(Path folder, String hash) throws IOException {
+		try (DirectoryStream<Path> variants = Files.newDirectoryStream(folder, hash + "_*")) {
+			for (Path variant : variants) Files.deleteIfExists(variant);
+		}
+	}
+
+	/** 이미지 저장소 현재 지표
+	 * @return
+	 */
+	public Stats stats() {
+		return new Stats(stored.sum(), deduplicated.sum(), bytesWritten.sum(), swept.sum());
+	}
+
+	// 앞부분 바이트로 이미지 형식 판별 (같은 내용 -> 같은 확장자), 지원하지 않는 형식은 null
+	private static String extension(byte[] header, int length) {
+		if (length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G')
+			return "png";
+		if (length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF)
+			return "jpg";
+		if (length >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8')
+			return "gif";
+		if (length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+				&& header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P')
+			return "webp";
+		return null;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/** 저장된 이미지
+	 * @param hash : 내용 SHA-256
+	 * @param path : 저장 폴더 기준 상대 경로
+	 * @param size : 바이트 수
+	 * @param url  : 엔티티에 저장할 웹 경로
+	 */
+	public record StoredBlob(String hash, String path, long size, String url) {
+	}
+
+	/** 이미지 저장소 지표
+	 * @param stored        새로 저장한 파일 수
+	 * @param deduplicated  같은 내용이 있어 저장을 생략한 업로드 수
+	 * @param bytesWritten  새로 저장한 바이트 수
+	 * @param swept         정리한 파일 수
+	 */
+	public record Stats(long stored, long deduplicated, long bytesWritten, long swept) {
+	}
+}
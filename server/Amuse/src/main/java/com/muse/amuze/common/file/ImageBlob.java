@@ -0,0 +1,48 @@
+package com.muse.amuze.common.file;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 내용 해시로 저장된 이미지 파일 1개 (BlobStore)
+ * - ref_count : 이 파일을 가리키는 커버/프로필 수, 0 이 된 뒤 유예 시간이 지나면 파일과 함께 정리
+ * - updated_at : 마지막 저장/참조 변경 시각 (정리 유예 기준)
+ */
+@Entity
+@Table(name = "image_blob")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class ImageBlob {
+
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash; // SHA-256 (16진수 소문자)
+
+    @Column(name = "path", nullable = false)
+    private String path; // 저장 폴더 기준 상대 경로 (ab/cd/{hash}.png)
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
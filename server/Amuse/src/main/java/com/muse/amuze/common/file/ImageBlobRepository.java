@@ -0,0 +1,44 @@
+package com.muse.amuze.common.file;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+	/** 저장한 파일 등록 (참조 0) - 이미 있으면 updated_at 만 갱신해 정리 대상에서 유예
+	 * - 소설/캐릭터 저장 트랜잭션 전에 따로 실행 (PostgreSQL upsert)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO image_blob (hash, path, size, ref_count, created_at, updated_at) "
+			+ "VALUES (:hash, :path, :size, 0, now(), now()) "
+			+ "ON CONFLICT (hash) DO UPDATE SET updated_at = now()", nativeQuery = true)
+	int register(@Param("hash") String hash, @Param("path") String path, @Param("size") long size);
+
+	@Modifying
+	@Query("UPDATE ImageBlob b SET b.refCount = b.refCount + 1, b.updatedAt = CURRENT_TIMESTAMP WHERE b.hash = :hash")
+	int retain(@Param("hash") String hash);
+
+	@Modifying
+	@Query("UPDATE ImageBlob b SET b.refCount = b.refCount - 1, b.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE b.hash = :hash AND b.refCount > 0")
+	int release(@Param("hash") String hash);
+
+	@Query("SELECT b FROM ImageBlob b WHERE b.refCount = 0 AND b.updatedAt < :before ORDER BY b.updatedAt")
+	List<ImageBlob> findUnreferenced(@Param("before") LocalDateTime before, Limit limit);
+
+	/** 조회 이후 다시 저장/참조되지 않았을 때만 삭제
+	 * @return 삭제된 행 수 (0 이면 파일도 남김)
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM ImageBlob b WHERE b.hash = :hash AND b.refCount = 0 AND b.updatedAt < :before")
+	int deleteUnreferenced(@Param("hash") String hash, @Param("before") LocalDateTime before);
+}
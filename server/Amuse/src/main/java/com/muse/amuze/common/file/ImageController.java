@@ -0,0 +1,239 @@
+package com.muse.amuze.common.file;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ResourceUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.util.UriUtils;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지 제공 (/images/**) - 정적 리소스 핸들러 대신 사용
+ * - 내용 해시 경로(BlobStore 원본/축소본) : 1년 immutable 캐시 (내용이 바뀌면 URL 이 바뀜)
+ *   이전 방식 경로(프로필/커버/캐릭터 폴더) : 1일 캐시 후 ETag 로 재검증
+ * - 강한 ETag(해시 경로는 파일 이름, 그 외는 수정 시각+크기) + If-None-Match 일치 시 304 (본문 없음)
+ * - 단일 구간 Range 요청은 206 (If-Range 가 현재 ETag 와 다르면 전체)
+ * - 본문 전송 : Tomcat sendfile 지원 시 커널 sendfile 로 전송(zero-copy), 아니면 FileChannel.transferTo
+ * - 인증 필터를 거치지 않음 (SecurityConfig 의 이미지 전용 필터 체인, JwtAuthenticationFilter.shouldNotFilter)
+ */
+@Controller
+@Hidden
+@Slf4j
+public class ImageController {
+
+	public static final String PATH = "/images/";
+
+	private static final String IMMUTABLE = "public, max-age=" + Duration.ofDays(365).toSeconds() + ", immutable";
+	private static final String REVALIDATE = "public, max-age=" + Duration.ofDays(1).toSeconds();
+
+	// Tomcat sendfile (NIO 커넥터, SSL 아닐 때 지원) - 요청 속성으로 파일을 넘기면 응답 본문을 커널이 직접 전송
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	private static final long SENDFILE_MIN_SIZE = 48 * 1024; // 작은 파일은 그냥 쓰는 쪽이 빠름 (Tomcat DefaultServlet 기준값)
+
+	private final List<Folder> folders = new ArrayList<>();
+
+	public ImageController(@Value("${amuse.blob.web-path}") String blobWebPath,
+			@Value("${amuse.blob.folder-path}") String blobFolderPath,
+			@Value("${amuse.profile.resource-handler:}") String profileHandler,
+			@Value("${amuse.profile.resource-location:}") String profileLocation,
+			@Value("${amuse.novel.resource-handler:}") String novelHandler,
+			@Value("${amuse.novel.resource-location:}") String novelLocation,
+			@Value("${amuse.char.resource-handler:}") String charHandler,
+			@Value("${amuse.char.resource-location:}") String charLocation) {
+		folders.add(new Folder(prefix(blobWebPath), Path.of(blobFolderPath).toAbsolutePath().normalize(), true));
+		addLegacyFolder(profileHandler, profileLocation);
+		addLegacyFolder(novelHandler, novelLocation);
+		addLegacyFolder(charHandler, charLocation);
+	}
+
+	// 이전 방식 업로드 폴더 (resource-handler : /images/novel/**, resource-location : file:///C:/uploadFiles/novel/)
+	private void addLegacyFolder(String handler, String location) {
+		if (handler.isBlank() || location.isBlank()) return;
+		try {
+			Path folder = ResourceUtils.getFile(location).toPath().toAbsolutePath().normalize();
+			folders.add(new Folder(prefix(handler.replace("**", "")), folder, false));
+		} catch (FileNotFoundException e) {
+			log.warn("이미지 폴더로 쓸 수 없는 위치 (file: 경로만 지원) - {}", location);
+		}
+	}
+
+	private static String prefix(String path) {
+		return path.endsWith("/") ? path : path + "/";
+	}
+
+	/** 이미지 파일 응답 (GET/HEAD)
+	 * @param request
+	 * @param response
+	 * @throws IOException
+	 */
+	@GetMapping(PATH + "**")
+	public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		Image image = locate(request.getRequestURI().substring(request.getContextPath().length()));
+		BasicFileAttributes attributes = image == null ? null : attributes(image.file());
+		if (attributes == null || !attributes.isRegularFile()) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+
+		String etag = etag(image, attributes);
+		response.setHeader(HttpHeaders.ETAG, etag);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, image.immutable() ? IMMUTABLE : REVALIDATE);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		long size = attributes.size();
+		long start = 0;
+		long length = size;
+		long[] range = range(request, etag, size);
+		if (range != null && range.length == 0) {
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+			response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+			return;
+		}
+		if (range != null) {
+			start = range[0];
+			length = range[1] - range[0] + 1;
+			response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + "-" + range[1] + "/" + size);
+		}
+
+		response.setContentType(contentType(image.file()));
+		response.setContentLengthLong(length);
+		if ("HEAD".equals(request.getMethod()) || length == 0) return;
+
+		if (length >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, image.file().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, start + length);
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(image.file(), StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			long end = start + length;
+			while (position < end) {
+				long sent = channel.transferTo(position, end - position, out);
+				if (sent <= 0) break;
+				position += sent;
+			}
+		}
+	}
+
+	// 요청 경로 -> 파일 (등록된 폴더 밖으로 나가는 경로는 거절)
+	private Image locate(String uri) {
+		String path = UriUtils.decode(uri, StandardCharsets.UTF_8);
+		for (Folder folder : folders) {
+			if (!path.startsWith(folder.prefix())) continue;
+			String relative = path.substring(folder.prefix().length());
+			if (relative.isEmpty() || relative.contains("\\") || relative.contains("..")) return null;
+			Path file = folder.root().resolve(relative).normalize();
+			return file.startsWith(folder.root()) ? new Image(file, folder.immutable()) : null;
+		}
+		return null;
+	}
+
+	private static BasicFileAttributes attributes(Path file) throws IOException {
+		try {
+			return Files.readAttributes(file, BasicFileAttributes.class);
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+
+	// 해시 경로 : 파일 이름(내용 해시 + 축소본 종류), 그 외 : 수정 시각 + 크기
+	private static String etag(Image image, BasicFileAttributes attributes) {
+		if (image.immutable()) {
+			String name = image.file().getFileName().toString();
+			int dot = name.lastIndexOf('.');
+			return "\"" + (dot < 0 ? name : name.substring(0, dot)) + "\"";
+		}
+		return "\"" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-"
+				+ Long.toHexString(attributes.size()) + "\"";
+	}
+
+	/** If-None-Match 일치 여부 (GET/HEAD 는 약한 비교 - W/ 접두어 무시)
+	 * @param ifNoneMatch
+	 * @param etag
+	 * @return
+	 */
+	static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) return false;
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.startsWith("W/")) tag = tag.substring(2);
+			if (tag.equals("*") || tag.equals(etag)) return true;
+		}
+		return false;
+	}
+
+	/** Range 헤더 해석 (단일 구간만)
+	 * @return null : 전체 응답, 길이 0 배열 : 만족할 수 없는 구간(416), {start, end} : 부분 응답
+	 */
+	static long[] range(HttpServletRequest request, String etag, long size) {
+		String header = request.getHeader(HttpHeaders.RANGE);
+		if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) return null;
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange != null && !ifRange.equals(etag)) return null; // 그 사이 바뀐 파일 -> 전체
+
+		String spec = header.substring("bytes=".length()).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) return null;
+		try {
+			long start;
+			long end;
+			if (dash == 0) { // 마지막 n 바이트
+				long suffix = Long.parseLong(spec.substring(1));
+				if (suffix <= 0) return new long[0];
+				start = Math.max(0, size - suffix);
+				end = size - 1;
+			} else {
+				start = Long.parseLong(spec.substring(0, dash));
+				end = dash == spec.length() - 1 ? size - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+			}
+			return start >= size || start > end ? new long[0] : new long[] { start, end };
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static String contentType(Path file) {
+		String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+		return MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+	}
+
+	private record Folder(String prefix, Path root, boolean immutable) {
+	}
+
+	private record Image(Path file, boolean immutable) {
+	}
+}
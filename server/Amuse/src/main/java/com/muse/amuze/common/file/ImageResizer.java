@@ -0,0 +1,155 @@
+package com.muse.amuze.common.file;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 축소본 생성 (ImageIO - JPEG/PNG/GIF/BMP 읽기, JPEG/PNG 쓰기)
+ * - 잘라낼 영역만 디코딩 + 목표 크기의 2배 이상이면 건너뛰며 읽기(subsampling) -> 큰 사진도 메모리/시간이 목표 크기에 비례
+ * - 축소는 절반씩 단계적으로(bilinear) -> 한 번에 크게 줄일 때 생기는 계단/깨짐 방지
+ * - 결과는 임시 파일에 쓴 뒤 원자적 이름 변경 (쓰는 도중의 파일이 노출되지 않음)
+ */
+public final class ImageResizer {
+
+	private static final float JPEG_QUALITY = 0.85f;
+
+	private ImageResizer() {
+	}
+
+	/** 축소본 생성
+	 * @param source    : 원본 파일
+	 * @param target    : 축소본 파일 (확장자 png 면 PNG, 그 외 JPEG)
+	 * @param variant
+	 * @param posY      : 세로 자를 위치 0~100 (%)
+	 * @param maxPixels : 원본 최대 픽셀 수 (초과 시 생성하지 않음 - 압축 폭탄 방지)
+	 * @throws IOException : 읽을 수 없는 형식(webp 등) 또는 크기 초과
+	 */
+	public static void resize(Path source, Path target, ImageVariant variant, int posY, long maxPixels)
+			throws IOException {
+		BufferedImage image = read(source, variant, posY, maxPixels);
+		boolean png = target.getFileName().toString().endsWith(".png");
+
+		int width = Math.min(variant.width(), image.getWidth());
+		int height = variant.isCropped()
+				? Math.round(width * (float) variant.height() / variant.width())
+				: Math.max(1, Math.round(image.getHeight() * (float) width / image.getWidth()));
+		BufferedImage scaled = scale(image, width, height, png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try {
+			write(scaled, temp, png);
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	// 잘라낼 영역만 읽기 (필요하면 건너뛰며 읽기)
+	private static BufferedImage read(Path source, ImageVariant variant, int posY, long maxPixels) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+			Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+			if (readers == null || !readers.hasNext()) throw new IOException("읽을 수 없는 이미지 형식: " + source);
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if ((long) width * height > maxPixels)
+					throw new IOException("이미지가 너무 큼: " + width + "x" + height + " " + source);
+
+				Rectangle region = crop(width, height, variant, posY);
+				int step = Math.max(1, region.width / (variant.width() * 2)); // 목표 너비의 2배 이상은 유지
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceRegion(region);
+				param.setSourceSubsampling(step, step, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/** 잘라낼 영역 (CSS object-fit: cover + object-position: center posY% 와 같은 위치)
+	 * - 목표보다 넓으면 가로 가운데, 높으면 세로 posY% 위치
+	 * @param width
+	 * @param height
+	 * @param variant
+	 * @param posY
+	 * @return
+	 */
+	static Rectangle crop(int width, int height, ImageVariant variant, int posY) {
+		if (!variant.isCropped()) return new Rectangle(0, 0, width, height);
+
+		double ratio = (double) variant.width() / variant.height();
+		if ((double) width / height > ratio) {
+			int cropWidth = Math.max(1, (int) Math.round(height * ratio));
+			return new Rectangle((width - cropWidth) / 2, 0, cropWidth, height);
+		}
+		int cropHeight = Math.max(1, (int) Math.round(width / ratio));
+		int y = (int) Math.round((height - cropHeight) * Math.max(0, Math.min(100, posY)) / 100.0);
+		return new Rectangle(0, y, width, cropHeight);
+	}
+
+	// 절반씩 단계적으로 축소 후 목표 크기로 (bilinear)
+	private static BufferedImage scale(BufferedImage image, int width, int height, int type) {
+		BufferedImage current = image;
+		int w = image.getWidth();
+		int h = image.getHeight();
+		do {
+			w = Math.max(width, w / 2);
+			h = Math.max(height, h / 2);
+			if (w <= width * 2 && h <= height * 2) {
+				w = width;
+				h = height;
+			}
+			BufferedImage next = new BufferedImage(w, h, type);
+			Graphics2D g = next.createGraphics();
+			try {
+				g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				if (type == BufferedImage.TYPE_INT_RGB) {
+					g.setColor(Color.WHITE); // JPEG 는 투명도가 없으므로 흰 배경
+					g.fillRect(0, 0, w, h);
+				}
+				g.drawImage(current, 0, 0, w, h, null);
+			} finally {
+				g.dispose();
+			}
+			current = next;
+		} while (w != width || h != height);
+		return current;
+	}
+
+	private static void write(BufferedImage image, Path target, boolean png) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName(png ? "png" : "jpeg").next();
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (!png) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(JPEG_QUALITY);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+}
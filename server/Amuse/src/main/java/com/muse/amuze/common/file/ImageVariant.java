@@ -0,0 +1,40 @@
+package com.muse.amuze.common.file;
+
+/**
+ * 업로드 이미지 축소본 종류 (고정 너비)
+ * - height 가 0 이 아니면 그 비율로 자른 뒤 축소 (세로 위치는 coverImagePosY / profileImagePosY, CSS object-position 과 같은 기준)
+ * - height 가 0 이면 원본 비율 유지
+ * - 원본보다 크게 늘리지는 않음
+ */
+public enum ImageVariant {
+
+	CARD("card", 360, 480), // 도서관/작업실 카드 커버 (3:4, 화면 180px 기준 2배)
+	DETAIL("detail", 960, 0), // 소설 상세/설정 화면 커버
+	AVATAR("avatar", 192, 192); // 캐릭터 프로필 (정사각형)
+
+	private final String suffix;
+	private final int width;
+	private final int height;
+
+	ImageVariant(String suffix, int width, int height) {
+		this.suffix = suffix;
+		this.width = width;
+		this.height = height;
+	}
+
+	public String suffix() {
+		return suffix;
+	}
+
+	public int width() {
+		return width;
+	}
+
+	public int height() {
+		return height;
+	}
+
+	public boolean isCropped() {
+		return height > 0;
+	}
+}
@@ -0,0 +1,207 @@
+package com.muse.amuze.common.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커버/프로필 축소본 관리 (ImageVariant - card, detail, avatar)
+ * - 축소본은 원본과 같은 폴더에 {원본 이름}_{종류}[_{posY}].jpg|png 로 저장 -> 원본과 같은 정적 경로로 제공
+ *   (자르는 종류는 이름에 세로 위치 포함 - 위치를 바꾸면 새 축소본)
+ * - 업로드/위치 변경 시 커밋 후 미리 생성, 그 전에 올린 이미지는 처음 응답에 포함될 때 생성 요청(lazy backfill)
+ *   생성 전까지는 원본 URL 을 그대로 응답
+ * - 생성은 전용 실행기(imageExecutor, bounded queue)에서 - 가득 차면 버리고 다음 요청 때 다시 시도
+ * - 있는 것으로 확인된 축소본은 메모리에 기억 (목록 응답마다 파일 확인하지 않음)
+ */
+@Component
+@Slf4j
+public class ImageVariants {
+
+	private static final int DEFAULT_POS_Y = 50;
+	private static final Duration FAILURE_TTL = Duration.ofHours(1); // 읽을 수 없는 원본은 이 시간 동안 다시 시도하지 않음
+
+	private final BlobStore blobStore;
+	private final ThreadPoolExecutor executor;
+	private final long maxPixels;
+	private final Map<String, Path> legacyFolders = new LinkedHashMap<>(); // 이전 방식 업로드 (웹 경로 -> 폴더)
+
+	private final Cache<String, String> ready; // 종류|위치|원본 URL -> 축소본 URL
+	private final Cache<String, Boolean> failed;
+	private final Set<String> pending = ConcurrentHashMap.newKeySet(); // 생성 대기/진행 중인 축소본 파일
+
+	private final LongAdder generated = new LongAdder();
+	private final LongAdder backfills = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+
+	public ImageVariants(BlobStore blobStore, @Qualifier("imageExecutor") ThreadPoolExecutor executor,
+			@Value("${amuse.image.max-pixels:40000000}") long maxPixels,
+			@Value("${amuse.image.known-max-size:20000}") long knownMaxSize,
+			@Value("${amuse.novel.web-path:}") String novelWebPath,
+			@Value("${amuse.novel.folder-path:}") String novelFolderPath,
+			@Value("${amuse.char.web-path:}") String charWebPath,
+			@Value("${amuse.char.folder-path:}") String charFolderPath) {
+		this.blobStore = blobStore;
+		this.executor = executor;
+		this.maxPixels = maxPixels;
+		this.ready = Caffeine.newBuilder().maximumSize(knownMaxSize).build();
+		this.failed = Caffeine.newBuilder().maximumSize(knownMaxSize).expireAfterWrite(FAILURE_TTL).build();
+		addLegacyFolder(novelWebPath, novelFolderPath);
+		addLegacyFolder(charWebPath, charFolderPath);
+	}
+
+	private void addLegacyFolder(String webPath, String folderPath) {
+		if (webPath.isBlank() || folderPath.isBlank()) return;
+		legacyFolders.put(webPath, Path.of(folderPath).toAbsolutePath().normalize());
+	}
+
+	/** 축소본 URL - 아직 없으면 생성을 요청하고 원본 URL 반환
+	 * @param sourceUrl : 원본 이미지 URL (null 이면 null)
+	 * @param posY      : 세로 위치 0~100 (null 이면 50)
+	 * @param variant
+	 * @return
+	 */
+	public String url(String sourceUrl, Integer posY, ImageVariant variant) {
+		if (sourceUrl == null) return null;
+		int y = focus(posY);
+		String key = variant.suffix() + "|" + y + "|" + sourceUrl;
+		String known = ready.getIfPresent(key);
+		if (known != null) return known;
+
+		Target target = target(sourceUrl, variant, y);
+		if (target == null) return sourceUrl; // 외부 URL(카카오 프로필 등)
+		if (Files.exists(target.file())) {
+			ready.put(key, target.url());
+			return target.url();
+		}
+		if (submit(target, variant, y)) backfills.increment();
+		return sourceUrl;
+	}
+
+	/** 축소본 미리 생성 (업로드/위치 변경 직후) - 트랜잭션 안이면 커밋 이후에 요청
+	 * @param sourceUrl
+	 * @param posY
+	 * @param variants
+	 */
+	public void generateAfterCommit(String sourceUrl, Integer posY, ImageVariant... variants) {
+		if (sourceUrl == null) return;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					generate(sourceUrl, posY, variants);
+				}
+			});
+		} else {
+			generate(sourceUrl, posY, variants);
+		}
+	}
+
+	private void generate(String sourceUrl, Integer posY, ImageVariant... variants) {
+		int y = focus(posY);
+		for (ImageVariant variant : variants) {
+			Target target = target(sourceUrl, variant, y);
+			if (target != null && !Files.exists(target.file())) submit(target, variant, y);
+		}
+	}
+
+	// 생성 요청 (이미 대기/진행 중이거나 최근 실패한 원본이면 생략)
+	private boolean submit(Target target, ImageVariant variant, int posY) {
+		String file = target.file().toString();
+		if (failed.getIfPresent(file) != null || !pending.add(file)) return false;
+		try {
+			executor.execute(() -> {
+				try {
+					if (!Files.exists(target.file())) {
+						ImageResizer.resize(target.source(), target.file(), variant, posY, maxPixels);
+						generated.increment();
+					}
+				} catch (IOException | RuntimeException e) {
+					failures.increment();
+					failed.put(file, Boolean.TRUE);
+					log.warn("축소본 생성 실패 - {} ({})", target.source(), e.getMessage());
+				} finally {
+					pending.remove(file);
+				}
+			});
+			return true;
+		} catch (RejectedExecutionException e) {
+			pending.remove(file);
+			rejected.increment();
+			return false;
+		}
+	}
+
+	// 원본 URL -> 원본 파일 / 축소본 파일 / 축소본 URL
+	private Target target(String sourceUrl, ImageVariant variant, int posY) {
+		Path source = blobStore.resolve(sourceUrl);
+		if (source == null) source = legacy(sourceUrl);
+		if (source == null) return null;
+
+		String name = source.getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		String base = dot < 0 ? name : name.substring(0, dot);
+		String extension = dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+		String variantName = base + "_" + variant.suffix() + (variant.isCropped() ? "_" + posY : "")
+				+ (extension.equals("png") || extension.equals("gif") ? ".png" : ".jpg"); // 투명도가 있을 수 있는 형식은 PNG
+
+		return new Target(source, source.resolveSibling(variantName),
+				sourceUrl.substring(0, sourceUrl.lastIndexOf('/') + 1) + variantName);
+	}
+
+	private Path legacy(String sourceUrl) {
+		for (Map.Entry<String, Path> entry : legacyFolders.entrySet()) {
+			if (!sourceUrl.startsWith(entry.getKey())) continue;
+			String name = sourceUrl.substring(entry.getKey().length());
+			if (name.isEmpty() || name.contains("/") || name.contains("\\") || name.contains("..")) return null;
+			return entry.getValue().resolve(name);
+		}
+		return null;
+	}
+
+	private static int focus(Integer posY) {
+		return posY == null ? DEFAULT_POS_Y : Math.max(0, Math.min(100, posY));
+	}
+
+	/** 축소본 현재 지표
+	 * @return
+	 */
+	public Stats stats() {
+		return new Stats(executor.getQueue().size(), pending.size(), generated.sum(), backfills.sum(), rejected.sum(),
+				failures.sum());
+	}
+
+	private record Target(Path source, Path file, String url) {
+	}
+
+	/** 축소본 지표
+	 * @param queueDepth  생성 대기열 길이
+	 * @param pending     대기/진행 중인 축소본 수
+	 * @param generated   생성한 축소본 수
+	 * @param backfills   응답 시점에 요청한 생성 수 (업로드 시 만들어지지 않은 기존 이미지)
+	 * @param rejected    대기열 초과로 버린 요청 수
+	 * @param failures    생성 실패 수 (읽을 수 없는 형식, 크기 초과 등)
+	 */
+	public record Stats(int queueDepth, int pending, long generated, long backfills, long rejected, long failures) {
+	}
+}
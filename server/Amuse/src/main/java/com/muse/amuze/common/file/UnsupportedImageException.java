@@ -0,0 +1,18 @@
+package com.muse.amuze.common.file;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 이미지 형식(png, jpg, gif, webp)이 아닌 업로드 (400)
+ * - html/svg 등이 이미지 경로로 저장/제공되지 않도록 내용으로 판별해 거절
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnsupportedImageException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public UnsupportedImageException(String message) {
+		super(message);
+	}
+}
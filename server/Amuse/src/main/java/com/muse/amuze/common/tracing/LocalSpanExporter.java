@@ -0,0 +1,129 @@
+package com.muse.amuze.common.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수집기(Collector) 없이 동작하는 로컬 span 내보내기
+ * - 최근 span 을 메모리에 buffer-size 개까지 보관 (GET /actuator/spans, /actuator/spans/{traceId})
+ * - amuse.tracing.file 이 지정되면 span 1개당 JSON 1줄로 파일에 추가 (jq 등으로 trace 단위 분석)
+ * - OpenTelemetry BatchSpanProcessor 의 내보내기 스레드에서 호출되므로 요청 처리 시간에는 영향 없음
+ */
+@Component
+@Slf4j
+public class LocalSpanExporter implements SpanExporter {
+
+	private final int bufferSize;
+	private final Path file;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// 최근 span (this 로 동기화, 오래된 것부터 제거)
+	private final ArrayDeque<LocalSpan> recent = new ArrayDeque<>();
+
+	public LocalSpanExporter(@Value("${amuse.tracing.buffer-size:2000}") int bufferSize,
+			@Value("${amuse.tracing.file:}") String file) {
+		this.bufferSize = Math.max(1, bufferSize);
+		this.file = file.isBlank() ? null : Path.of(file);
+	}
+
+	@Override
+	public CompletableResultCode export(Collection<SpanData> spans) {
+		List<LocalSpan> converted = spans.stream().map(LocalSpanExporter::toLocalSpan).toList();
+		synchronized (this) {
+			for (LocalSpan span : converted) {
+				if (recent.size() == bufferSize) recent.removeFirst();
+				recent.addLast(span);
+			}
+		}
+		if (file == null) return CompletableResultCode.ofSuccess();
+
+		try {
+			if (file.getParent() != null) Files.createDirectories(file.getParent());
+			try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND)) {
+				for (LocalSpan span : converted) {
+					writer.write(objectMapper.writeValueAsString(span));
+					writer.newLine();
+				}
+			}
+			return CompletableResultCode.ofSuccess();
+		} catch (IOException e) {
+			log.warn("span 파일 기록 실패 ({}): {}", file, e.getMessage());
+			return CompletableResultCode.ofFailure();
+		}
+	}
+
+	@Override
+	public CompletableResultCode flush() {
+		return CompletableResultCode.ofSuccess();
+	}
+
+	@Override
+	public CompletableResultCode shutdown() {
+		return CompletableResultCode.ofSuccess();
+	}
+
+	/** 메모리에 보관 중인 최근 span (오래된 순)
+	 * @return
+	 */
+	public synchronized List<LocalSpan> recent() {
+		return new ArrayList<>(recent);
+	}
+
+	/** trace 하나에 속한 span (시작 시간 순)
+	 * @param traceId
+	 * @return
+	 */
+	public List<LocalSpan> trace(String traceId) {
+		return recent().stream().filter(span -> span.traceId().equals(traceId))
+				.sorted((a, b) -> Long.compare(a.startEpochMicros(), b.startEpochMicros())).toList();
+	}
+
+	private static LocalSpan toLocalSpan(SpanData data) {
+		Map<String, Object> tags = new LinkedHashMap<>();
+		data.getAttributes().forEach((key, value) -> tags.put(key.getKey(), value));
+		boolean error = data.getStatus().getStatusCode() == StatusCode.ERROR;
+		return new LocalSpan(data.getTraceId(), data.getSpanId(),
+				data.getParentSpanContext().isValid() ? data.getParentSpanId() : null, data.getName(),
+				TimeUnit.NANOSECONDS.toMicros(data.getStartEpochNanos()),
+				TimeUnit.NANOSECONDS.toMicros(data.getEndEpochNanos() - data.getStartEpochNanos()), error,
+				error ? data.getStatus().getDescription() : null, tags);
+	}
+
+	/** 내보낸 span 1개
+	 * @param traceId          trace ID
+	 * @param spanId           span ID
+	 * @param parentId         상위 span ID (최상위면 null)
+	 * @param name             span 이름
+	 * @param startEpochMicros 시작 시각 (epoch 마이크로초)
+	 * @param durationMicros   소요 시간 (마이크로초)
+	 * @param error            오류 여부
+	 * @param errorMessage     오류 내용
+	 * @param tags             태그 (novel.id, mode, llm.attempt, llm.tokens.* 등)
+	 */
+	public record LocalSpan(String traceId, String spanId, String parentId, String name, long startEpochMicros,
+			long durationMicros, boolean error, String errorMessage, Map<String, Object> tags) {
+	}
+}
@@ -0,0 +1,125 @@
+package com.muse.amuze.common.tracing;
+
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 처리 구간(phase) 추적
+ * - 현재 구간(HTTP 요청 등)의 하위 span 을 만들어 작업을 감싸고, 예외는 span 오류로 기록
+ * - 다른 스레드에서 실행되는 작업(요약 실행기, AI 호출 실행기)은 wrap 으로 추적 문맥을 넘겨 같은 trace 로 이어짐
+ * - 추적이 꺼져 있으면(Tracer.NOOP) 아무것도 기록하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class PhaseTracer {
+
+	/** span 안에서 실행할 작업 (검사 예외는 그대로 전달)
+	 * @param <T>
+	 * @param <E>
+	 */
+	@FunctionalInterface
+	public interface Work<T, E extends Exception> {
+		T run(Scope span) throws E;
+	}
+
+	private final Tracer tracer;
+
+	/** 현재 구간의 하위 span 으로 작업 실행 (예외 발생 시 span 오류 기록 후 그대로 던짐)
+	 * @param name : span 이름 (ex. scene.build_prompt, db.save_scene)
+	 * @param work
+	 * @return
+	 * @throws E
+	 */
+	public <T, E extends Exception> T trace(String name, Work<T, E> work) throws E {
+		try (Scope span = open(name)) {
+			try {
+				return work.run(span);
+			} catch (Exception | Error e) {
+				span.error(e);
+				throw e;
+			}
+		}
+	}
+
+	/** 현재 구간의 하위 span 시작 + 현재 span 으로 지정 (close 시 종료)
+	 * - 반복문 안의 재시도처럼 람다로 감싸기 어려운 구간용, 오류는 직접 error 로 기록
+	 * @param name
+	 * @return
+	 */
+	public Scope open(String name) {
+		Span span = tracer.nextSpan().name(name).start();
+		return new Scope(span, tracer.withSpan(span));
+	}
+
+	/** 현재 span 에 태그 추가 (span 이 없으면 무시)
+	 * @param key
+	 * @param value
+	 */
+	public void tag(String key, long value) {
+		Span span = tracer.currentSpan();
+		if (span != null) span.tag(key, value);
+	}
+
+	/** 현재 추적 문맥을 이어받아 실행하도록 감싼 작업
+	 * @param task
+	 * @return
+	 */
+	public Runnable wrap(Runnable task) {
+		return tracer.currentTraceContext().wrap(task);
+	}
+
+	/** 제출 시점의 추적 문맥을 이어받아 실행하는 실행기
+	 * @param executor
+	 * @return
+	 */
+	public ExecutorService wrap(ExecutorService executor) {
+		return tracer.currentTraceContext().wrap(executor);
+	}
+
+	/** 테스트/추적 비활성화용 (기록 없음)
+	 * @return
+	 */
+	public static PhaseTracer noop() {
+		return new PhaseTracer(Tracer.NOOP);
+	}
+
+	/**
+	 * 진행 중인 구간 span (close 시 현재 span 지정 해제 + 종료)
+	 */
+	public static final class Scope implements AutoCloseable {
+
+		private final Span span;
+		private final Tracer.SpanInScope inScope;
+
+		private Scope(Span span, Tracer.SpanInScope inScope) {
+			this.span = span;
+			this.inScope = inScope;
+		}
+
+		public Scope tag(String key, String value) {
+			if (value != null) span.tag(key, value);
+			return this;
+		}
+
+		public Scope tag(String key, long value) {
+			span.tag(key, value);
+			return this;
+		}
+
+		public Scope error(Throwable e) {
+			span.error(e);
+			return this;
+		}
+
+		@Override
+		public void close() {
+			inScope.close();
+			span.end();
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.muse.amuze.common.tracing;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메모리에 보관된 최근 span 조회 (/actuator/spans, /actuator/spans/{traceId} - ADMIN 권한만, SecurityConfig)
+ * - 로그에 함께 찍히는 traceId 로 한 요청의 구간별 소요 시간을 확인
+ */
+@Component
+@Endpoint(id = "spans")
+@RequiredArgsConstructor
+public class SpanEndpoint {
+
+	private final LocalSpanExporter exporter;
+
+	@ReadOperation
+	public List<LocalSpanExporter.LocalSpan> spans() {
+		return exporter.recent();
+	}
+
+	@ReadOperation
+	public List<LocalSpanExporter.LocalSpan> trace(@Selector String traceId) {
+		return exporter.trace(traceId);
+	}
+}
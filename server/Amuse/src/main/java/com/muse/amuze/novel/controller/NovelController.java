@@ -13,12 +13,19 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.muse.amuze.common.file.ImageVariant;
+import com.muse.amuze.common.file.ImageVariants;
+import com.muse.amuze.novel.model.dto.CursorPageResponse;
+import com.muse.amuze.novel.model.dto.NovelCounts;
 import com.muse.amuze.novel.model.dto.NovelCreateRequest;
 import com.muse.amuze.novel.model.dto.NovelResponse;
 import com.muse.amuze.novel.model.dto.NovelSettingRequest;
@@ -47,6 +54,7 @@ public class NovelController {
 
 	private final NovelService novelService;
 	private final CharacterService characterService;
+	private final ImageVariants imageVariants;
 
 	/** 새 소설 작성하기
 	 * @param request
@@ -90,6 +98,8 @@ public class NovelController {
 	                            .affinity(c.getAffinity())
 	                            .profileImageUrl(c.getProfileImageUrl())
 	                            .profileImagePosY(c.getProfileImagePosY())
+	                            .profileImageAvatarUrl(imageVariants.url(c.getProfileImageUrl(), c.getProfileImagePosY(),
+	                                    ImageVariant.AVATAR))
 	                            .statusMessage(c.getStatusMessage())
 	                            .build())
 	                    .toList())
@@ -104,19 +114,62 @@ public class NovelController {
 	            .isShared(novel.isShared())
 	            .isDelete(novel.isDelete())
 	            .isAffinityModeEnabled(novel.isAffinityModeEnabled())
-	            .build());
+	            .build()
+	            .withImageVariants(imageVariants));
 	}
 	
+	/** 조회수 증가 (소설 읽기 화면 진입 시 - 같은 사용자는 일정 시간 동안 1회만 집계)
+	 * @param novelId
+	 * @param user
+	 * @return
+	 */
+	@PostMapping("{novelId}/view")
+	public ResponseEntity<Void> increaseViewCount(@PathVariable("novelId") Long novelId,
+			@AuthenticationPrincipal User user) {
+		novelService.increaseViewCount(novelId, user.getId());
+		return ResponseEntity.noContent().build();
+	}
+
+	/** 소설 통계(조회수/좋아요) 조회
+	 * @param novelId
+	 * @return
+	 */
+	@GetMapping("{novelId}/stats")
+	public ResponseEntity<NovelCounts> getNovelCounts(@PathVariable("novelId") Long novelId) {
+		return ResponseEntity.ok(novelService.getNovelCounts(novelId));
+	}
+
 	/** 다음 장면 생성하기(AI)
 	 * @param novelRequest : {content: "", lastSceneId : 1, mode: "AUTO", novelId: 1}
 	 * @return
 	 */
 	@PostMapping("generate")
-	public ResponseEntity<StorySceneResponse> generateNextScene(@RequestBody NovelUserInputRequest novelRequest) {
+	public ResponseEntity<StorySceneResponse> generateNextScene(@RequestBody NovelUserInputRequest novelRequest,
+			@RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+		applyIdempotencyKey(novelRequest, idempotencyKey);
 		StorySceneResponse response = novelService.generateNextScene(novelRequest);
         return ResponseEntity.ok(response);
 	}
 	
+	/** 다음 장면 생성하기(AI) - 스트리밍(SSE)
+	 * event: delta(본문 조각) -> done(StorySceneResponse) / error(메세지)
+	 * @param novelRequest : {content: "", lastSceneId : 1, mode: "AUTO", novelId: 1}
+	 * @return
+	 */
+	@PostMapping(value = "generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamNextScene(@RequestBody NovelUserInputRequest novelRequest,
+			@RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+		applyIdempotencyKey(novelRequest, idempotencyKey);
+		return novelService.streamNextScene(novelRequest);
+	}
+
+	// 요청 본문에 멱등 키가 없으면 Idempotency-Key 헤더 값 사용
+	private void applyIdempotencyKey(NovelUserInputRequest novelRequest, String idempotencyKey) {
+		if (novelRequest.getIdempotencyKey() == null && idempotencyKey != null) {
+			novelRequest.setIdempotencyKey(idempotencyKey);
+		}
+	}
+	
 	/** 현재 장면 재생성하기(AI)
 	 * @param novelRequest
 	 * @return
@@ -137,6 +190,31 @@ public class NovelController {
 	    List<StorySceneResponse> scenes = novelService.getScenes(novelId);
 	    return ResponseEntity.ok(scenes);
 	}
+
+	/** 해당 소설 기록 커서 조회 (sequenceOrder 기준)
+	 * @param novelId
+	 * @param direction : forward(처음부터) / backward(마지막 장면부터 거슬러 올라감)
+	 * @param cursor    : 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size
+	 * @return
+	 */
+	@GetMapping("{novelId}/scenes/cursor")
+	public ResponseEntity<CursorPageResponse<StorySceneResponse>> getScenesByCursor(@PathVariable("novelId") Long novelId,
+			@RequestParam(name = "direction", defaultValue = "forward") String direction,
+			@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "size", defaultValue = "30") int size) {
+		return ResponseEntity.ok(novelService.getScenesByCursor(novelId, direction, cursor, size));
+	}
+
+	/** 해당 소설 모든 기록 스트리밍 (NDJSON, 한 줄에 장면 하나)
+	 * @param novelId
+	 * @return
+	 */
+	@GetMapping(value = "{novelId}/scenes/stream", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> streamScenes(@PathVariable("novelId") Long novelId) {
+		StreamingResponseBody body = out -> novelService.streamScenes(novelId, out);
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+	}
 	
 	/** userId와 일치하는 소설 목록 조회
 	 * @param userId
@@ -149,6 +227,19 @@ public class NovelController {
 	}
 	
 
+	/** userId와 일치하는 소설 목록 조회 - 커서 페이지네이션
+	 * @param userId
+	 * @param cursor : 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size
+	 * @return
+	 */
+	@GetMapping("list/{userId}/cursor")
+	public ResponseEntity<CursorPageResponse<NovelResponse>> getMyNovelListByCursor(@PathVariable("userId") int userId,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "12") int size) {
+		return ResponseEntity.ok(novelService.getMyNovelListByCursor(userId, cursor, size));
+	}
+
 	/** 도서관 소설 목록 조회 - 정렬
 	 * @param order
 	 * @return
@@ -161,6 +252,20 @@ public class NovelController {
 		log.debug("novels :: {}", novels);
         return ResponseEntity.ok(novels);
 	}
+
+	/** 도서관 소설 목록 조회 - 정렬 + 커서 페이지네이션 (페이지 번호/전체 개수 없음)
+	 * @param order  : latest / views / likes
+	 * @param cursor : 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size
+	 * @return
+	 */
+	@GetMapping("list/cursor")
+	public ResponseEntity<CursorPageResponse<NovelResponse>> getNovelListByCursor(
+			@RequestParam(name = "order", defaultValue = "latest") String order,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "12") int size) {
+		return ResponseEntity.ok(novelService.getNovelListByCursor(order, cursor, size));
+	}
 	
 	
 	/** 마지막 장면 수정 요청
@@ -0,0 +1,10 @@
+package com.muse.amuze.novel.model.dto;
+
+/** AI 장면 생성 응답(JSON) 파싱 결과
+ * @param aiOutput      소설 본문 (ai_output)
+ * @param affinityDelta 호감도 변동값 (affinity_delta)
+ * @param reason        호감도 변동 이유 (reason)
+ * @param keyEvent      장면 요약 (key_event)
+ */
+public record AiSceneResult(String aiOutput, int affinityDelta, String reason, String keyEvent) {
+}
@@ -0,0 +1,11 @@
+package com.muse.amuze.novel.model.dto;
+
+import java.util.List;
+
+/** 커서 기반 목록 응답 (전체 개수 조회 없음)
+ * @param content    현재 페이지 항목
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record CursorPageResponse<T>(List<T> content, String nextCursor, boolean hasNext) {
+}
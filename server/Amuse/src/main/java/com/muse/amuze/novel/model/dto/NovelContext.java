@@ -0,0 +1,55 @@
+package com.muse.amuze.novel.model.dto;
+
+import java.util.List;
+
+import org.springframework.ai.chat.messages.Message;
+
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+/** AI 전달용 컨텍스트 묶음 (읽기 전용 스냅샷)
+ * - 트랜잭션 종료 후 준영속(detached) 상태로 AI 호출 구간에 전달됨
+ * - novel/mainChar 의 version 값은 쓰기 단계에서 변경 여부(낙관적 락) 검증에 사용
+ * - 컨텍스트 캐시(NovelContextCache)에 보관되어 여러 요청이 공유하므로 엔티티를 수정하면 안 됨
+ * @param novel          현재 소설
+ * @param userChar       주인공(USER) 캐릭터
+ * @param mainChar       메인(MAIN) 캐릭터
+ * @param previousScenes 최근 장면 목록 (오래된 순)
+ * @param history        previousScenes 를 미리 변환해 둔 AI 메세지 (장면당 User/Assistant 2개, 없으면 null)
+ */
+public record NovelContext(Novel novel, Character userChar, Character mainChar, List<StoryScene> previousScenes,
+		List<Message> history) {
+
+	public NovelContext(Novel novel, Character userChar, Character mainChar, List<StoryScene> previousScenes) {
+		this(novel, userChar, mainChar, previousScenes, null);
+	}
+
+	/** 스냅샷 시점의 마지막 장면 순서
+	 * @return
+	 */
+	public int lastSequenceOrder() {
+		return previousScenes.isEmpty() ? 0 : previousScenes.get(previousScenes.size() - 1).getSequenceOrder();
+	}
+
+	/** 최근 count 개 장면만 남긴 컨텍스트
+	 * @param count
+	 * @return
+	 */
+	public NovelContext recent(int count) {
+		int from = Math.max(0, previousScenes.size() - count);
+		if (from == 0) return this;
+
+		List<Message> recentHistory = history == null ? null : history.subList(from * 2, history.size());
+		return new NovelContext(novel, userChar, mainChar, previousScenes.subList(from, previousScenes.size()),
+				recentHistory);
+	}
+
+	/** 메인 캐릭터만 교체한 컨텍스트
+	 * @param mainChar
+	 * @return
+	 */
+	public NovelContext withMainChar(Character mainChar) {
+		return new NovelContext(novel, userChar, mainChar, previousScenes, history);
+	}
+}
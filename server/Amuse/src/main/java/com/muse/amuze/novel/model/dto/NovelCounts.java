@@ -0,0 +1,8 @@
+package com.muse.amuze.novel.model.dto;
+
+/** 소설 통계 (조회수 / 좋아요 수)
+ * @param viewCount 조회수
+ * @param likeCount 좋아요 수
+ */
+public record NovelCounts(long viewCount, long likeCount) {
+}
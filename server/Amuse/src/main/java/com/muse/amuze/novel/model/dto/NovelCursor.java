@@ -0,0 +1,75 @@
+package com.muse.amuze.novel.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/** 목록 커서 (keyset 페이지네이션 위치)
+ * - 클라이언트에는 "정렬:정렬값:소설id" 를 Base64(URL) 로 감싼 불투명 문자열로 전달
+ * - 다음 페이지는 (정렬값, 소설id) 가 커서보다 작은 행부터 조회 -> 새 소설이 추가되어도 중복/누락 없음
+ * @param order     정렬 기준 (latest / views / likes / mine)
+ * @param sortValue 마지막 행의 정렬값 (latest 는 공개일 epoch 마이크로초)
+ * @param novelId   마지막 행의 소설 id (정렬값이 같을 때 순서 결정)
+ */
+public record NovelCursor(String order, long sortValue, long novelId) {
+
+	private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+	/** 첫 페이지 커서 (모든 행보다 큰 값)
+	 * @param order
+	 * @return
+	 */
+	public static NovelCursor first(String order) {
+		return new NovelCursor(order, "latest".equals(order) ? toMicros(MAX_TIME) : Long.MAX_VALUE, Long.MAX_VALUE);
+	}
+
+	/** 공개일 기준 커서
+	 * @param order
+	 * @param sharedAt
+	 * @param novelId
+	 * @return
+	 */
+	public static NovelCursor ofTime(String order, LocalDateTime sharedAt, long novelId) {
+		return new NovelCursor(order, toMicros(sharedAt), novelId);
+	}
+
+	/** 커서 문자열 해석 (없으면 첫 페이지)
+	 * @param order  : 요청한 정렬 기준 (커서의 정렬 기준과 달라야 하면 예외)
+	 * @param cursor
+	 * @return
+	 */
+	public static NovelCursor decode(String order, String cursor) {
+		if (cursor == null || cursor.isBlank()) return first(order);
+
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+			if (parts.length != 3 || !parts[0].equals(order)) {
+				throw new IllegalArgumentException("정렬 기준과 맞지 않는 커서입니다.");
+			}
+			return new NovelCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+		} catch (IllegalArgumentException e) { // NumberFormatException 포함
+			throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+		}
+	}
+
+	/** 불투명 커서 문자열로 변환
+	 * @return
+	 */
+	public String encode() {
+		String raw = order + ":" + sortValue + ":" + novelId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** 정렬값을 공개일로 변환 (latest)
+	 * @return
+	 */
+	public LocalDateTime sortTime() {
+		return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(sortValue, ChronoUnit.MICROS);
+	}
+
+	private static long toMicros(LocalDateTime time) {
+		return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+	}
+}
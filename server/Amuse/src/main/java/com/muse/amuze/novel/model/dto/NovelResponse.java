@@ -4,8 +4,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.muse.amuze.common.file.ImageVariant;
+import com.muse.amuze.common.file.ImageVariants;
 import com.muse.amuze.novel.model.entity.Character;
 import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.LibraryCard;
 import com.muse.amuze.novel.model.entity.Novel;
 import com.muse.amuze.novel.model.entity.NovelStats;
 
@@ -13,6 +16,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 
 @Getter
@@ -28,6 +32,10 @@ public class NovelResponse {
 	private String totalSummary; // 지금까지의 전체 줄거리 요약
 	private String coverImageUrl; // 커버 이미지 Url
 	private int coverImagePosY; // 커버 이미지 y축 좌표값
+	@Setter
+	private String coverImageCardUrl; // 커버 축소본 - 목록 카드용 (3:4, 좌표 반영해 자름 / 생성 전이면 원본)
+	@Setter
+	private String coverImageDetailUrl; // 커버 축소본 - 상세 화면용 (원본 비율 / 생성 전이면 원본)
 	private String status; // 소설 상태(PROCESS, DONE)
 	private boolean isShared; // 공유(연재) 상태
 	private SceneInfoDTO lastScene; // 가장 최근 장면 (첫 진입 시에는 첫 장면)
@@ -45,8 +53,10 @@ public class NovelResponse {
 	private List<CharacterInfoDTO> characters; // 캐릭터 리스트 (호감도 포함)
 	private List<String> tags; // 소설 태그 리스트
 
+	@Setter
 	private Long viewCount; // 통계 - 조회수
-	private Long likeCount; // 통계 - 좋아요수
+	@Setter
+	private Long likeCount; // 통계 - 좋아요수 (미반영 증가분 합산 시 변경)
 
 	@Getter
 	@Builder
@@ -58,6 +68,7 @@ public class NovelResponse {
 		private String personality; // 성격/특징 (AI 프롬프트용)
 		private String profileImageUrl; // 프로필 이미지(호감도 채팅용)
 		private int profileImagePosY; // 프로필 이미지 좌표
+		private String profileImageAvatarUrl; // 프로필 축소본 (정사각형, 좌표 반영해 자름 / 생성 전이면 원본)
 		private String statusMessage; // 프로필 상태메시지(호감도 채팅용)
 	}
 
@@ -91,5 +102,41 @@ public class NovelResponse {
 	            .isAffinityModeEnabled(novel.isAffinityModeEnabled())
 	            .build();
 	}
+
+	/** 커버 축소본 URL 채우기 (아직 없는 축소본은 생성 요청 후 원본 URL)
+	 * @param imageVariants
+	 * @return
+	 */
+	public NovelResponse withImageVariants(ImageVariants imageVariants) {
+		this.coverImageCardUrl = imageVariants.url(coverImageUrl, coverImagePosY, ImageVariant.CARD);
+		this.coverImageDetailUrl = imageVariants.url(coverImageUrl, coverImagePosY, ImageVariant.DETAIL);
+		return this;
+	}
+
+	/** 도서관 카드 -> 목록 응답 변환
+	 * @param card
+	 * @return
+	 */
+	public static NovelResponse from(LibraryCard card) {
+		return NovelResponse.builder()
+				.id(card.getNovelId())
+				.authorId(card.getAuthorId())
+				.authorName(card.getAuthorName())
+				.profileImg(card.getAuthorProfileImg())
+				.title(card.getTitle())
+				.description(card.getDescription())
+				.coverImageUrl(card.getCoverImageUrl())
+				.coverImagePosY(card.getCoverImagePosY())
+				.isShared(true)
+				.status(card.getStatus())
+				.createdAt(card.getCreatedAt())
+				.shatredAt(card.getSharedAt())
+				.tags(new ArrayList<>(card.getTags()))
+				.mainCharName(card.getMainCharName())
+				.viewCount(card.getViewCount())
+				.likeCount(card.getLikeCount())
+				.isAffinityModeEnabled(card.isAffinityModeEnabled())
+				.build();
+	}
 	
 }
\ No newline at end of file
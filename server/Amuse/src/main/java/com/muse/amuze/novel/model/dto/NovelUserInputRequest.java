@@ -18,4 +18,5 @@ public class NovelUserInputRequest {
     private String mode;       // "AUTO" 또는 "USER"
     private String content;    // 유저 입력값
     private Long lastSceneId;  // 마지막 장면 ID (서사 검증용)
+    private String idempotencyKey; // 클라이언트 요청 식별 키 (선택, 재전송 시 같은 값 - 같은 장면을 돌려받음)
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.muse.amuze.novel.model.dto;
+
+/** 장면 기록 목록 조회용 projection (summary 등 목록에 필요 없는 TEXT 컬럼 제외)
+ * @param sceneId          장면 ID
+ * @param novelId          소설 ID
+ * @param sequenceOrder    장면 순서
+ * @param userInput        사용자 입력
+ * @param aiOutput         AI 본문
+ * @param affinityAtMoment 장면 시점 호감도
+ * @param edited           수정 여부
+ * @param regenerated      재생성 여부
+ */
+public record SceneHistoryRow(Long sceneId, Long novelId, int sequenceOrder, String userInput, String aiOutput,
+		Integer affinityAtMoment, boolean edited, boolean regenerated) {
+}
@@ -0,0 +1,8 @@
+package com.muse.amuze.novel.model.dto;
+
+/** 장면 순서 + 핵심 사건 (요약용 조회 결과)
+ * @param sequenceOrder 장면 순서
+ * @param keyEvent      장면 요약
+ */
+public record SceneKeyEvent(int sequenceOrder, String keyEvent) {
+}
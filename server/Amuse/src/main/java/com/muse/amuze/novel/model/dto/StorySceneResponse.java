@@ -70,4 +70,22 @@ public class StorySceneResponse {
                 .isRegenerated(scene.isRegenerated())
                 .build();
     }
+
+    /** 과거 목록 페이지 조회용 (projection)
+     * @param row
+     * @return
+     */
+    public static StorySceneResponse from(SceneHistoryRow row) {
+        return StorySceneResponse.builder()
+                .content(row.aiOutput())
+                .userInput(row.userInput())
+                .affinity(row.affinityAtMoment())
+                .novelId(row.novelId())
+                .sceneId(row.sceneId())
+                .sequenceOrder(row.sequenceOrder())
+                .levelUp(false)
+                .isEdited(row.edited())
+                .isRegenerated(row.regenerated())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.muse.amuze.novel.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 도서관 카드 읽기 모델 (공유 중인 소설 1개당 1행, 비공유/삭제 시 행 삭제)
+ * - 도서관 목록에 필요한 값(소설/작가/메인 캐릭터/태그/통계)을 한 행에 비정규화하여
+ *   정렬별 인덱스 하나로 목록 페이지를 조회
+ * - 공유/비공유, 설정 변경, 삭제 시 LibraryCardService 가 갱신
+ * - 조회수/좋아요 수는 카드 생성 시에만 novel_stats 에서 복사, 이후에는 NovelStatsCounter 의 증가분 UPDATE 로만 변경
+ *   (엔티티 UPDATE 에서 제외 - 읽어 둔 절대값으로 덮어쓰면 그 사이 반영된 증가분이 사라짐)
+ */
+@Entity
+@Table(name = "library_card", indexes = {
+        @Index(name = "idx_library_card_shared_at", columnList = "shared_at DESC, novel_id DESC"),
+        @Index(name = "idx_library_card_views", columnList = "view_count DESC, novel_id DESC"),
+        @Index(name = "idx_library_card_likes", columnList = "like_count DESC, novel_id DESC") })
+@Getter @Setter
+@ToString
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class LibraryCard {
+    @Id
+    @Column(name = "novel_id")
+    private Long novelId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "cover_image_url", columnDefinition = "TEXT")
+    private String coverImageUrl;
+
+    @Builder.Default
+    @Column(name = "cover_image_pos_y", nullable = false)
+    private Integer coverImagePosY = 50;
+
+    @Column(length = 20)
+    private String status;
+
+    @Column(name = "is_affinity_mode_enabled")
+    private boolean isAffinityModeEnabled;
+
+    @Column(name = "author_id", nullable = false)
+    private Integer authorId;
+
+    @Column(name = "author_name", length = 100)
+    private String authorName;
+
+    @Column(name = "author_profile_img", columnDefinition = "TEXT")
+    private String authorProfileImg;
+
+    @Column(name = "main_char_name", length = 100)
+    private String mainCharName;
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tags", columnDefinition = "TEXT[]")
+    private List<String> tags = new ArrayList<>();
+
+    @Builder.Default
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private Long viewCount = 0L;
+
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "shared_at", nullable = false)
+    private LocalDateTime sharedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
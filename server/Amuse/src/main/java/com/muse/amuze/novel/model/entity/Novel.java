@@ -19,7 +19,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -35,7 +37,10 @@ import lombok.ToString;
 @Builder
 public class Novel extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스에서 50개씩 미리 받아 쓰는 ID (pooled) - IDENTITY 와 달리 INSERT 를 flush 시점까지 미뤄 JDBC 배치로 묶을 수 있음
+    // 기존 DB 전환 : db/identity-to-sequence.sql
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "novel_seq")
+    @SequenceGenerator(name = "novel_seq", sequenceName = "novel_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,6 +55,16 @@ public class Novel extends BaseTimeEntity {
 
     @Column(name = "total_summary", columnDefinition = "TEXT")
     private String totalSummary;
+    
+    // 줄거리 요약에 반영된 마지막 장면 순서 (증분 요약 기준점, 0이면 다음 요약은 전체 재요약)
+    @Builder.Default
+    @Column(name = "summarized_sequence_order", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Integer summarizedSequenceOrder = 0;
+    
+    // 줄거리 요약 + 기준점 초기화 횟수 (주기적 전체 재요약 판단, 요약 중 기준점 초기화 감지용)
+    @Builder.Default
+    @Column(name = "summary_revision", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Integer summaryRevision = 0;
 
     @BatchSize(size = 100) // 100개 소설의 태그를 단 한 번의 쿼리로 모아서 가져오라는 설정
     @ElementCollection(fetch = FetchType.LAZY) // 컬렉션 객체임을 JPA가 알 수 있게 함
@@ -87,6 +102,10 @@ public class Novel extends BaseTimeEntity {
     @Column(name = "cover_image_pos_y", nullable = false)
     @Builder.Default
     private Integer coverImagePosY = 50;
+    
+    @Version // 낙관적 락 - AI 생성 중 다른 요청이 소설을 변경했는지 감지
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
 
 	public void updateSettings(NovelSettingRequest request) {
 		if (request.getTitle() != null) this.title = request.getTitle();
@@ -8,7 +8,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,13 +18,17 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "story_scene")
+@Table(name = "story_scene", uniqueConstraints = {
+        // 같은 소설에 같은 순서의 장면이 두 번 저장되지 않도록 (장면 기록 커서 조회 인덱스 겸용)
+        // 기존 DB 전환 : db/story-scene-unique-sequence.sql (중복 정리 후 제약 추가 - ddl-auto 는 중복이 있으면 추가 실패)
+        @UniqueConstraint(name = "uk_story_scene_novel_sequence", columnNames = { "novel_id", "sequence_order" }) })
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class StoryScene extends BaseCreateTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "story_scene_seq")
+    @SequenceGenerator(name = "story_scene_seq", sequenceName = "story_scene_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,29 @@
+package com.muse.amuze.novel.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.muse.amuze.novel.model.entity.LibraryCard;
+
+public interface LibraryCardRepository extends JpaRepository<LibraryCard, Long> {
+
+	// keyset 페이지네이션 - (정렬값, novel_id) 가 커서보다 작은 행을 인덱스 순서대로 limit 개 조회 (OFFSET/COUNT 없음)
+	@Query(value = "SELECT * FROM library_card WHERE (shared_at, novel_id) < (:sharedAt, :novelId) "
+			+ "ORDER BY shared_at DESC, novel_id DESC LIMIT :limit", nativeQuery = true)
+	List<LibraryCard> findLatestBefore(@Param("sharedAt") LocalDateTime sharedAt, @Param("novelId") long novelId,
+			@Param("limit") int limit);
+
+	@Query(value = "SELECT * FROM library_card WHERE (view_count, novel_id) < (:viewCount, :novelId) "
+			+ "ORDER BY view_count DESC, novel_id DESC LIMIT :limit", nativeQuery = true)
+	List<LibraryCard> findMostViewedBefore(@Param("viewCount") long viewCount, @Param("novelId") long novelId,
+			@Param("limit") int limit);
+
+	@Query(value = "SELECT * FROM library_card WHERE (like_count, novel_id) < (:likeCount, :novelId) "
+			+ "ORDER BY like_count DESC, novel_id DESC LIMIT :limit", nativeQuery = true)
+	List<LibraryCard> findMostLikedBefore(@Param("likeCount") long likeCount, @Param("novelId") long novelId,
+			@Param("limit") int limit);
+}
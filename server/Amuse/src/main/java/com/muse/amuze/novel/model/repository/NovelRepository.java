@@ -3,15 +3,18 @@ package com.muse.amuze.novel.model.repository;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.muse.amuze.novel.model.entity.Novel;
 
+import jakarta.persistence.LockModeType;
+
 public interface NovelRepository extends JpaRepository<Novel, Long> {
 
 	@EntityGraph(attributePaths = { "author", "tags" })
@@ -21,11 +24,42 @@ public interface NovelRepository extends JpaRepository<Novel, Long> {
 	+ "ORDER BY n.id DESC")
 	List<Novel> findAllByAuthorIdAndIsDeleteFalse(@Param("userId") int userId);
 
+	// 내 소설 목록 keyset 페이지네이션 - 커서(id)보다 작은 소설을 최신순으로 (태그는 @BatchSize 로 일괄 조회)
+	@EntityGraph(attributePaths = { "author" })
+	@Query("SELECT n FROM Novel n " 
+	+ "WHERE n.author.id = :userId " 
+	+ "AND n.isDelete = false " 
+	+ "AND n.id < :cursorId " 
+	+ "ORDER BY n.id DESC")
+	List<Novel> findMyNovelsBefore(@Param("userId") int userId, @Param("cursorId") long cursorId, Pageable limit);
+
 	@EntityGraph(attributePaths = { "author", "tags" })
 	Optional<Novel> findByIdAndIsDeleteFalse(Long novelId);
 	
-	@Query("SELECT n FROM Novel n JOIN FETCH n.author " +
-	       "LEFT JOIN NovelStats ns ON n.id = ns.novelId " +
-	       "WHERE n.isShared = true AND n.isDelete = false")
-	Page<Novel> findSharedNovels(Pageable pageable);
+	// 장면 저장 시 커밋 시점에 version 을 강제로 증가시켜 동시 생성 충돌을 감지
+	@Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+	Optional<Novel> findLockedByIdAndIsDeleteFalse(Long novelId);
+	
+	// 벌크 업데이트 - version 을 증가시키지 않음 (백그라운드 요약이 진행 중인 장면 생성과 충돌하지 않도록)
+	// 요약 대상을 읽은 뒤 기준점이 초기화(장면 수정)되었으면 summaryRevision 이 달라 0건 -> 오래된 요약으로 덮어쓰지 않음
+	@Modifying
+	@Query("UPDATE Novel n SET n.totalSummary = :summary, n.summarizedSequenceOrder = :summarizedOrder, "
+			+ "n.summaryRevision = n.summaryRevision + 1 WHERE n.id = :novelId AND n.summaryRevision = :expectedRevision")
+	int updateTotalSummary(@Param("novelId") Long novelId, @Param("summary") String summary,
+			@Param("summarizedOrder") int summarizedOrder, @Param("expectedRevision") int expectedRevision);
+	
+	// 요약 기준점 초기화 - 이미 요약된 장면(sequenceOrder <= 기준점)이 수정되었을 때 다음 요약을 전체 재요약으로 전환
+	// summaryRevision 도 올려 진행 중인 요약의 저장을 무효화 (0건이면 아직 요약되지 않은 장면)
+	@Modifying
+	@Query("UPDATE Novel n SET n.summarizedSequenceOrder = 0, n.summaryRevision = n.summaryRevision + 1 "
+			+ "WHERE n.id = :novelId AND n.summarizedSequenceOrder >= :sequenceOrder")
+	int resetSummaryWatermark(@Param("novelId") Long novelId, @Param("sequenceOrder") int sequenceOrder);
+	
+	// 공유 중인(삭제되지 않은) 소설의 작가 id (조회수 집계 대상 확인용)
+	@Query("SELECT n.author.id FROM Novel n WHERE n.id = :novelId AND n.isShared = true AND n.isDelete = false")
+	Optional<Integer> findSharedAuthorId(@Param("novelId") Long novelId);
+	
+	// 공유 중인 소설 id 목록 (도서관 카드 초기 구축용)
+	@Query("SELECT n.id FROM Novel n WHERE n.isShared = true AND n.isDelete = false")
+	List<Long> findSharedNovelIds();
 }
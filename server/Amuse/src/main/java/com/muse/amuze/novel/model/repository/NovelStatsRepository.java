@@ -4,11 +4,14 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.muse.amuze.novel.model.entity.NovelStats;
 
+import jakarta.persistence.LockModeType;
+
 public interface NovelStatsRepository extends JpaRepository<NovelStats, Long>{
 	
     @Query("SELECT s FROM NovelStats s WHERE s.novelId IN :ids")
@@ -16,4 +19,9 @@ public interface NovelStatsRepository extends JpaRepository<NovelStats, Long>{
 
 	Optional<NovelStats> findByNovelId(Long id);
 
+	// 도서관 카드 생성 시 통계 복사 - 행 잠금으로 NovelStatsCounter.flush 의 증가분 UPDATE 와 순서를 맞춤
+	// (복사 전 flush 는 복사값에 포함, 복사 후 flush 는 새 카드에 증가분으로 반영)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<NovelStats> findLockedByNovelId(Long novelId);
+
 }
@@ -2,13 +2,21 @@ package com.muse.amuze.novel.model.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import com.muse.amuze.novel.model.dto.SceneHistoryRow;
+import com.muse.amuze.novel.model.dto.SceneKeyEvent;
 import com.muse.amuze.novel.model.entity.StoryScene;
 
 public interface StorySceneRepository extends JpaRepository<StoryScene, Long>{
@@ -24,6 +32,11 @@ public interface StorySceneRepository extends JpaRepository<StoryScene, Long>{
 	@Query("SELECT s.keyEvent FROM StoryScene s WHERE s.novel.id = :novelId ORDER BY s.id ASC")
 	List<String> findAllKeyEventsByNovelId(@Param("novelId") Long novelId);
 
+	// 요약 기준점(afterOrder) 이후 장면들의 핵심 사건만 조회 (증분 요약용)
+	@Query("SELECT new com.muse.amuze.novel.model.dto.SceneKeyEvent(s.sequenceOrder, s.keyEvent) FROM StoryScene s "
+			+ "WHERE s.novel.id = :novelId AND s.sequenceOrder > :afterOrder ORDER BY s.sequenceOrder ASC")
+	List<SceneKeyEvent> findKeyEventsAfter(@Param("novelId") Long novelId, @Param("afterOrder") int afterOrder);
+
 	@Modifying(clearAutomatically = true) // 수정쿼리로 인식(행의 갯수 반환) - 쿼리 실행 후 수정전 값 비우기
 	@Query("UPDATE StoryScene s SET s.aiOutput = :content WHERE s.novel.id = :novelId AND s.id = :lastSceneId")
 	int updateContentByNovelIdAndSceneId(@Param("novelId") Long novelId, 
@@ -32,6 +45,26 @@ public interface StorySceneRepository extends JpaRepository<StoryScene, Long>{
 
 	Optional<StoryScene> findByNovelIdAndId(Long novelId, Long lastSceneId);
 
+	// 장면 기록 커서 페이지 - 정방향 (afterOrder 이후, 오래된 순)
+	@Query("SELECT new com.muse.amuze.novel.model.dto.SceneHistoryRow(s.id, s.novel.id, s.sequenceOrder, s.userInput, "
+			+ "s.aiOutput, s.affinityAtMoment, s.isEdited, s.isRegenerated) FROM StoryScene s "
+			+ "WHERE s.novel.id = :novelId AND s.sequenceOrder > :afterOrder ORDER BY s.sequenceOrder ASC")
+	List<SceneHistoryRow> findHistoryAfter(@Param("novelId") Long novelId, @Param("afterOrder") int afterOrder,
+			Pageable limit);
+
+	// 장면 기록 커서 페이지 - 역방향 (beforeOrder 이전, 최신 순)
+	@Query("SELECT new com.muse.amuze.novel.model.dto.SceneHistoryRow(s.id, s.novel.id, s.sequenceOrder, s.userInput, "
+			+ "s.aiOutput, s.affinityAtMoment, s.isEdited, s.isRegenerated) FROM StoryScene s "
+			+ "WHERE s.novel.id = :novelId AND s.sequenceOrder < :beforeOrder ORDER BY s.sequenceOrder DESC")
+	List<SceneHistoryRow> findHistoryBefore(@Param("novelId") Long novelId, @Param("beforeOrder") int beforeOrder,
+			Pageable limit);
+
+	// 장면 전체 스트리밍 조회 - JDBC fetch size 단위로 가져옴 (트랜잭션 안에서 사용, 호출 측에서 행마다 detach)
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("SELECT s FROM StoryScene s WHERE s.novel.id = :novelId ORDER BY s.sequenceOrder ASC")
+	Stream<StoryScene> streamByNovelId(@Param("novelId") Long novelId);
+
 	
 
 
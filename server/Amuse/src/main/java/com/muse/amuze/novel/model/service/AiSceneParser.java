@@ -0,0 +1,204 @@
+package com.muse.amuze.novel.model.service;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.ai.openai.api.ResponseFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 장면 응답(JSON) 형식 + 파서
+ * - 요청 시 공급자 측 구조화 출력(json_schema)을 지정하여 형식 오류 자체를 줄임 (amuse.llm.structured-output)
+ * - 응답은 Jackson 스트리밍 파서로 필드를 바로 AiSceneResult 에 바인딩 (정규식 치환/부분 문자열 복사/트리 생성 없음)
+ * - 관대한 파싱 : 앞뒤 설명글/코드 블록, 이스케이프되지 않은 줄바꿈, 끝 쉼표, 숫자 대신 문자열("+2") 허용
+ *   끝이 잘린 응답도 본문(ai_output)까지 읽혔으면 나머지 필드를 누락으로 처리
+ * - 본문 외 필드(reason, key_event) 중 하나만 누락되면 missingField 로 알려 전체 재생성 대신 그 필드만 보충하도록 함
+ */
+@Component
+@Slf4j
+public class AiSceneParser {
+
+	public static final String AI_OUTPUT = "ai_output";
+	public static final String AFFINITY_DELTA = "affinity_delta";
+	public static final String REASON = "reason";
+	public static final String KEY_EVENT = "key_event";
+
+	// 공급자 측 응답 스키마 (strict : 모든 필드 필수, 추가 필드 금지 / 본문을 먼저 출력하도록 ai_output 을 첫 필드로)
+	static final String SCHEMA = """
+			{"type":"object","properties":{\
+			"ai_output":{"type":"string"},\
+			"affinity_delta":{"type":"integer"},\
+			"reason":{"type":"string"},\
+			"key_event":{"type":"string"}},\
+			"required":["ai_output","affinity_delta","reason","key_event"],\
+			"additionalProperties":false}""";
+
+	private static final JsonFactory JSON = JsonFactory.builder()
+			.enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+			.enable(JsonReadFeature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+			.enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+			.enable(JsonReadFeature.ALLOW_LEADING_PLUS_SIGN_FOR_NUMBERS)
+			.build();
+
+	private final ResponseFormat responseFormat;
+
+	// 지표
+	private final LongAdder parsed = new LongAdder();
+	private final LongAdder malformed = new LongAdder();
+	private final LongAdder repairs = new LongAdder();
+
+	/**
+	 * @param structuredOutput : json_schema (스키마 강제) / json_object (JSON 모드) / none (프롬프트 지시만)
+	 */
+	public AiSceneParser(@Value("${amuse.llm.structured-output:json_schema}") String structuredOutput) {
+		this.responseFormat = switch (structuredOutput.toLowerCase()) {
+		case "json_schema" -> ResponseFormat.builder().type(ResponseFormat.Type.JSON_SCHEMA)
+				.jsonSchema(ResponseFormat.JsonSchema.builder().name("story_scene").schema(SCHEMA).strict(true).build())
+				.build();
+		case "json_object" -> ResponseFormat.builder().type(ResponseFormat.Type.JSON_OBJECT).build();
+		case "none" -> null;
+		default -> throw new IllegalArgumentException("지원하지 않는 amuse.llm.structured-output 값: " + structuredOutput);
+		};
+	}
+
+	/** 장면 요청에 지정할 응답 형식 (none 이면 null)
+	 * @return
+	 */
+	public ResponseFormat responseFormat() {
+		return responseFormat;
+	}
+
+	/** AI 응답 -> 장면 결과
+	 * - 본문이 없거나 reason/key_event 가 모두 없으면 형식 오류(IllegalArgumentException -> 게이트웨이 재시도)
+	 * @param text : AI 응답 원문
+	 * @return 결과 + 보충이 필요한 필드 (없으면 null)
+	 */
+	public Parsed parse(String text) {
+		try {
+			Parsed result = read(text);
+			parsed.increment();
+			if (result.missingField() != null) repairs.increment();
+			return result;
+		} catch (IllegalArgumentException e) {
+			malformed.increment();
+			throw e;
+		}
+	}
+
+	private Parsed read(String text) {
+		int start = text == null ? -1 : text.indexOf('{');
+		if (start == -1) throw new IllegalArgumentException("AI 응답에 JSON 객체가 없습니다.");
+
+		String aiOutput = null;
+		Integer affinityDelta = null;
+		String reason = null;
+		String keyEvent = null;
+
+		StringReader reader = new StringReader(text);
+		try {
+			reader.skip(start); // 앞쪽 설명글/코드 블록 건너뛰기 (복사 없이)
+		} catch (IOException e) {
+			throw new IllegalArgumentException("AI 응답 읽기 실패", e);
+		}
+
+		try (JsonParser parser = JSON.createParser(reader)) {
+			parser.nextToken(); // START_OBJECT
+
+			try {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String field = parser.currentName();
+					parser.nextToken();
+					switch (field) {
+					case AI_OUTPUT -> aiOutput = parser.getValueAsString();
+					case AFFINITY_DELTA -> affinityDelta = readInt(parser);
+					case REASON -> reason = parser.getValueAsString();
+					case KEY_EVENT -> keyEvent = parser.getValueAsString();
+					default -> parser.skipChildren(); // 모르는 필드 무시
+					}
+				}
+				// END_OBJECT 이후(닫는 코드 블록 등)는 읽지 않음
+			} catch (IOException e) {
+				// 끝이 잘린 응답 : 본문까지 읽혔으면 나머지는 누락으로 처리
+				if (isBlank(aiOutput)) throw e;
+				log.debug("AI 응답 JSON 이 중간에 끝남 - 읽은 필드까지만 사용: {}", e.getMessage());
+			}
+		} catch (IOException e) {
+			throw new IllegalArgumentException("AI 응답 JSON 파싱 실패: " + e.getMessage(), e);
+		}
+
+		if (isBlank(aiOutput)) throw new IllegalArgumentException("AI 응답 필수 필드 누락: " + AI_OUTPUT);
+
+		String missingField = null;
+		if (isBlank(reason) && isBlank(keyEvent)) {
+			throw new IllegalArgumentException("AI 응답 필수 필드 누락: " + REASON + ", " + KEY_EVENT);
+		} else if (isBlank(reason)) {
+			missingField = REASON;
+		} else if (isBlank(keyEvent)) {
+			missingField = KEY_EVENT;
+		}
+
+		AiSceneResult result = new AiSceneResult(aiOutput, affinityDelta != null ? affinityDelta : 0,
+				reason != null ? reason : "", keyEvent != null ? keyEvent : "");
+		return new Parsed(result, missingField);
+	}
+
+	// 정수, 실수(반올림), 숫자 문자열("+2", "-3") 모두 허용 / 해석 불가 시 0
+	private Integer readInt(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT) return parser.getIntValue();
+		if (token == JsonToken.VALUE_NUMBER_FLOAT) return (int) Math.round(parser.getDoubleValue());
+		if (token == JsonToken.VALUE_STRING) {
+			try {
+				return Integer.parseInt(parser.getText().trim());
+			} catch (NumberFormatException e) {
+				return 0;
+			}
+		}
+		parser.skipChildren();
+		return 0;
+	}
+
+	private boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	/** 파서 지표
+	 * @return
+	 */
+	public Stats stats() {
+		return new Stats(parsed.sum(), malformed.sum(), repairs.sum());
+	}
+
+	/** 파싱 결과
+	 * @param result       장면 결과 (누락 필드는 빈 문자열)
+	 * @param missingField 보충이 필요한 필드 (reason 또는 key_event, 없으면 null)
+	 */
+	public record Parsed(AiSceneResult result, String missingField) {
+	}
+
+	/** 파서 지표
+	 * @param parsed    해석 성공 수 (보충 포함)
+	 * @param malformed 형식 오류 수 (AI 재호출 발생)
+	 * @param repairs   필드 하나만 보충한 수 (재호출 대신)
+	 */
+	public record Stats(long parsed, long malformed, long repairs) {
+
+		/** 형식 오류로 인한 재호출 비율
+		 * @return
+		 */
+		public double malformedRate() {
+			long total = parsed + malformed;
+			return total == 0 ? 0.0 : (double) malformed / total;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.muse.amuze.novel.model.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.muse.amuze.common.ai.TokenCounter;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+/**
+ * 장면 생성 프롬프트 컨텍스트 패커 (토큰 예산 기반)
+ * - 모드별 토큰 예산 안에서 이전 맥락을 채움 : 고정 부분(시스템 프롬프트 + 지시 + 사용자 입력)을 먼저 빼고
+ *   1. 줄거리 요약 자리 확보 (300자 이내로 작고, 아래 사건 목록보다 오래된 전체 흐름을 담당)
+ *   2. 최신 장면부터 본문 그대로 (모드별 최대 장면 수까지, 가장 최근 장면은 예산을 넘어도 항상 포함)
+ *   3. 그보다 오래된 장면은 key_event 한 줄씩 (예산이 남는 만큼)
+ * - 장면 길이와 무관하게 프롬프트 크기(비용/지연)가 예산 안으로 일정해짐
+ */
+@Component
+public class ContextPacker {
+
+	private final TokenCounter tokenCounter;
+	private final int userBudget;
+	private final int autoBudget;
+	private final int userMaxVerbatim;
+	private final int autoMaxVerbatim;
+
+	// 지표
+	private final LongAdder packs = new LongAdder();
+	private final LongAdder packedTokens = new LongAdder();
+	private final LongAdder overBudget = new LongAdder();
+	private final LongAccumulator maxTokens = new LongAccumulator(Long::max, 0L);
+
+	public ContextPacker(TokenCounter tokenCounter,
+			@Value("${amuse.context.token-budget.user:4000}") int userBudget,
+			@Value("${amuse.context.token-budget.auto:5500}") int autoBudget,
+			@Value("${amuse.context.max-verbatim.user:3}") int userMaxVerbatim,
+			@Value("${amuse.context.max-verbatim.auto:5}") int autoMaxVerbatim) {
+		this.tokenCounter = tokenCounter;
+		this.userBudget = userBudget;
+		this.autoBudget = autoBudget;
+		this.userMaxVerbatim = userMaxVerbatim;
+		this.autoMaxVerbatim = autoMaxVerbatim;
+	}
+
+	/** 예산 안에서 이전 맥락 선택
+	 * @param systemPrompt : 줄거리 요약을 제외한 시스템 프롬프트 (항상 포함)
+	 * @param userMessage  : 이번 사용자 입력 메세지 (항상 포함)
+	 * @param summary      : 줄거리 요약 (없으면 null)
+	 * @param scenes       : 최근 장면 (오래된 순)
+	 * @param history      : scenes 를 변환한 AI 메세지 (장면당 User/Assistant 2개)
+	 * @param isAutoMode
+	 * @return
+	 */
+	public Packed pack(String systemPrompt, Message userMessage, String summary, List<StoryScene> scenes,
+			List<Message> history, boolean isAutoMode) {
+		int budget = isAutoMode ? autoBudget : userBudget;
+		int maxVerbatim = isAutoMode ? autoMaxVerbatim : userMaxVerbatim;
+
+		int used = tokenCounter.count(systemPrompt) + TokenCounter.MESSAGE_OVERHEAD + tokenCounter.count(userMessage)
+				+ tokenCounter.count(summary);
+
+		// 최신 장면부터 본문 그대로
+		int index = scenes.size() - 1;
+		int verbatim = 0;
+		while (index >= 0 && verbatim < maxVerbatim) {
+			int cost = tokenCounter.count(history.get(index * 2)) + tokenCounter.count(history.get(index * 2 + 1));
+			if (verbatim > 0 && used + cost > budget) break;
+			used += cost;
+			verbatim++;
+			index--;
+		}
+
+		// 나머지는 key_event 한 줄씩 (최신 -> 오래된 순으로 채운 뒤 뒤집음)
+		List<String> events = new ArrayList<>();
+		for (; index >= 0; index--) {
+			StoryScene scene = scenes.get(index);
+			if (scene.getKeyEvent() == null || scene.getKeyEvent().isBlank()) continue;
+
+			String line = "- " + scene.getKeyEvent();
+			int cost = tokenCounter.count(line) + 1; // 줄바꿈
+			if (used + cost > budget) break;
+			events.add(line);
+			used += cost;
+		}
+		Collections.reverse(events);
+
+		List<Message> packedHistory = history.subList((scenes.size() - verbatim) * 2, history.size());
+		Packed packed = new Packed(packedHistory, String.join("\n", events), used, budget, verbatim, events.size());
+		record(packed);
+		return packed;
+	}
+
+	private void record(Packed packed) {
+		packs.increment();
+		packedTokens.add(packed.tokens());
+		maxTokens.accumulate(packed.tokens());
+		if (packed.tokens() > packed.budget()) overBudget.increment();
+	}
+
+	/** 패커 지표
+	 * @return
+	 */
+	public Stats stats() {
+		long count = packs.sum();
+		return new Stats(count, count == 0 ? 0 : packedTokens.sum() / count, maxTokens.get(), overBudget.sum());
+	}
+
+	/** 패킹 결과
+	 * @param history        본문 그대로 넣을 장면 메세지 (오래된 순)
+	 * @param earlierEvents  그보다 오래된 장면의 key_event 목록 (줄 단위, 없으면 빈 문자열)
+	 * @param tokens         예상 프롬프트 토큰 수 (고정 부분 포함)
+	 * @param budget         적용한 예산
+	 * @param verbatimScenes 본문 그대로 넣은 장면 수
+	 * @param keyEventScenes key_event 로 줄여 넣은 장면 수
+	 */
+	public record Packed(List<Message> history, String earlierEvents, int tokens, int budget, int verbatimScenes,
+			int keyEventScenes) {
+	}
+
+	/** 패커 지표
+	 * @param packs         패킹 횟수 (= 장면 생성 요청 수)
+	 * @param averageTokens 평균 프롬프트 토큰 수
+	 * @param maxTokens     최대 프롬프트 토큰 수
+	 * @param overBudget    예산을 넘은 횟수 (고정 부분 + 가장 최근 장면만으로 초과)
+	 */
+	public record Stats(long packs, long averageTokens, long maxTokens, long overBudget) {
+	}
+}
@@ -0,0 +1,35 @@
+package com.muse.amuze.novel.model.service;
+
+import org.springframework.data.domain.Page;
+
+import com.muse.amuze.novel.model.dto.CursorPageResponse;
+import com.muse.amuze.novel.model.dto.NovelResponse;
+
+public interface LibraryCardService {
+
+	/** 도서관 목록 조회 (도서관 카드 단일 테이블, 정렬별 인덱스 사용)
+	 * @param order : latest(기본) / views / likes
+	 * @param page
+	 * @param size
+	 * @return
+	 */
+	Page<NovelResponse> getLibraryPage(String order, int page, int size);
+
+	/** 도서관 목록 커서 조회 (keyset, 전체 개수 조회 없음)
+	 * @param order  : latest(기본) / views / likes
+	 * @param cursor : 이전 응답의 nextCursor (첫 페이지는 null)
+	 * @param size
+	 * @return
+	 */
+	CursorPageResponse<NovelResponse> getLibraryCursorPage(String order, String cursor, int size);
+
+	/** 소설 변경(공유/비공유, 설정, 삭제) 반영 - 공유 중이면 카드 저장, 아니면 삭제
+	 * @param novelId
+	 */
+	void refresh(Long novelId);
+
+	/** 공유 중인 모든 소설의 카드 다시 만들기
+	 * @return 만들어진 카드 수
+	 */
+	int rebuildAll();
+}
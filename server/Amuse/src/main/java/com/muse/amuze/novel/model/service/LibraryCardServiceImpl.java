@@ -0,0 +1,185 @@
+package com.muse.amuze.novel.model.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.muse.amuze.common.file.ImageVariants;
+import com.muse.amuze.novel.model.dto.CursorPageResponse;
+import com.muse.amuze.novel.model.dto.NovelCursor;
+import com.muse.amuze.novel.model.dto.NovelResponse;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.LibraryCard;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.NovelStats;
+import com.muse.amuze.novel.model.repository.CharacterRepository;
+import com.muse.amuze.novel.model.repository.LibraryCardRepository;
+import com.muse.amuze.novel.model.repository.NovelRepository;
+import com.muse.amuze.novel.model.repository.NovelStatsRepository;
+import com.muse.amuze.user.model.entity.User;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서관 카드 읽기 모델 관리 서비스
+ * - 쓰기(공유/설정/삭제)는 소설 변경과 같은 트랜잭션에서 카드를 갱신
+ * - 읽기(도서관 목록)는 library_card 한 테이블만 조회 (작가/캐릭터/통계 조인 및 행별 조회 없음)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LibraryCardServiceImpl implements LibraryCardService {
+
+	private final LibraryCardRepository libraryCardRepository;
+	private final NovelRepository novelRepository;
+	private final CharacterRepository characterRepository;
+	private final NovelStatsRepository novelStatsRepository;
+	private final NovelStatsCounter novelStatsCounter;
+	private final ImageVariants imageVariants; // 목록 카드 커버 축소본
+
+	private static final int MAX_PAGE_SIZE = 50; // 커서 조회 1회 최대 항목 수
+
+	/**
+	 * 도서관 목록 조회
+	 *
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public Page<NovelResponse> getLibraryPage(String order, int page, int size) {
+
+		// 정렬 조건 설정 (같은 값이면 최신 소설 우선 - 인덱스와 같은 순서)
+		Sort sort = switch (order) {
+		case "views" -> Sort.by(Sort.Direction.DESC, "viewCount", "novelId");
+		case "likes" -> Sort.by(Sort.Direction.DESC, "likeCount", "novelId");
+		default -> Sort.by(Sort.Direction.DESC, "sharedAt", "novelId");
+		};
+
+		Page<NovelResponse> libraryPage = libraryCardRepository.findAll(PageRequest.of(page, size, sort))
+				.map(card -> NovelResponse.from(card).withImageVariants(imageVariants));
+		novelStatsCounter.mergePending(libraryPage.getContent()); // 아직 반영되지 않은 조회수/좋아요 합산
+		return libraryPage;
+	}
+
+	/**
+	 * 도서관 목록 커서 조회
+	 * - size + 1 개를 조회해 다음 페이지 존재 여부 판단
+	 *
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public CursorPageResponse<NovelResponse> getLibraryCursorPage(String order, String cursor, int size) {
+		String sortKey = switch (order) {
+		case "views", "likes" -> order;
+		default -> "latest";
+		};
+		NovelCursor position = NovelCursor.decode(sortKey, cursor);
+		int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE) + 1;
+
+		List<LibraryCard> cards = switch (sortKey) {
+		case "views" -> libraryCardRepository.findMostViewedBefore(position.sortValue(), position.novelId(), limit);
+		case "likes" -> libraryCardRepository.findMostLikedBefore(position.sortValue(), position.novelId(), limit);
+		default -> libraryCardRepository.findLatestBefore(position.sortTime(), position.novelId(), limit);
+		};
+
+		boolean hasNext = cards.size() == limit;
+		if (hasNext) cards = cards.subList(0, limit - 1);
+
+		String nextCursor = null;
+		if (hasNext) {
+			LibraryCard last = cards.get(cards.size() - 1);
+			nextCursor = switch (sortKey) {
+			case "views" -> new NovelCursor(sortKey, last.getViewCount(), last.getNovelId()).encode();
+			case "likes" -> new NovelCursor(sortKey, last.getLikeCount(), last.getNovelId()).encode();
+			default -> NovelCursor.ofTime(sortKey, last.getSharedAt(), last.getNovelId()).encode();
+			};
+		}
+
+		List<NovelResponse> content = cards.stream()
+				.map(card -> NovelResponse.from(card).withImageVariants(imageVariants)).toList();
+		novelStatsCounter.mergePending(content); // 아직 반영되지 않은 조회수/좋아요 합산
+		return new CursorPageResponse<>(content, nextCursor, hasNext);
+	}
+
+	/**
+	 * 소설 변경 반영
+	 * - 조회수/좋아요 수는 카드를 새로 만들 때만 복사 (기존 카드는 NovelStatsCounter 가 증가분으로 갱신)
+	 *
+	 */
+	@Transactional
+	@Override
+	public void refresh(Long novelId) {
+		Novel novel = novelRepository.findById(novelId).orElse(null);
+
+		// 비공유/삭제된 소설은 도서관에서 제외
+		if (novel == null || !novel.isShared() || novel.isDelete()) {
+			libraryCardRepository.deleteById(novelId);
+			return;
+		}
+
+		LibraryCard card = libraryCardRepository.findById(novelId).orElse(null);
+		if (card == null) {
+			NovelStats stats = novelStatsRepository.findLockedByNovelId(novelId).orElse(null);
+			card = LibraryCard.builder().novelId(novelId)
+					.viewCount(stats != null ? stats.getViewCount() : 0L)
+					.likeCount(stats != null ? stats.getLikeCount() : 0L).build();
+		}
+
+		User author = novel.getAuthor();
+		Character mainChar = characterRepository.findByNovelIdAndRole(novelId, CharacterRole.MAIN);
+
+		card.setTitle(novel.getTitle());
+		card.setDescription(novel.getDescription());
+		card.setCoverImageUrl(novel.getCoverImageUrl());
+		card.setCoverImagePosY(novel.getCoverImagePosY());
+		card.setStatus(novel.getStatus());
+		card.setAffinityModeEnabled(novel.isAffinityModeEnabled());
+		card.setAuthorId(author.getId());
+		card.setAuthorName(author.getNickname());
+		card.setAuthorProfileImg(author.getProfileImageUrl());
+		card.setMainCharName(mainChar != null ? mainChar.getName() : null);
+		card.setTags(new ArrayList<>(novel.getTags()));
+		card.setCreatedAt(novel.getCreatedAt());
+
+		// 공개일이 없으면 기존 카드의 공개일 유지 (없으면 지금)
+		if (novel.getSharedAt() != null) {
+			card.setSharedAt(novel.getSharedAt());
+		} else if (card.getSharedAt() == null) {
+			card.setSharedAt(LocalDateTime.now());
+		}
+
+		libraryCardRepository.save(card);
+	}
+
+	/**
+	 * 공유 중인 모든 소설의 카드 다시 만들기
+	 *
+	 */
+	@Transactional
+	@Override
+	public int rebuildAll() {
+		List<Long> novelIds = novelRepository.findSharedNovelIds();
+		libraryCardRepository.deleteAllInBatch();
+		novelIds.forEach(this::refresh);
+		return novelIds.size();
+	}
+
+	// 최초 배포 시(카드 테이블이 비어 있을 때) 공유 중인 소설로 카드 구축
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void buildIfEmpty() {
+		if (libraryCardRepository.count() > 0) return;
+
+		int built = rebuildAll();
+		if (built > 0) log.info("도서관 카드 {}개 구축", built);
+	}
+}
@@ -0,0 +1,160 @@
+package com.muse.amuze.novel.model.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소설별 장면 생성 컨텍스트 캐시
+ * - 소설 정보, USER/MAIN 캐릭터, 최근 장면(최대 CACHED_SCENES개)과 미리 변환한 AI 메세지를 보관
+ * - 크기(max-size) / 시간(ttl) 기준으로 제거
+ * - 장면 생성 커밋 후 새 장면을 이어 붙여 갱신(write-through), 그 외 변경(재생성/수정/설정/삭제/요약)은 커밋 후 제거
+ * - 캐시가 오래된 경우에도 저장 단계의 version 검증(낙관적 락)에서 걸러지며, 이때 해당 항목을 제거함
+ */
+@Component
+@Slf4j
+public class NovelContextCache {
+
+	public static final int CACHED_SCENES = 12; // 보관하는 최근 장면 수 (이 중 토큰 예산에 맞는 만큼 ContextPacker 가 선택)
+
+	private final ObjectMapper objectMapper;
+	private final Cache<Long, NovelContext> cache;
+
+	public NovelContextCache(ObjectMapper objectMapper,
+			@Value("${amuse.context-cache.max-size:1000}") long maxSize,
+			@Value("${amuse.context-cache.ttl:10m}") Duration ttl) {
+		this.objectMapper = objectMapper;
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+	}
+
+	/** 컨텍스트 조회 (없으면 loader 로 조회 후 메세지 변환하여 저장)
+	 * @param novelId
+	 * @param loader : 최근 CACHED_SCENES 개 장면을 포함한 컨텍스트 조회 함수
+	 * @return
+	 */
+	public NovelContext get(Long novelId, Function<Long, NovelContext> loader) {
+		return cache.get(novelId, id -> {
+			NovelContext loaded = loader.apply(id);
+			return new NovelContext(loaded.novel(), loaded.userChar(), loaded.mainChar(),
+					List.copyOf(loaded.previousScenes()), renderHistory(loaded.previousScenes()));
+		});
+	}
+
+	/** 새 장면 저장 커밋 후 캐시 갱신 (write-through)
+	 * - 캐시된 컨텍스트가 저장 기준 스냅샷과 같은 version 이면 새 장면을 이어 붙이고, 아니면 제거
+	 * @param baseNovelVersion : 저장 시 검증한 스냅샷의 소설 version
+	 * @param novel            : 커밋된 소설 (version 증가 반영됨)
+	 * @param mainChar         : 커밋된 메인 캐릭터
+	 * @param newScene         : 새로 저장된 장면
+	 */
+	public void appendAfterCommit(Long baseNovelVersion, Novel novel, Character mainChar, StoryScene newScene) {
+		afterCommit(() -> cache.asMap().computeIfPresent(novel.getId(), (id, current) -> {
+			if (!Objects.equals(current.novel().getVersion(), baseNovelVersion)) return null;
+
+			List<StoryScene> scenes = new ArrayList<>(current.previousScenes());
+			List<Message> history = new ArrayList<>(current.history());
+			scenes.add(newScene);
+			history.addAll(renderScene(newScene));
+			if (scenes.size() > CACHED_SCENES) {
+				scenes.remove(0);
+				history.subList(0, 2).clear();
+			}
+			return new NovelContext(novel, current.userChar(), mainChar, List.copyOf(scenes), List.copyOf(history));
+		}));
+	}
+
+	/** 커밋 후 캐시 제거 (트랜잭션 밖이면 즉시)
+	 * @param novelId
+	 */
+	public void evictAfterCommit(Long novelId) {
+		afterCommit(() -> cache.invalidate(novelId));
+	}
+
+	/** 즉시 캐시 제거
+	 * @param novelId
+	 */
+	public void evict(Long novelId) {
+		cache.invalidate(novelId);
+	}
+
+	/** 장면 목록을 AI 메세지로 변환 (장면당 User/Assistant 2개)
+	 * @param scenes
+	 * @return
+	 */
+	public List<Message> renderHistory(List<StoryScene> scenes) {
+		List<Message> messages = new ArrayList<>(scenes.size() * 2);
+		for (StoryScene scene : scenes) {
+			messages.addAll(renderScene(scene));
+		}
+		return messages;
+	}
+
+	private List<Message> renderScene(StoryScene scene) {
+		// 이전 사용자의 입력 (없으면 자동전개 표시) : 무슨 대화를 했는지 맥락 파악 용도
+		String prevUserInput = (scene.getUserInput() != null && !scene.getUserInput().isBlank())
+				? scene.getUserInput()
+				: "(시스템: 자동 전개됨)";
+
+		// 이전 DB 본문을 가짜 JSON으로 감싸서 전달: 이전의 대답 형식(JSON)을 기억, 형식 유지 용도
+		Map<String, Object> assistantData = new HashMap<>();
+		assistantData.put("ai_output", scene.getAiOutput());
+		assistantData.put("affinity_delta", 0);
+		assistantData.put("reason", "이전 대화 맥락");
+		assistantData.put("key_event", scene.getKeyEvent() != null ? scene.getKeyEvent() : "사건 요약");
+
+		try {
+			return List.of(new UserMessage(prevUserInput), new AssistantMessage(objectMapper.writeValueAsString(assistantData)));
+		} catch (JsonProcessingException e) {
+			log.error("이전 장면을 AI 메세지로 변환하는 중 오류 발생", e);
+			throw new RuntimeException("AI 응답 처리 실패");
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	/** 캐시 지표 (적중률 등)
+	 * @return
+	 */
+	public Stats stats() {
+		CacheStats s = cache.stats();
+		return new Stats(cache.estimatedSize(), s.hitCount(), s.missCount(), s.hitRate(), s.evictionCount());
+	}
+
+	public record Stats(long size, long hits, long misses, double hitRatio, long evictions) {
+	}
+}
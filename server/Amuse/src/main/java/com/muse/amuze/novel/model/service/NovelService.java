@@ -1,10 +1,15 @@
 package com.muse.amuze.novel.model.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.muse.amuze.novel.model.dto.CursorPageResponse;
+import com.muse.amuze.novel.model.dto.NovelCounts;
 import com.muse.amuze.novel.model.dto.NovelCreateRequest;
 import com.muse.amuze.novel.model.dto.NovelResponse;
 import com.muse.amuze.novel.model.dto.NovelSettingRequest;
@@ -35,6 +40,12 @@ public interface NovelService {
 	 * @return
 	 */
 	StorySceneResponse generateNextScene(NovelUserInputRequest novelRequest);
+
+	/** 다음장면 생성 (AI) 스트리밍 서비스 - SSE
+	 * @param novelRequest
+	 * @return
+	 */
+	SseEmitter streamNextScene(NovelUserInputRequest novelRequest);
 	
 	/** 현재 장면(AI) 재생성 서비스
 	 * @param sceneId
@@ -49,6 +60,35 @@ public interface NovelService {
 	 */
 	List<StorySceneResponse> getScenes(Long novelId);
 
+	/** 해당 소설 기록 커서 조회 (sequenceOrder 기준)
+	 * @param novelId
+	 * @param direction : forward(처음부터) / backward(마지막 장면부터)
+	 * @param cursor    : 이전 응답의 nextCursor (첫 페이지는 null)
+	 * @param size
+	 * @return content 는 방향과 관계없이 오래된 순
+	 */
+	CursorPageResponse<StorySceneResponse> getScenesByCursor(Long novelId, String direction, Integer cursor, int size);
+
+	/** 해당 소설 모든 기록을 NDJSON 으로 출력 (장면 한 줄씩)
+	 * @param novelId
+	 * @param out
+	 * @throws IOException
+	 */
+	void streamScenes(Long novelId, OutputStream out) throws IOException;
+
+	/** 조회수 증가 (메모리에 누적 후 주기적으로 반영)
+	 * - 공유 중인 소설만, 작가 본인 제외, 같은 사용자는 amuse.stats.view-window 동안 1회
+	 * @param novelId
+	 * @param viewerId : 조회한 사용자
+	 */
+	void increaseViewCount(Long novelId, int viewerId);
+
+	/** 소설 통계 조회 (반영 대기 중인 증가분 포함)
+	 * @param novelId
+	 * @return
+	 */
+	NovelCounts getNovelCounts(Long novelId);
+
 	/** 마지막 장면 찾기
 	 * @param novelId
 	 * @return
@@ -61,12 +101,28 @@ public interface NovelService {
 	 */
 	List<NovelResponse> getMyNovelList(int userId);
 
+	/** userId와 일치하는 소설 목록 커서 조회 (최신순)
+	 * @param userId
+	 * @param cursor : 이전 응답의 nextCursor (첫 페이지는 null)
+	 * @param size
+	 * @return
+	 */
+	CursorPageResponse<NovelResponse> getMyNovelListByCursor(int userId, String cursor, int size);
+
 	/** 도서관(모든 소설 조회 - 정렬) 서비스
 	 * @param order
 	 * @return
 	 */
 	Page<NovelResponse> getNovelListSortByAny(String order, int page, int size);
 
+	/** 도서관(모든 소설 조회 - 정렬) 커서 조회 서비스
+	 * @param order  : latest / views / likes
+	 * @param cursor : 이전 응답의 nextCursor (첫 페이지는 null)
+	 * @param size
+	 * @return
+	 */
+	CursorPageResponse<NovelResponse> getNovelListByCursor(String order, String cursor, int size);
+
 	/** 마지막 장면 수정 서비스
 	 * @param novelRequest
 	 * @return
@@ -1,46 +1,55 @@
 package com.muse.amuze.novel.model.service;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StreamUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.muse.amuze.common.util.Utility;
+import com.muse.amuze.common.ai.AiOutputStreamParser;
+import com.muse.amuze.common.ai.LlmGateway;
+import com.muse.amuze.common.ai.PromptTemplateRegistry;
+import com.muse.amuze.common.file.BlobStore;
+import com.muse.amuze.common.file.BlobStore.StoredBlob;
+import com.muse.amuze.common.file.ImageVariant;
+import com.muse.amuze.common.file.ImageVariants;
+import com.muse.amuze.common.tracing.PhaseTracer;
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+import com.muse.amuze.novel.model.dto.CursorPageResponse;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.dto.NovelCounts;
 import com.muse.amuze.novel.model.dto.NovelCreateRequest;
+import com.muse.amuze.novel.model.dto.NovelCursor;
 import com.muse.amuze.novel.model.dto.NovelResponse;
 import com.muse.amuze.novel.model.dto.NovelSettingRequest;
 import com.muse.amuze.novel.model.dto.NovelUserInputRequest;
+import com.muse.amuze.novel.model.dto.SceneHistoryRow;
 import com.muse.amuze.novel.model.dto.StorySceneResponse;
 import com.muse.amuze.novel.model.entity.Character;
-import com.muse.amuze.novel.model.entity.CharacterRole;
 import com.muse.amuze.novel.model.entity.Novel;
 import com.muse.amuze.novel.model.entity.NovelStats;
 import com.muse.amuze.novel.model.entity.StoryScene;
@@ -50,9 +59,17 @@ import com.muse.amuze.novel.model.repository.NovelStatsRepository;
 import com.muse.amuze.novel.model.repository.StorySceneRepository;
 import com.muse.amuze.user.model.entity.User;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -60,32 +77,48 @@ import lombok.extern.slf4j.Slf4j;
 @PropertySource("classpath:/config.properties")
 public class NovelServiceImpl implements NovelService {
 
-	private final SummaryService summaryService;
+	private final StorySceneService storySceneService;
+	private final NovelContextCache novelContextCache;
+	private final LibraryCardService libraryCardService;
+	private final NovelStatsCounter novelStatsCounter;
+	private final SceneGenerationGate sceneGenerationGate;
+	private final AiSceneParser aiSceneParser;
+	private final ContextPacker contextPacker;
 
 	private final StorySceneRepository storySceneRepository;
 	private final CharacterRepository characterRepository;
 	private final NovelRepository novelRepository;
 	private final NovelStatsRepository novelStatsRepository;
-	private final OpenAiChatModel chatModel;
+	private final LlmGateway llmGateway;
 	private final ObjectMapper objectMapper; // JSON 파싱용
+	private final PromptTemplateRegistry promptTemplates;
+	private final MeterRegistry meterRegistry; // DB 구간 시간 (amuse.db.phase)
+	private final PhaseTracer phaseTracer; // 구간 추적 (scene.* / db.* / llm.* span)
+	private final BlobStore blobStore; // 커버/프로필 이미지 저장
+	private final TransactionTemplate transactionTemplate; // 이미지 저장 후 DB 반영만 트랜잭션으로
+	private final ImageVariants imageVariants; // 커버/프로필 축소본
 
-	@Value("${amuse.novel.web-path}")
-	private String novelWebPath;
+	@PersistenceContext
+	private EntityManager entityManager; // 스트리밍 조회 시 장면 분리(detach)용
 
-	@Value("${amuse.novel.folder-path}")
-	private String novelFolderPath;
+	private static final int MAX_SCENE_PAGE_SIZE = 100; // 장면 기록 커서 조회 1회 최대 장면 수
+	private static final int SCENE_STREAM_FLUSH_EVERY = 50; // 장면 스트리밍 시 n개마다 응답으로 내보냄
 
-	@Value("${amuse.char.web-path}")
-	private String charProfileWebPath;
+	private static final long STREAM_TIMEOUT_MILLIS = 1000L * 120; // SSE 최대 유지 시간 (2분)
 
-	@Value("${amuse.char.folder-path}")
-	private String charProfileFolderPath;
+	private static final String WRITE_PROMPT = "write-system-prompt"; // prompts/write-system-prompt.txt (모든 요청 공통 규칙)
+	private static final String CHARACTER_PROMPT = "write-character-prompt"; // prompts/write-character-prompt.txt
+	private static final String STATE_PROMPT = "write-state-prompt"; // prompts/write-state-prompt.txt
+	private static final String REPAIR_PROMPT = "scene-repair-prompt"; // prompts/scene-repair-prompt.txt
 
-	@Value("classpath:prompts/write-system-prompt.txt")
-	private Resource aiSystemPromptResource;
-
-	// 컨텍스트 묶음
-	private record NovelContext(Novel novel, Character userChar, Character mainChar, List<StoryScene> previousScenes) {
+	/** 시스템 프롬프트 템플릿 검증 - buildMessage 에서 채우지 않는 {{placeholder}}가 있으면 부팅 실패
+	 */
+	@PostConstruct
+	public void validatePromptTemplates() {
+		promptTemplates.require(WRITE_PROMPT);
+		promptTemplates.require(CHARACTER_PROMPT, "characterSettings", "userName", "mainCharName");
+		promptTemplates.require(STATE_PROMPT, "totalSummary", "relationLevel", "affinityScore", "mainCharName");
+		promptTemplates.require(REPAIR_PROMPT, "field", "instruction");
 	}
 
 	/**
@@ -101,22 +134,17 @@ public class NovelServiceImpl implements NovelService {
 
 	/**
 	 * 소설 생성 서비스
+	 * - 커버 이미지 저장(트랜잭션 밖) -> 소설/캐릭터/통계/첫 장면 저장(트랜잭션)
 	 *
 	 */
-	@Transactional
 	@Override
 	public Long createNovel(NovelCreateRequest request, MultipartFile coverImage, User user) throws Exception {
+		StoredBlob cover = blobStore.store(coverImage);
+		return transactionTemplate.execute(status -> saveNovel(request, cover, user));
+	}
 
-		String rename = null;
-		String updatePath = null;
-
-		// 커버 이미지 처리
-		if (coverImage != null && !coverImage.isEmpty()) {
-			rename = Utility.fileRename(coverImage.getOriginalFilename());
-			updatePath = novelWebPath + rename;
-			coverImage.transferTo(new File(novelFolderPath + rename));
-		}
-
+	// 소설 생성 DB 반영 (커버 이미지 참조 +1 포함)
+	private Long saveNovel(NovelCreateRequest request, StoredBlob cover, User user) {
 		// 캐릭터 설정 정보 요약
 		// AI 컨텍스트용으로 쓰기 위해 캐릭터 리스트를 하나의 텍스트로 합침
 		String combinedSettings = request.getCharacters().stream().map(c -> String.format("[%s / %s / %s]: %s (%s)",
@@ -128,7 +156,7 @@ public class NovelServiceImpl implements NovelService {
 				.title(request.getTitle()) // 제목
 				.description(request.getDescription()) // 짧은소개글
 				.tags(request.getTags()) // 태그
-				.coverImageUrl(updatePath) // 커버이미지
+				.coverImageUrl(cover != null ? cover.url() : null) // 커버이미지
 				.characterSettings(combinedSettings) // 요약본 저장
 				.status("PROCESS") // 진행중인소설
 				.isShared(false) // 비공유
@@ -160,6 +188,9 @@ public class NovelServiceImpl implements NovelService {
 				.keyEvent("소설의 시작").affinityAtMoment(0).build();
 		storySceneRepository.save(firstScene);
 
+		blobStore.retain(cover);
+		imageVariants.generateAfterCommit(savedNovel.getCoverImageUrl(), savedNovel.getCoverImagePosY(),
+				ImageVariant.CARD, ImageVariant.DETAIL);
 		return savedNovel.getId();
 	}
 
@@ -175,171 +206,290 @@ public class NovelServiceImpl implements NovelService {
 
 	/**
 	 * 새로운(다음)장면 생성 (AI) 서비스 + 자동 전개모드 (AUTO)에 따른 로직 처리
+	 * - 트랜잭션을 AI 호출 전/후로 분리 : 스냅샷 조회(읽기) -> AI 호출(커넥션 없음) -> 저장(쓰기)
+	 * - AI 호출 중 소설이 변경되었으면 저장 단계에서 낙관적 락 예외 발생
 	 * 
 	 * @param novelRequest
 	 * @return
 	 * @throws Exception
 	 */
-	@Transactional
 	@Override
 	public StorySceneResponse generateNextScene(NovelUserInputRequest novelRequest) {
+		boolean mode = "AUTO".equals(novelRequest.getMode());
+		return phaseTracer.trace("scene.generate", span -> {
+			tagScene(span, novelRequest, mode);
+			// 같은 요청(더블 클릭, 재전송)은 진행 중인 생성 결과를 함께 받고, 같은 소설의 다른 요청은 앞선 생성이 끝난 뒤 실행
+			return sceneGenerationGate.run(novelRequest.getNovelId(), SceneGenerationGate.keyOf(novelRequest),
+					() -> generate(novelRequest));
+		});
+	}
+
+	// 다음 장면 생성 (소설별 관문 통과 후 실행)
+	private StorySceneResponse generate(NovelUserInputRequest novelRequest) {
 
 		boolean mode = false;
 		if (novelRequest.getMode().equals("AUTO"))
 			mode = true; // 자동 전개 모드
 
-		int maxRetries = 2; // 최대 2번 더 시도 (총 3번)
-		int attempt = 0;
-
-		while (attempt <= maxRetries) {
-			try {
-
-				// AI 전달용 message 데이터 준비(novel, userChar, mainChar, previousScenes)
-				NovelContext ctx = prepareContext(novelRequest.getNovelId(), mode);
-
-				// AI 전달 message bulider로 생성
-				List<Message> messages = buildMessage(ctx, novelRequest.getContent(), mode);
+		// AI 전달용 message 데이터 준비(novel, userChar, mainChar, previousScenes) - 캐시 또는 읽기 전용 스냅샷
+		NovelContext ctx = loadContext(novelRequest.getNovelId(), mode);
 
-				// AI 호출
-				String jsonResponse = getAiResponse(messages);
+		// AI 전달 message bulider로 생성
+		List<Message> messages = buildPrompt(ctx, novelRequest.getContent(), mode);
 
-				log.debug("AI 응답: {}", jsonResponse);
+		String finalUserInput = toFinalUserInput(novelRequest.getContent(), mode);
 
-				// AI 응답 파싱
-				JsonNode rootNode = objectMapper.readTree(jsonResponse);
-				String aiOutput = rootNode.path("ai_output").asText("");
-				int affinityDelta = rootNode.path("affinity_delta").asInt(0);
-				String reason = rootNode.path("reason").asText("");
-				String keyEvent = rootNode.path("key_event").asText("");
+		// AI 호출 + 응답 파싱 (트랜잭션 밖, 일시적 오류/형식 오류는 게이트웨이에서 백오프 후 재시도)
+		AiSceneResult result = requestScene("scene.generate", ctx, messages);
 
-				if (aiOutput.isBlank() || reason.isBlank() || keyEvent.isBlank()) {
-					throw new RuntimeException("AI 응답 필수 필드 누락");
-				}
+		// 새로운 장면(Scene) 저장 + 호감도 반영 - 짧은 쓰기 트랜잭션
+		return timeDb("save_scene", () -> storySceneService.saveGeneratedScene(ctx, finalUserInput, result));
+	}
 
-				// NovelContext에서 필요한 값 추출
-				Novel novel = ctx.novel();
-				Character mainChar = ctx.mainChar();
-				List<StoryScene> previousScenes = ctx.previousScenes();
-
-				// 호감도 및 관계 등급 업데이트
-				String oldLevel = mainChar.getRelationshipLevel(); // 이전 레벨
-				mainChar.updateAffinity(affinityDelta); // 호감도 업뎃 후
-				String newLevel = mainChar.getRelationshipLevel(); // 최종 레벨
-
-				String finalUserInput = null;
-				if (novelRequest.getContent() == null || novelRequest.getContent().isBlank()) {
-					finalUserInput = "자동 전개 모드(AUTO) : 사용자 입력이 없습니다.";
-				} else if (mode) {
-					finalUserInput = "자동 전개 모드(AUTO) : " + novelRequest.getContent();
+	/**
+	 * 새로운(다음)장면 생성 (AI) 스트리밍 서비스
+	 * - ai_output 본문은 도착하는 대로 SSE "delta" 이벤트로 전송
+	 * - 스트림 종료 후 전체 JSON을 파싱하여 장면/호감도 저장 -> "done" 이벤트로 최종 응답 전송
+	 * - 실패 시 "error" 이벤트 전송 (클라이언트는 일반 generate 로 재시도)
+	 * 
+	 * @param novelRequest
+	 * @return
+	 */
+	@Override
+	public SseEmitter streamNextScene(NovelUserInputRequest novelRequest) {
+		SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+
+		// 같은 요청이 진행 중이면 본문 스트리밍 없이 최종 결과만 전달, 같은 소설의 다른 요청은 앞선 생성이 끝날 때까지 대기
+		SceneGenerationGate.Ticket ticket = sceneGenerationGate.enter(novelRequest.getNovelId(),
+				SceneGenerationGate.keyOf(novelRequest));
+		if (!ticket.isLeader()) {
+			ticket.result().whenComplete((response, error) -> {
+				if (error != null) {
+					sendEvent(emitter, "error", "AI 응답을 처리하지 못했습니다. 다시 시도해 주세요.");
 				} else {
-					finalUserInput = novelRequest.getContent();
+					sendEvent(emitter, "done", response);
 				}
+				emitter.complete();
+			});
+			return emitter;
+		}
 
-				// 위에서 뒤집힌 List의 마지막 SequenceOrder 꺼내오기
-				int lastOrder = previousScenes.isEmpty() ? 0
-						: previousScenes.get(previousScenes.size() - 1).getSequenceOrder();
-				// 새로운 장면(Scene) 저장
-				StoryScene newScene = StoryScene.builder().novel(novel).userInput(finalUserInput).aiOutput(aiOutput)
-						.keyEvent(keyEvent).sequenceOrder(lastOrder + 1).affinityAtMoment(mainChar.getAffinity())
-						.build();
-
-				storySceneRepository.save(newScene);
-
-				// 5장면마다 줄거리 요약
-				if (newScene.getSequenceOrder() % 5 == 0) {
-					// @Async 비동기 실행(응답 별개, 백그라운드에서 실행)
-					summaryService.summarizeInterval(novel.getId());
-				}
+		boolean mode = "AUTO".equals(novelRequest.getMode()); // 자동 전개 모드
 
-				// 응답 DTO 반환
-				return StorySceneResponse.of(newScene, affinityDelta, reason, mainChar, !oldLevel.equals(newLevel));
+		NovelContext ctx;
+		List<Message> messages;
+		try {
+			// AI 전달용 message 데이터 준비(novel, userChar, mainChar, previousScenes) - 캐시 또는 읽기 전용 스냅샷
+			ctx = loadContext(novelRequest.getNovelId(), mode);
+			messages = buildMessage(ctx, novelRequest.getContent(), mode);
+		} catch (RuntimeException e) {
+			ticket.fail(e);
+			throw e;
+		}
+		String finalUserInput = toFinalUserInput(novelRequest.getContent(), mode);
 
-			} catch (Exception e) {
-				attempt++;
-				log.warn("AI 응답 생성 실패 (시도 {}/{}): {}", attempt, maxRetries + 1, e.getMessage());
+		OpenAiChatOptions options = sceneOptions(true);
+		AiOutputStreamParser parser = new AiOutputStreamParser("ai_output");
 
-				if (attempt > maxRetries) {
-					log.error("최대 재시도 횟수를 초과했습니다.");
-					throw new RuntimeException("AI 작가가 현재 원고 작성을 거부하고 있습니다. 잠시 후 다시 시도해 주세요.");
-				}
+		Flux<ChatResponse> stream;
+		try {
+			stream = llmGateway.stream("scene.stream", new Prompt(messages, options));
+		} catch (RuntimeException e) {
+			ticket.fail(e); // 서킷 브레이커 열림 등
+			throw e;
+		}
 
-				// 네트워크나 api의 일시적 오류를 대비하여 재시도 전 짧게 대기 후 수행
-				try {
-					Thread.sleep(500);
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt();
-				}
+		// 종료 후 처리(파싱, 누락 필드 보충 AI 호출, 저장) - 요청 스레드의 추적 문맥을 이어받아 scene.stream_finish span 으로 기록
+		Runnable finish = phaseTracer.wrap(() -> {
+			try {
+				StorySceneResponse response = finishStreamedScene(novelRequest, mode, ctx, finalUserInput, parser);
+				ticket.complete(response);
+
+				sendEvent(emitter, "done", response);
+				emitter.complete();
+			} catch (Exception | Error e) {
+				ticket.fail(e);
+				log.warn("AI 스트리밍 응답 처리 실패 (Novel ID: {}): {}", novelRequest.getNovelId(), e.getMessage());
+				sendEvent(emitter, "error", "AI 응답을 처리하지 못했습니다. 다시 시도해 주세요.");
+				emitter.complete();
 			}
-		}
+		});
+
+		// 조각 처리(SSE 전송)와 종료 후 파싱/보충 호출/저장은 모두 블로킹 작업 -> AI 응답을 받는 이벤트 루프 스레드가 아닌
+		// boundedElastic 스레드에서 실행 (같은 이벤트 루프를 쓰는 다른 스트림이 멈추지 않도록, 조각 순서는 유지)
+		Disposable subscription = stream
+				.publishOn(Schedulers.boundedElastic())
+				.subscribe(chunk -> {
+					String text = chunkText(chunk);
+					String delta = parser.feed(text);
+					if (!delta.isEmpty()) {
+						sendEvent(emitter, "delta", delta);
+					}
+				}, error -> {
+					ticket.fail(error);
+					log.warn("AI 스트리밍 응답 실패 (Novel ID: {}): {}", novelRequest.getNovelId(), error.getMessage());
+					sendEvent(emitter, "error", "AI 작가가 현재 원고 작성을 거부하고 있습니다. 잠시 후 다시 시도해 주세요.");
+					emitter.complete();
+				}, finish);
+
+		// 클라이언트 연결 종료/타임아웃 시 AI 스트림 구독 해제 (끝나지 않은 생성은 실패 처리하여 다음 요청에 차례를 넘김)
+		Runnable cancel = () -> {
+			subscription.dispose();
+			ticket.fail(new IllegalStateException("장면 생성 스트리밍이 중단되었습니다."));
+		};
+		emitter.onTimeout(cancel);
+		emitter.onCompletion(cancel);
+		emitter.onError(e -> cancel.run());
+
+		return emitter;
+	}
 
-		throw new RuntimeException("예기치 못한 시스템 오류가 발생했습니다.");
+	// 스트리밍 종료 후 처리 : 본문 스트리밍이 끝난 뒤 나머지 필드(affinity_delta, reason, key_event) 확정 후 저장
+	// 일반 생성과 같은 구간 기록 (scene.parse > llm.scene.repair(보충 호출 시간/재시도 지표) > db.save_scene)
+	private StorySceneResponse finishStreamedScene(NovelUserInputRequest novelRequest, boolean isAutoMode,
+			NovelContext ctx, String finalUserInput, AiOutputStreamParser parser) {
+		return phaseTracer.trace("scene.stream_finish", span -> {
+			tagScene(span, novelRequest, isAutoMode);
+			log.debug("AI 스트리밍 응답: {}", parser.getRaw());
+			AiSceneParser.Parsed parsed = phaseTracer.trace("scene.parse", parse -> aiSceneParser.parse(parser.getRaw()));
+			AiSceneResult result = repairScene(ctx, parsed);
+			return timeDb("save_scene", () -> storySceneService.saveGeneratedScene(ctx, finalUserInput, result));
+		});
 	}
 
 	/**
 	 * 현재 장면(AI) 재생성 서비스
+	 * - 트랜잭션을 AI 호출 전/후로 분리 : 스냅샷 조회(읽기) -> AI 호출(커넥션 없음) -> 저장(쓰기)
 	 * 
 	 * @param sceneId
 	 * @return
 	 * @throws JsonProcessingException
 	 * @throws JsonMappingException
 	 */
-	@Transactional
 	@Override
 	public StorySceneResponse regenerateScene(NovelUserInputRequest novelRequest) throws Exception {
+		return phaseTracer.trace("scene.regenerate", span -> {
+			tagScene(span, novelRequest, false);
+			return regenerate(novelRequest);
+		});
+	}
+
+	// 장면 재생성 (기존 장면 조회 -> 호감도 복구 스냅샷 -> AI 호출 -> 저장)
+	private StorySceneResponse regenerate(NovelUserInputRequest novelRequest) {
 		// 기존 장면 조회
-		StoryScene scene = storySceneRepository
-				.findByNovelIdAndId(novelRequest.getNovelId(), novelRequest.getLastSceneId())
-				.orElseThrow(() -> new EntityNotFoundException("장면을 찾을 수 없습니다."));
+		StoryScene scene = timeDb("find_scene",
+				() -> storySceneService.findScene(novelRequest.getNovelId(), novelRequest.getLastSceneId()));
 
 		if (scene.isRegenerated())
 			throw new IllegalStateException("이미 재생성된 장면입니다.");
 
-		// AI 전달용 message 데이터 준비(novel, userChar, mainChar, previousScenes)
-		NovelContext ctx = prepareContext(novelRequest.getNovelId(), false);
+		// AI 전달용 message 데이터 준비(novel, userChar, mainChar, previousScenes) - 캐시 또는 읽기 전용 스냅샷
+		NovelContext ctx = loadContext(novelRequest.getNovelId(), false);
 
-		// 기존장면에서 가져온 이전 호감도 변화 취소
-		// novel의 메인 캐릭터 호감도 복구
+		// 프롬프트에 복구된 호감도가 반영되도록 메인 캐릭터 복사본에만 이전 변화 취소 적용
+		// (캐시된 스냅샷은 공유되므로 직접 수정하지 않음, 실제 DB 반영은 저장 단계에서 수행)
 		Character mainChar = ctx.mainChar();
-		mainChar.updateAffinity(-scene.getAffinityDelta()); // 이전 생성된 장면에서의 호감도 마이너스(복구)처리하기
+		Character restoredChar = Character.builder().id(mainChar.getId()).name(mainChar.getName())
+				.role(mainChar.getRole()).affinity(mainChar.getAffinity())
+				.relationshipLevel(mainChar.getRelationshipLevel()).version(mainChar.getVersion()).build();
+		restoredChar.updateAffinity(-scene.getAffinityDelta());
+		ctx = ctx.withMainChar(restoredChar);
 
 		// AI 전달 message bulider로 생성
-		List<Message> messages = buildMessage(ctx, scene.getUserInput(), false); // 이전에 사용자가 입력했던 값 그대로 다시 보내기
+		List<Message> messages = buildPrompt(ctx, scene.getUserInput(), false); // 이전에 사용자가 입력했던 값 그대로 다시 보내기
 
-		// AI에게 다시 요청하여 내용 갱신
-		String jsonResponse = getAiResponse(messages);
+		// AI에게 다시 요청하여 내용 갱신 (트랜잭션 밖)
+		AiSceneResult result = requestScene("scene.regenerate", ctx, messages);
 
-		log.debug("AI 재생성 응답: {}", jsonResponse);
+		// 장면 갱신 + 호감도 반영 - 짧은 쓰기 트랜잭션
+		NovelContext snapshot = ctx;
+		return timeDb("save_regenerated_scene", () -> storySceneService.saveRegeneratedScene(snapshot, scene.getId(), result));
+	}
 
-		// AI 응답 파싱
-		JsonNode rootNode = objectMapper.readTree(jsonResponse);
-		String aiOutput = rootNode.get("ai_output").asText();
-		int affinityDelta = rootNode.get("affinity_delta").asInt();
-		String reason = rootNode.get("reason").asText();
-		String keyEvent = rootNode.get("key_event").asText();
+	/**
+	 * 해당 소설 모든 기록 불러오기
+	 *
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public List<StorySceneResponse> getScenes(Long novelId) {
+		return storySceneRepository.findByNovelIdOrderByIdAsc(novelId).stream().map(StorySceneResponse::from).toList();
+	}
 
-		String oldLevel = mainChar.getRelationshipLevel(); // 이전 레벨
-		mainChar.updateAffinity(affinityDelta); // character entity 새 호감도 반영
-		String newLevel = mainChar.getRelationshipLevel(); // 최종 레벨
+	/**
+	 * 해당 소설 기록 커서 조회 (sequenceOrder keyset)
+	 * - forward : cursor 이후 장면을 오래된 순으로 / backward : cursor 이전 장면을 최신 쪽부터 가져옴 (마지막 장면부터 읽기용)
+	 * - 어느 방향이든 content 는 오래된 순으로 정렬해 반환
+	 * - cursor 가 없으면 forward 는 첫 장면(sequenceOrder 0)부터, backward 는 마지막 장면부터
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public CursorPageResponse<StorySceneResponse> getScenesByCursor(Long novelId, String direction, Integer cursor,
+			int size) {
+		boolean backward = "backward".equals(direction);
+		int limit = Math.min(Math.max(size, 1), MAX_SCENE_PAGE_SIZE) + 1; // 다음 페이지 존재 여부 판단용으로 1개 더 조회
+
+		List<SceneHistoryRow> rows = backward
+				? storySceneRepository.findHistoryBefore(novelId, cursor != null ? cursor : Integer.MAX_VALUE,
+						PageRequest.of(0, limit))
+				: storySceneRepository.findHistoryAfter(novelId, cursor != null ? cursor : -1, PageRequest.of(0, limit));
 
-		scene.setAiOutput(aiOutput);
-		scene.setKeyEvent(keyEvent);
-		scene.setAffinityDelta(affinityDelta); // story_scene 새로운 호감도 저장
-		scene.setAffinityAtMoment(mainChar.getAffinity()); // 갱신된 누적 호감도 스냅샷
+		boolean hasNext = rows.size() == limit;
+		if (hasNext) rows = rows.subList(0, limit - 1);
 
-		scene.setRegenerated(true); // 재생성 체크
-		scene.setEdited(true); // 재생성한 내용은 수정 불가
+		// 다음 커서 : 이번 페이지에서 조회 방향으로 마지막 장면의 순서
+		String nextCursor = hasNext ? String.valueOf(rows.get(rows.size() - 1).sequenceOrder()) : null;
 
-		return StorySceneResponse.of(scene, affinityDelta, reason, mainChar, !oldLevel.equals(newLevel));
+		List<StorySceneResponse> content = new ArrayList<>(rows.stream().map(StorySceneResponse::from).toList());
+		if (backward) Collections.reverse(content);
+
+		return new CursorPageResponse<>(content, nextCursor, hasNext);
 	}
 
 	/**
-	 * 해당 소설 모든 기록 불러오기
+	 * 해당 소설 모든 기록을 NDJSON(한 줄에 장면 하나)으로 출력
+	 * - JDBC fetch size 단위로 읽고, 출력한 장면은 바로 영속성 컨텍스트에서 분리하여 장면 수와 관계없이 메모리 사용 일정
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public void streamScenes(Long novelId, OutputStream out) throws IOException {
+		int written = 0;
+		try (Stream<StoryScene> scenes = storySceneRepository.streamByNovelId(novelId)) {
+			Iterator<StoryScene> it = scenes.iterator();
+			while (it.hasNext()) {
+				StoryScene scene = it.next();
+				out.write(objectMapper.writeValueAsBytes(StorySceneResponse.from(scene)));
+				out.write('\n');
+				entityManager.detach(scene);
+
+				if (++written % SCENE_STREAM_FLUSH_EVERY == 0) out.flush();
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * 조회수 증가 - DB는 NovelStatsCounter 가 주기적으로 묶어서 반영
+	 * - 공유 중인 소설인지 확인 후 집계 (임의의 ID 로 카운터가 늘어나지 않도록), 작가 본인 조회는 제외
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public void increaseViewCount(Long novelId, int viewerId) {
+		Integer authorId = novelRepository.findSharedAuthorId(novelId)
+				.orElseThrow(() -> new EntityNotFoundException("공유 중인 소설을 찾을 수 없습니다. ID: " + novelId));
+		if (authorId == viewerId) return;
+
+		novelStatsCounter.recordView(novelId, viewerId);
+	}
+
+	/**
+	 * 소설 통계 조회 (반영 대기 중인 증가분 포함)
 	 *
 	 */
 	@Transactional(readOnly = true)
 	@Override
-	public List<StorySceneResponse> getScenes(Long novelId) {
-		return storySceneRepository.findByNovelIdOrderByIdAsc(novelId).stream().map(StorySceneResponse::from).toList();
+	public NovelCounts getNovelCounts(Long novelId) {
+		return novelStatsCounter.counts(novelId);
 	}
 
 	/**
@@ -350,7 +500,35 @@ public class NovelServiceImpl implements NovelService {
 	@Override
 	public List<NovelResponse> getMyNovelList(int userId) {
 		List<Novel> novelList = novelRepository.findAllByAuthorIdAndIsDeleteFalse(userId);
+		return toNovelResponses(novelList);
+	}
+
+	/**
+	 * userId와 일치하는 소설 목록 커서 조회 (최신순 keyset, 전체 개수 조회 없음)
+	 *
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public CursorPageResponse<NovelResponse> getMyNovelListByCursor(int userId, String cursor, int size) {
+		NovelCursor position = NovelCursor.decode("mine", cursor);
+		int limit = Math.min(Math.max(size, 1), 50) + 1; // 다음 페이지 존재 여부 판단용으로 1개 더 조회
+
+		List<Novel> novelList = novelRepository.findMyNovelsBefore(userId, position.novelId(), PageRequest.of(0, limit));
+
+		boolean hasNext = novelList.size() == limit;
+		if (hasNext) novelList = novelList.subList(0, limit - 1);
+
+		String nextCursor = null;
+		if (hasNext) {
+			long lastId = novelList.get(novelList.size() - 1).getId();
+			nextCursor = new NovelCursor("mine", lastId, lastId).encode();
+		}
+
+		return new CursorPageResponse<>(toNovelResponses(novelList), nextCursor, hasNext);
+	}
 
+	// 소설 목록 -> 응답 변환 (통계/메인 캐릭터는 한 번에 조회)
+	private List<NovelResponse> toNovelResponses(List<Novel> novelList) {
 		List<Long> novelIds = novelList.stream().map(Novel::getId).toList(); // 소설의 id들만 추출
 
 		List<NovelStats> statsList = novelStatsRepository.findStatsByNovelIds(novelIds); // 해당 소설의 통계 정보만 한번에 조회
@@ -363,101 +541,83 @@ public class NovelServiceImpl implements NovelService {
 																													// 유지
 				));
 
-		return novelList.stream().map(novel -> {
+		List<NovelResponse> responses = novelList.stream().map(novel -> {
 			// 해당 소설의 통계 정보와 캐릭터 정보를 각각 Map에서 꺼냄
 			NovelStats stats = statsMap.get(novel.getId());
 			Character mainChar = characterMap.get(novel.getId());
 
-			// DTO의 of 메서드에 함께 전달
-			return NovelResponse.of(novel, stats, mainChar);
+			// DTO의 of 메서드에 함께 전달 (+ 커버 축소본)
+			return NovelResponse.of(novel, stats, mainChar).withImageVariants(imageVariants);
 		}).toList();
-
+		return novelStatsCounter.mergePending(responses); // 아직 반영되지 않은 조회수/좋아요 합산
 	}
 
+
 	/**
 	 * 도서관(모든 소설 조회 - 정렬) 서비스
 	 * 
 	 * @param order
 	 * @return
 	 */
-	@Transactional(readOnly = true)
 	@Override
 	public Page<NovelResponse> getNovelListSortByAny(String order, int page, int size) {
+		// 도서관 카드 읽기 모델에서 조회 (정렬별 인덱스 단일 테이블 조회)
+		return libraryCardService.getLibraryPage(order, page, size);
+	}
+	/**
+	 * 도서관(모든 소설 조회 - 정렬) 커서 조회 서비스
+	 * 
+	 */
+	@Override
+	public CursorPageResponse<NovelResponse> getNovelListByCursor(String order, String cursor, int size) {
+		return libraryCardService.getLibraryCursorPage(order, cursor, size);
+	}
 
-		// 정렬 조건 설정
-		Sort sort = switch (order) {
-		case "views" -> Sort.by(Sort.Direction.DESC, "ns.viewCount");
-		case "likes" -> Sort.by(Sort.Direction.DESC, "ns.likeCount");
-		default -> Sort.by(Sort.Direction.DESC, "n.sharedAt");
-		};
 
-		// Pageable 객채 생성 (페이지 0부터 시작)
-		Pageable pageable = PageRequest.of(page, size, sort);
-		
-		// Repository에서 엔티티 조회(Author FETCH JOIN)
-		Page<Novel> novelPage = novelRepository.findSharedNovels(pageable);
-		
-		List<Long> novelIds = novelPage.getContent().stream().map(Novel::getId).toList();
-		Map<Long, Character> mainCharMap = characterRepository.findMainCharactersByNovelIds(novelIds)
-		        .stream()
-		        .collect(Collectors.toMap(c -> c.getNovel().getId(), c -> c, (a, b) -> a));
-		
-		// 엔티티를 NovelListResponse DTO로 변환
-	    return novelPage.map(novel -> {
-	        // 통계 정보 조회 (없으면 0L)
-	        NovelStats stats = novelStatsRepository.findByNovelId(novel.getId()).orElse(null);
-	        
-	        // 메인 캐릭터 정보 추출
-	        Character mainChar = mainCharMap.get(novel.getId());
-	        
-	        return NovelResponse.of(novel, stats, mainChar);
-	    });
-	}
 
 	/**
 	 * 마지막 장면 수정 서비스
-	 *
+	 * - AI 호출(key_event 요약)은 트랜잭션 밖에서 실행 후 짧은 쓰기 트랜잭션으로 반영
 	 */
-	@Transactional
 	@Override
 	public StorySceneResponse generateEditScene(NovelUserInputRequest novelRequest) throws Exception {
-		// 해당 엔티티 조회
-		StoryScene scene = storySceneRepository
-				.findByNovelIdAndId(novelRequest.getNovelId(), novelRequest.getLastSceneId())
-				.orElseThrow(() -> new EntityNotFoundException("해당 장면을 찾을 수 없습니다."));
+		return phaseTracer.trace("scene.edit", span -> {
+			tagScene(span, novelRequest, false);
+			return edit(novelRequest);
+		});
+	}
 
-		// 내용 업데이트(수정한 콘텐트)
-		scene.setAiOutput(novelRequest.getContent());
-		scene.setEdited(true);
-		scene.setRegenerated(true);
+	// 마지막 장면 수정 (장면 확인 -> key_event 요약 AI 호출 -> 저장)
+	private StorySceneResponse edit(NovelUserInputRequest novelRequest) {
+		// 해당 장면 존재 확인 (없는 장면이면 AI 호출 전에 실패)
+		timeDb("find_scene", () -> storySceneService.findScene(novelRequest.getNovelId(), novelRequest.getLastSceneId()));
 
 		// AI 요청(key_event 생성 및 수정)
 		String changeKeyEventPrompt = "작성된 내용 : " + novelRequest.getContent()
 				+ "\n당신은 전문 편집자입니다. 위 내용을 2문장 이내의 keyEvent로 요약하세요.";
-		String newKeyEvent = chatModel.call(changeKeyEventPrompt);
-		scene.setKeyEvent(newKeyEvent);
-
-		// 만약 해당 행에 summary가 있었다면 장면 요약 다시 생성하여 업데이트
-		if (scene.getSummary() != null && !scene.getSummary().isEmpty()) {
-			summaryService.summarizeInterval(novelRequest.getNovelId());
-		}
-
-		Character mainChar = characterRepository.findByNovelIdAndRole(novelRequest.getNovelId(), CharacterRole.MAIN);
+		String newKeyEvent = llmGateway.callText("scene.edit-key-event", new Prompt(changeKeyEventPrompt));
 
-		// -> 두번의 AI 호출됨 (비용 고려해볼것)
-		return StorySceneResponse.of(scene, 0, "직접 수정됨", mainChar, false);
+		// 내용/사건 반영 - 짧은 쓰기 트랜잭션
+		return timeDb("save_edited_scene", () -> storySceneService.saveEditedScene(novelRequest.getNovelId(),
+				novelRequest.getLastSceneId(), novelRequest.getContent(), newKeyEvent));
 	}
 
 	/**
 	 * 소설 정보 업데이트 서비스 + 공개일자 업데이트 추가 (26.01.29)
+	 * - 커버/프로필 이미지 저장(트랜잭션 밖) -> 설정 반영 + 이미지 교체(트랜잭션, 이전 이미지 참조 -1)
 	 * 
 	 * @throws IOException
-	 * @throws IllegalStateException
 	 *
 	 */
-	@Transactional
 	@Override
 	public int updateNovelSettings(Long novelId, NovelSettingRequest request) throws Exception {
+		StoredBlob cover = blobStore.store(request.getCoverImageUrl());
+		StoredBlob profile = request.getMainCharId() != null ? blobStore.store(request.getProfileImageUrl()) : null;
+		return transactionTemplate.execute(status -> applyNovelSettings(novelId, request, cover, profile));
+	}
+
+	// 소설 정보 업데이트 DB 반영
+	private int applyNovelSettings(Long novelId, NovelSettingRequest request, StoredBlob cover, StoredBlob profile) {
 		Novel novel = novelRepository.findById(novelId).orElseThrow(() -> new RuntimeException("소설을 찾을 수 없습니다."));
 
 		// null 값 제외한 일반 필드 업데이트
@@ -468,13 +628,15 @@ public class NovelServiceImpl implements NovelService {
 			novel.updateTags(request.getTags());
 		}
 
-		// 커버 이미지 처리
-		MultipartFile coverImage = request.getCoverImageUrl();
-		String coverRename = null;
-		if (coverImage != null && !coverImage.isEmpty()) {
-			coverRename = Utility.fileRename(coverImage.getOriginalFilename());
-			coverImage.transferTo(new File(novelFolderPath + coverRename));
-			novel.setCoverImageUrl(novelWebPath + coverRename);
+		// 커버 이미지 교체
+		if (cover != null) {
+			blobStore.release(novel.getCoverImageUrl());
+			blobStore.retain(cover);
+			novel.setCoverImageUrl(cover.url());
+		}
+		if (cover != null || request.getCoverImagePosY() != null) {
+			imageVariants.generateAfterCommit(novel.getCoverImageUrl(), novel.getCoverImagePosY(), ImageVariant.CARD,
+					ImageVariant.DETAIL);
 		}
 
 		// 캐릭터 정보 + 프로필 이미지 처리
@@ -488,16 +650,23 @@ public class NovelServiceImpl implements NovelService {
 			if (request.getProfileImagePosY() != null)
 				mainChar.setProfileImagePosY(request.getProfileImagePosY());
 
-			MultipartFile profileImage = request.getProfileImageUrl();
-			String profileRename = null;
-			if (profileImage != null && !profileImage.isEmpty()) {
-				profileRename = Utility.fileRename(profileImage.getOriginalFilename());
-				profileImage.transferTo(new File(charProfileFolderPath + profileRename));
-				mainChar.setProfileImageUrl(charProfileWebPath + profileRename);
+			if (profile != null) {
+				blobStore.release(mainChar.getProfileImageUrl());
+				blobStore.retain(profile);
+				mainChar.setProfileImageUrl(profile.url());
+			}
+			if (profile != null || request.getProfileImagePosY() != null) {
+				imageVariants.generateAfterCommit(mainChar.getProfileImageUrl(), mainChar.getProfileImagePosY(),
+						ImageVariant.AVATAR);
 			}
 
 		}
 
+		novelContextCache.evictAfterCommit(novelId);
+
+		// 공유/비공유, 제목/커버/태그 등 변경 -> 도서관 카드 갱신 (같은 트랜잭션)
+		libraryCardService.refresh(novelId);
+
 		return 1;
 	}
 
@@ -512,36 +681,50 @@ public class NovelServiceImpl implements NovelService {
 				.orElseThrow(() -> new EntityNotFoundException("소설을 찾을 수 없거나 이미 삭제되었습니다. ID: " + novelId));
 		novel.setDelete(true);
 
+		novelContextCache.evictAfterCommit(novelId);
+		libraryCardService.refresh(novelId); // 도서관에서 제외
+
 		return 1;
 	}
 
 	/**
-	 * Message 전달 데이터 준비 메서드
+	 * AI 전달용 컨텍스트 조회 (소설별 컨텍스트 캐시 사용)
+	 * - 캐시에는 최근 CACHED_SCENES 개 장면까지 보관, 실제로 넣을 장면은 buildMessage 에서 토큰 예산에 맞게 선택
 	 * 
 	 * @param novelId
+	 * @param isAutoMode : 자동 전개모드 플래그
 	 * @return
 	 */
-	private NovelContext prepareContext(Long novelId, boolean isAuto) {
-
-		int count = isAuto ? 5 : 3; // 자동전개 모드에 따라 갯수 변경
-
-		// 최근 n개 장면 조회 및 정렬
-		List<StoryScene> previousScenes = storySceneRepository.findByNovelIdOrderBySequenceOrderDesc(novelId,
-				PageRequest.of(0, count)); // 0부터 count 까지 페이지 잘라오기
-		Collections.reverse(previousScenes); // 반대로 정렬
+	private NovelContext loadContext(Long novelId, boolean isAutoMode) {
+		// 캐시 미스일 때만 하위에 db.load_context span 이 생김
+		return phaseTracer.trace("scene.load_context", span -> novelContextCache.get(novelId,
+				id -> timeDb("load_context", () -> storySceneService.loadContext(id, true))));
+	}
 
-		// 현재 소설 조회
-		Novel novel = findNovelById(novelId);
+	// DB 구간 시간 기록 (트랜잭션 커밋 포함) - 지표 amuse.db.phase{phase}, span db.{phase}
+	private <T> T timeDb(String phase, Supplier<T> work) {
+		return phaseTracer.trace("db." + phase,
+				span -> Timer.builder("amuse.db.phase").tag("phase", phase).register(meterRegistry).record(work));
+	}
 
-		// 현재 소설 속 유저,메인 캐릭터 조회
-		Character userChar = characterRepository.findByNovelIdAndRole(novelId, CharacterRole.USER);
-		Character mainChar = characterRepository.findByNovelIdAndRole(novelId, CharacterRole.MAIN);
+	// 프롬프트 조립 구간 (span scene.build_prompt - 패킹된 토큰 수 포함)
+	private List<Message> buildPrompt(NovelContext ctx, String userInput, boolean isAutoMode) {
+		return phaseTracer.trace("scene.build_prompt", span -> buildMessage(ctx, userInput, isAutoMode));
+	}
 
-		return new NovelContext(novel, userChar, mainChar, previousScenes);
+	// 장면 생성 span 공통 태그 (소설 ID, 작성 모드 AUTO/USER)
+	private void tagScene(PhaseTracer.Scope span, NovelUserInputRequest request, boolean isAutoMode) {
+		if (request.getNovelId() != null) span.tag("novel.id", request.getNovelId());
+		span.tag("mode", isAutoMode ? "AUTO" : "USER");
 	}
 
 	/**
 	 * AI 전달 Message 빌더
+	 * - 공급자 프롬프트 캐시(앞부분이 같은 요청은 캐시된 토큰으로 처리)가 적중하도록 바뀌지 않는 부분을 앞에, 바뀌는 부분을 뒤에 배치
+	 *   1. 시스템 메세지 : 공통 규칙(모든 소설 동일) + 캐릭터 설정(소설별 동일) -> 바이트 단위로 같은 접두부
+	 *   2. 이전 장면 (User/Assistant)
+	 *   3. 시스템 메세지 : 현재 상태(줄거리 요약, 이전 사건, 관계/호감도) + 작성 모드 지시 - 요청마다 바뀜
+	 *   4. 사용자 입력
 	 * 
 	 * @param context    : 현재 소설 정보 모음 객체
 	 * @param userInput  : 사용자 입력값
@@ -554,127 +737,169 @@ public class NovelServiceImpl implements NovelService {
 		Character mainChar = context.mainChar();
 		List<StoryScene> previousScenes = context.previousScenes();
 
-		// AI 에게 전달할 메세지 List
-		List<Message> messages = new ArrayList<>();
+		String summary;
+		if (novel.getTotalSummary() != null && !novel.getTotalSummary().isBlank()) {
+			summary = novel.getTotalSummary();
+		} else {
+			String description = (novel.getDescription() != null && !novel.getDescription().isBlank())
+					? novel.getDescription()
+					: "이제 막 이야기가 시작되는 단계입니다. 등장인물의 설정에 집중하여 서사를 시작하세요.";
+			summary = "\n(초기 서사 단계): " + description;
+		}
 
-		try {
+		// 고정 접두부 : 공통 규칙 + 캐릭터 설정 (요청마다 바뀌는 값은 넣지 않음)
+		String stablePrefix = promptTemplates.get(WRITE_PROMPT).render(Map.of()) + "\n\n"
+				+ promptTemplates.get(CHARACTER_PROMPT).render(Map.of(
+						"characterSettings", novel.getCharacterSettings(),
+						"userName", userChar.getName(),
+						"mainCharName", mainChar.getName()));
+
+		// 현재 상태 : 줄거리 요약 + 관계/호감도 (한 번만 렌더링, 패킹으로 고른 이전 사건 목록은 뒤에 이어 붙임)
+		String state = promptTemplates.get(STATE_PROMPT).render(Map.of(
+				"totalSummary", summary,
+				"relationLevel", mainChar.getRelationshipLevel(),
+				"affinityScore", mainChar.getAffinity(),
+				"mainCharName", mainChar.getName()));
+
+		StringBuilder instructionBuilder = new StringBuilder();
+		String userText = (userInput != null) ? userInput.trim() : "";
+		boolean hasInput = !userText.isEmpty();
+
+		if (isAutoMode && !hasInput) {
+			// 순수 자동 전개
+			instructionBuilder.append("\n\n### [MODE: PURE AUTO]\n").append("- 현재 사용자의 입력이 전혀 없는 상태입니다.\n")
+					.append("- 당신이 '작가'로서 이전 사건 흐름(key_event)을 분석해 완전히 새로운 사건이나 감정적 진전을 주도하십시오.\n")
+					.append("- 주변 환경 변화나 캐릭터의 돌발 행동을 통해 서사를 확장하십시오.");
+
+		} else if (isAutoMode && hasInput) {
+			// 가이드형 자동 전개
+			instructionBuilder.append("\n\n### [MODE: GUIDED AUTO]\n").append("- 사용자의 가이드 입력: \"").append(userText)
+					.append("\"\n").append("- 위 가이드를 방향성으로 삼되, 당신이 주도적으로 상세한 묘사와 돌발 상황을 덧붙여 서사를 풍성하게 만드십시오.\n")
+					.append("- 이전 장면 및 사건 흐름과 사용자의 가이드를 자연스럽게 연결하십시오.");
+
+		} else {
+			// 일반 사용자 입력 모드
+			instructionBuilder.append("\n\n### [MODE: MANUAL USER INPUT]\n").append("- 사용자의 입력 내용: \"")
+					.append(userText).append("\"\n")
+					.append("- 사용자의 입력을 최우선으로 반영하여 해당 상황에 대한 캐릭터의 반응과 결과를 묘사하십시오.\n")
+					.append("- 이전 장면 및 사건 흐름의 맥락을 유지하십시오.");
+		}
 
-			// 파일에서 시스템 프롬프트 읽기
-			String baseSystemPrompt = StreamUtils.copyToString(aiSystemPromptResource.getInputStream(),
-					StandardCharsets.UTF_8);
-
-			StringBuilder initialContext = new StringBuilder();
-			;
-			if (novel.getTotalSummary() != null && !novel.getTotalSummary().isBlank()) {
-				initialContext.append(novel.getTotalSummary());
-			} else {
-				String description = (novel.getDescription() != null && !novel.getDescription().isBlank())
-						? novel.getDescription()
-						: "이제 막 이야기가 시작되는 단계입니다. 등장인물의 설정에 집중하여 서사를 시작하세요.";
-				initialContext.append("\n(초기 서사 단계): ").append(description);
-			}
+		instructionBuilder.append("\n- 출력 형식은 시스템 규칙의 Critical Output Rule 을 따르십시오.");
 
-			baseSystemPrompt = baseSystemPrompt.replace("{{totalSummary}}", initialContext.toString())
-					.replace("{{characterSettings}}", novel.getCharacterSettings())
-					.replace("{{relationLevel}}", mainChar.getRelationshipLevel())
-					.replace("{{affinityScore}}", String.valueOf(mainChar.getAffinity()))
-					.replace("{{userName}}", userChar.getName()).replace("{{mainCharName}}", mainChar.getName());
-
-			StringBuilder instructionBuilder = new StringBuilder();
-			String userText = (userInput != null) ? userInput.trim() : "";
-			boolean hasInput = !userText.isEmpty();
-
-			if (isAutoMode && !hasInput) {
-				// 순수 자동 전개
-				instructionBuilder.append("\n\n### [MODE: PURE AUTO]\n").append("- 현재 사용자의 입력이 전혀 없는 상태입니다.\n")
-						.append("- 당신이 '작가'로서 이전 5개의 key_event를 분석해 완전히 새로운 사건이나 감정적 진전을 주도하십시오.\n")
-						.append("- 주변 환경 변화나 캐릭터의 돌발 행동을 통해 서사를 확장하십시오.");
-
-			} else if (isAutoMode && hasInput) {
-				// 가이드형 자동 전개
-				instructionBuilder.append("\n\n### [MODE: GUIDED AUTO]\n").append("- 사용자의 가이드 입력: \"").append(userText)
-						.append("\"\n").append("- 위 가이드를 방향성으로 삼되, 당신이 주도적으로 상세한 묘사와 돌발 상황을 덧붙여 서사를 풍성하게 만드십시오.\n")
-						.append("- 이전 3개의 key_event와 사용자의 가이드를 자연스럽게 연결하십시오.");
-
-			} else {
-				// 일반 사용자 입력 모드
-				instructionBuilder.append("\n\n### [MODE: MANUAL USER INPUT]\n").append("- 사용자의 입력 내용: \"")
-						.append(userText).append("\"\n")
-						.append("- 사용자의 입력을 최우선으로 반영하여 해당 상황에 대한 캐릭터의 반응과 결과를 묘사하십시오.\n")
-						.append("- 이전 3개의 key_event 맥락을 유지하십시오.");
-			}
+		String instruction = instructionBuilder.toString();
+		UserMessage userMessage = new UserMessage(hasInput ? userInput : "이전 흐름을 이어 다음 장면을 작성하세요.");
 
-			instructionBuilder.append("\n\n[!!! CRITICAL OUTPUT RULE !!!]\n")
-					.append("- 반드시 'ai_output' 필드에 800자 내외의 풍부한 소설 본문을 작성하십시오.\n")
-					.append("- 'ai_output', 'affinity_delta', 'reason', 'key_event' 네 가지 필드는 단 하나라도 누락되어서는 안 됩니다.\n")
-					.append("- 본문(ai_output)이 없는 응답은 실패한 응답으로 간주합니다.");
-
-			// 시스템 메시지 세팅
-			messages.add(new SystemMessage(baseSystemPrompt + instructionBuilder.toString()));
-
-			// 이전 맥락(최근3개) 메시지 객체로 추가
-			for (StoryScene scene : previousScenes) {
-				// 이전 사용자의 입력 (없으면 자동전개 표시) : 무슨 대화를 했는지 맥락 파악 용도
-				String prevUserInput = (scene.getUserInput() != null && !scene.getUserInput().isBlank())
-						? scene.getUserInput()
-						: "(시스템: 자동 전개됨)";
-				messages.add(new UserMessage(prevUserInput));
-
-				// 이전 DB 본문을 가짜 JSON으로 감싸서 전달: 이전의 대답 형식(JSON)을 기억, 형식 유지 용도
-				Map<String, Object> assistantData = new HashMap<>();
-				assistantData.put("ai_output", scene.getAiOutput());
-				assistantData.put("affinity_delta", 0);
-				assistantData.put("reason", "이전 대화 맥락");
-				assistantData.put("key_event", scene.getKeyEvent() != null ? scene.getKeyEvent() : "사건 요약");
-
-				String assistantJson = objectMapper.writeValueAsString(assistantData);
-				messages.add(new AssistantMessage(assistantJson));
-			}
+		// 토큰 예산 안에서 이전 맥락 선택 (최신 장면 본문 -> 오래된 장면 key_event, 줄거리 요약은 state 에 포함되어 고정 부분으로 계산)
+		List<Message> history = context.history() != null ? context.history()
+				: novelContextCache.renderHistory(previousScenes);
+		ContextPacker.Packed packed = contextPacker.pack(stablePrefix + state + instruction, userMessage, null,
+				previousScenes, history, isAutoMode);
+		log.debug("컨텍스트 패킹 (Novel ID: {}): {} / {} 토큰 (본문 {}개, 사건 {}개)", novel.getId(), packed.tokens(),
+				packed.budget(), packed.verbatimScenes(), packed.keyEventScenes());
+		phaseTracer.tag("context.tokens", packed.tokens());
+		phaseTracer.tag("context.verbatim_scenes", packed.verbatimScenes());
 
-			if (userInput != null && !userInput.trim().isEmpty()) {
-				messages.add(new UserMessage(userInput));
-			} else {
-				messages.add(new UserMessage("이전 흐름을 이어 다음 장면을 작성하세요."));
-			}
+		String earlierEvents = packed.earlierEvents().isEmpty() ? ""
+				: "\n\n# 이전 사건 흐름 (오래된 순)\n" + packed.earlierEvents();
 
-		} catch (IOException e) {
-			log.error("프롬프트 파일을 읽거나 JSON을 파싱하는 중 오류 발생", e);
-			throw new RuntimeException("AI 응답 처리 실패");
-		}
+		// AI 에게 전달할 메세지 List : 고정 접두부 + 이전 맥락(최근 장면) + 현재 상태/모드 + 사용자 입력
+		List<Message> messages = new ArrayList<>(packed.history().size() + 3);
+		messages.add(new SystemMessage(stablePrefix));
+		messages.addAll(packed.history());
+		messages.add(new SystemMessage(state + earlierEvents + instruction));
+		messages.add(userMessage);
 
 		return messages;
 	}
 
-	// User의 메시지 전달 및 AI 답변 반환받기
-	private String getAiResponse(List<Message> messages) {
-		OpenAiChatOptions options = OpenAiChatOptions.builder().temperature(0.8).build();
-
-		Prompt prompt = new Prompt(messages, options);
+	// AI 장면 요청 + 응답 파싱 (LlmGateway : 제한 시간, 재시도, 서킷 브레이커)
+	// - 형식 오류(본문 누락, JSON 깨짐)만 재호출, 부가 필드 하나 누락은 repairScene 으로 보충
+	private AiSceneResult requestScene(String operation, NovelContext ctx, List<Message> messages) {
+		AiSceneParser.Parsed parsed = llmGateway.call(operation, new Prompt(messages, sceneOptions(false)), response -> {
+			String text = response.getResult().getOutput().getText();
+			log.debug("AI 응답 ({}): {}", operation, text);
+			return phaseTracer.trace("scene.parse", span -> aiSceneParser.parse(text));
+		});
+		return repairScene(ctx, parsed);
+	}
 
-		// AI 호출 및 응답 반환
-		return extractJson(chatModel.call(prompt) // AI에게 메시지 뭉치를 보내고 응답(ChatResponse)을 받음
-				.getResult() // 응답 중에서 첫 번째 결과(Generation)를 선택
-				.getOutput() // 결과 내부에 포함된 AI 메시지(AssistantMessage) 객체를 꺼냄
-				.getText()); // 메시지 객체 안의 '순수 텍스트(String)'만 추출
+	// 장면 요청 옵션 - 공급자 측 구조화 출력(json_schema) 지정
+	// 스트리밍은 마지막 조각에 토큰 사용량(캐시 적중 포함)을 받도록 stream_options.include_usage 지정
+	private OpenAiChatOptions sceneOptions(boolean stream) {
+		OpenAiChatOptions.Builder builder = OpenAiChatOptions.builder().temperature(0.8)
+				.responseFormat(aiSceneParser.responseFormat());
+		if (stream) builder.streamUsage(true);
+		return builder.build();
 	}
 
-	// json 포맷 제거하여 파싱
-	private String extractJson(String text) {
-		if (text == null)
-			return "{}";
+	// 누락된 부가 필드(reason 또는 key_event) 하나를 짧은 AI 호출로 보충 (본문 800자 전체를 다시 생성하지 않음)
+	// 보충 호출도 실패하면 대체값으로 저장 (이미 받은 본문은 버리지 않음)
+	private AiSceneResult repairScene(NovelContext ctx, AiSceneParser.Parsed parsed) {
+		AiSceneResult result = parsed.result();
+		String field = parsed.missingField();
+		if (field == null) return result;
+
+		boolean isReason = AiSceneParser.REASON.equals(field);
+		String instruction = isReason
+				? "'" + ctx.mainChar().getName() + "'이(가) 이 장면에서 어떤 감정을 느꼈는지 근거를 포함하여 호감도 변동 이유를 기술"
+				: "이 장면에서 일어난 핵심 사건을 한 문장으로 요약";
+		String systemPrompt = promptTemplates.get(REPAIR_PROMPT)
+				.render(Map.of("field", field, "instruction", instruction));
+		OpenAiChatOptions options = OpenAiChatOptions.builder().temperature(0.3).maxTokens(200).build();
+
+		String value;
+		try {
+			value = llmGateway.callText("scene.repair",
+					new Prompt(List.of(new SystemMessage(systemPrompt), new UserMessage(result.aiOutput())), options))
+					.trim();
+		} catch (RuntimeException e) {
+			log.warn("AI 응답 누락 필드 보충 실패 ({}) - 대체값 사용: {}", field, e.getMessage());
+			value = "";
+		}
+		if (value.isBlank() && !isReason) value = firstSentence(result.aiOutput());
 
-		// 1. 마크다운 코드 블록 제거 (```json 또는 ```)
-		String cleaned = text.replaceAll("(?s)```(?:json)?|```", "").trim();
+		log.debug("AI 응답 누락 필드 보충 ({}): {}", field, value);
+		return isReason
+				? new AiSceneResult(result.aiOutput(), result.affinityDelta(), value, result.keyEvent())
+				: new AiSceneResult(result.aiOutput(), result.affinityDelta(), result.reason(), value);
+	}
+
+	// 본문 첫 문장 (최대 100자) - key_event 대체값
+	private String firstSentence(String text) {
+		String trimmed = text.strip();
+		int end = trimmed.length();
+		for (String mark : new String[] { ". ", "! ", "? ", "\n" }) {
+			int index = trimmed.indexOf(mark);
+			if (index != -1 && index < end) end = index + 1;
+		}
+		return trimmed.substring(0, Math.min(end, 100)).strip();
+	}
 
-		// 2. 만약 앞뒤에 불필요한 설명글이 붙어있다면 { 로 시작해서 } 로 끝나는 부분만 추출
-		int firstBrace = cleaned.indexOf("{");
-		int lastBrace = cleaned.lastIndexOf("}");
+	// 스트리밍 조각에서 텍스트 추출 (메타데이터만 있는 조각은 빈 문자열)
+	private String chunkText(ChatResponse chunk) {
+		if (chunk == null || chunk.getResult() == null || chunk.getResult().getOutput() == null) return "";
+		String text = chunk.getResult().getOutput().getText();
+		return text != null ? text : "";
+	}
 
-		if (firstBrace != -1 && lastBrace != -1 && firstBrace < lastBrace) {
-			return cleaned.substring(firstBrace, lastBrace + 1);
+	// SSE 이벤트 전송 (연결이 끊긴 경우 무시)
+	private void sendEvent(SseEmitter emitter, String name, Object data) {
+		try {
+			emitter.send(SseEmitter.event().name(name).data(data));
+		} catch (IOException | IllegalStateException e) {
+			log.debug("SSE 전송 실패 ({}): {}", name, e.getMessage());
 		}
+	}
 
-		return cleaned;
+	// 저장용 사용자 입력값 (자동 전개 모드 표시)
+	private String toFinalUserInput(String content, boolean isAutoMode) {
+		if (content == null || content.isBlank()) {
+			return "자동 전개 모드(AUTO) : 사용자 입력이 없습니다.";
+		} else if (isAutoMode) {
+			return "자동 전개 모드(AUTO) : " + content;
+		}
+		return content;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.muse.amuze.novel.model.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.muse.amuze.novel.model.dto.NovelCounts;
+import com.muse.amuze.novel.model.dto.NovelResponse;
+import com.muse.amuze.novel.model.entity.NovelStats;
+import com.muse.amuze.novel.model.repository.NovelStatsRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소설 조회수 지연 기록(write-behind) 카운터
+ * - 증가분은 소설별 LongAdder(스레드별로 나뉜 셀)에 누적하여 인기 소설에 요청이 몰려도 DB 행 잠금 경합이 없음
+ * - 같은 사용자의 같은 소설 조회는 view-window 동안 한 번만 집계 (새로고침/반복 호출로 부풀리기 방지)
+ * - flush-interval 마다 누적분을 `view_count = view_count + ?` 형태의 배치 UPDATE 로 한 번에 반영 (novel_stats, library_card)
+ * - 반영 실패 시 누적분을 되돌려 다음 주기에 다시 시도, 종료 시 남은 누적분 반영
+ * - 유실 범위 : 비정상 종료(프로세스 강제 종료 등) 시 마지막 반영 이후 최대 flush-interval 동안의 증가분
+ * - 조회 시 DB 값에 아직 반영되지 않은 누적분을 더해서 반환
+ */
+@Component
+@Slf4j
+public class NovelStatsCounter {
+
+	private static final String UPDATE_STATS = "UPDATE novel_stats SET view_count = view_count + ? WHERE novel_id = ?";
+	private static final String UPDATE_LIBRARY_CARD = "UPDATE library_card SET view_count = view_count + ? WHERE novel_id = ?";
+
+	// 소설별 누적 증가분
+	private static final class Cell {
+		final LongAdder views = new LongAdder();
+		boolean idle; // 직전 반영 주기에 증가분이 없었음 (flush 스레드에서만 사용)
+	}
+
+	private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+	private final Map<Long, Cell> retired = new HashMap<>(); // 정리된 셀 (flush 스레드에서만 사용)
+	private volatile Map<Long, Long> inFlight = Map.of(); // 셀에서 꺼내 DB에 반영 중인 증가분 (조회 시 포함)
+	private final Cache<String, Boolean> recentViews; // 최근 집계한 (소설, 사용자) - view-window 동안 재집계하지 않음
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final NovelStatsRepository novelStatsRepository;
+
+	// 지표
+	private final LongAdder flushedRows = new LongAdder();
+	private final LongAdder flushFailures = new LongAdder();
+
+	public NovelStatsCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			NovelStatsRepository novelStatsRepository,
+			@Value("${amuse.stats.view-window:30m}") Duration viewWindow,
+			@Value("${amuse.stats.view-window-max-size:100000}") long viewWindowMaxSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.novelStatsRepository = novelStatsRepository;
+		this.recentViews = Caffeine.newBuilder().maximumSize(viewWindowMaxSize).expireAfterWrite(viewWindow).build();
+	}
+
+	/** 사용자의 소설 조회 1회 집계 (같은 사용자가 view-window 안에 다시 조회하면 집계하지 않음)
+	 * - 존재하는(공유 중인) 소설인지는 호출하는 쪽에서 확인 (임의의 ID 로 셀이 늘어나지 않도록)
+	 * @param novelId
+	 * @param viewerId
+	 * @return 집계했으면 true
+	 */
+	public boolean recordView(Long novelId, int viewerId) {
+		if (recentViews.asMap().putIfAbsent(novelId + ":" + viewerId, Boolean.TRUE) != null) return false;
+		incrementView(novelId);
+		return true;
+	}
+
+	/** 조회수 1 증가
+	 * @param novelId
+	 */
+	void incrementView(Long novelId) {
+		cell(novelId).views.increment();
+	}
+
+	private Cell cell(Long novelId) {
+		return cells.computeIfAbsent(novelId, id -> new Cell());
+	}
+
+	/** 아직 DB에 반영되지 않은 증가분
+	 * @param novelId
+	 * @return
+	 */
+	public NovelCounts pending(Long novelId) {
+		Cell cell = cells.get(novelId);
+		Long flushing = inFlight.get(novelId);
+		long views = (cell != null ? cell.views.sum() : 0L) + (flushing != null ? flushing : 0L);
+		return new NovelCounts(views, 0L);
+	}
+
+	/** DB 값 + 미반영 증가분
+	 * @param novelId
+	 * @return
+	 */
+	public NovelCounts counts(Long novelId) {
+		NovelStats stats = novelStatsRepository.findByNovelId(novelId).orElse(null);
+		NovelCounts pending = pending(novelId);
+		return new NovelCounts((stats != null ? stats.getViewCount() : 0L) + pending.viewCount(),
+				(stats != null ? stats.getLikeCount() : 0L) + pending.likeCount());
+	}
+
+	/** 목록 응답의 조회수에 미반영 증가분 더하기
+	 * @param responses
+	 * @return
+	 */
+	public List<NovelResponse> mergePending(List<NovelResponse> responses) {
+		for (NovelResponse response : responses) {
+			NovelCounts pending = pending(response.getId());
+			if (pending.viewCount() == 0) continue;
+			response.setViewCount(nullToZero(response.getViewCount()) + pending.viewCount());
+		}
+		return responses;
+	}
+
+	private long nullToZero(Long value) {
+		return value == null ? 0L : value;
+	}
+
+	/** 누적된 증가분을 DB에 배치 반영 (주기 실행)
+	 * @return 반영한 소설 수
+	 */
+	@Scheduled(fixedDelayString = "${amuse.stats.flush-interval:5s}")
+	public synchronized int flush() {
+		Map<Long, Long> deltas = new TreeMap<>(); // 소설 ID 순 (여러 서버가 동시에 반영할 때 행 잠금 순서를 같게 유지)
+
+		// 직전 주기에 정리한 셀 : 정리 직전에 셀을 꺼내 간 요청이 늦게 더한 증가분을 회수
+		retired.forEach((novelId, cell) -> drain(novelId, cell, deltas));
+		retired.clear();
+
+		for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+			Cell cell = entry.getValue();
+			if (drain(entry.getKey(), cell, deltas)) {
+				cell.idle = false;
+			} else if (cell.idle) {
+				// 두 주기 연속 증가분이 없는 소설은 정리 (한 주기 더 보관하며 늦은 증가분 회수)
+				cells.remove(entry.getKey(), cell);
+				retired.put(entry.getKey(), cell);
+			} else {
+				cell.idle = true;
+			}
+		}
+
+		List<Object[]> batch = new ArrayList<>(deltas.size());
+		deltas.forEach((novelId, views) -> {
+			if (views != 0) batch.add(new Object[] { views, novelId });
+		});
+
+		if (batch.isEmpty()) return 0;
+
+		inFlight = deltas;
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.batchUpdate(UPDATE_STATS, batch);
+				jdbcTemplate.batchUpdate(UPDATE_LIBRARY_CARD, batch);
+			});
+			flushedRows.add(batch.size());
+		} catch (RuntimeException e) {
+			// 반영 실패 -> 누적분을 되돌려 다음 주기에 다시 시도
+			flushFailures.increment();
+			batch.forEach(row -> requeue((Long) row[1], (Long) row[0]));
+			log.error("조회수 반영 실패 - 다음 주기에 다시 시도 (소설 {}개)", batch.size(), e);
+		} finally {
+			inFlight = Map.of();
+		}
+		return batch.size();
+	}
+
+	// 셀의 누적분을 꺼내 deltas 에 더함
+	// sumThenReset : 셀 단위로 값을 꺼내며 0으로 만들므로 동시에 들어온 증가분은 이번 또는 다음 주기에 반영됨
+	private boolean drain(Long novelId, Cell cell, Map<Long, Long> deltas) {
+		long views = cell.views.sumThenReset();
+		if (views == 0) return false;
+
+		deltas.merge(novelId, views, Long::sum);
+		return true;
+	}
+
+	private void requeue(Long novelId, long views) {
+		if (views == 0) return;
+		cell(novelId).views.add(views);
+	}
+
+	/** 종료 시 남은 증가분 반영
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		int flushed = flush();
+		log.info("종료 전 조회수 반영 완료 (소설 {}개)", flushed);
+	}
+
+	/** 카운터 현재 지표
+	 * @return
+	 */
+	public Stats stats() {
+		return new Stats(cells.size(), flushedRows.sum(), flushFailures.sum());
+	}
+
+	/** 카운터 지표
+	 * @param trackedNovels 누적 중인 소설 수
+	 * @param flushedRows   반영한 소설 행 수 (누적)
+	 * @param flushFailures 반영 실패 횟수
+	 */
+	public record Stats(int trackedNovels, long flushedRows, long flushFailures) {
+	}
+}
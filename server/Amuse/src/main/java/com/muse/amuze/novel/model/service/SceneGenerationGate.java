@@ -0,0 +1,205 @@
+package com.muse.amuze.novel.model.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.muse.amuze.novel.model.dto.NovelUserInputRequest;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소설별 장면 생성 단일 실행(single-flight) 관문
+ * - 같은 요청(소설 ID + lastSceneId + 멱등 키)이 동시에 들어오면 먼저 온 생성 결과를 함께 받음 (AI 호출 1회)
+ * - 같은 소설의 다른 요청은 앞선 생성이 끝날 때까지 도착 순서대로 대기 (장면 순서가 겹치지 않도록)
+ * - 완료된 결과는 idempotency-ttl 동안 보관하여 재전송(네트워크 재시도 등)된 요청에 같은 장면을 돌려줌, 실패한 결과는 바로 제거
+ * - 서버가 여러 대인 경우의 최종 방어는 story_scene(novel_id, sequence_order) 유니크 제약
+ */
+@Component
+@Slf4j
+public class SceneGenerationGate {
+
+	// 소설별 대기열 (공정 세마포어 : 도착 순서대로 실행, 다른 스레드에서 해제 가능 - 스트리밍 완료 콜백)
+	private static final class Lane {
+		final Semaphore permit = new Semaphore(1, true);
+		int users; // 대기 + 실행 중인 요청 수 (lanes.compute 안에서만 변경)
+	}
+
+	private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+	private final Cache<String, CompletableFuture<StorySceneResponse>> results;
+
+	// 지표
+	private final LongAdder started = new LongAdder();
+	private final LongAdder joined = new LongAdder();
+
+	public SceneGenerationGate(@Value("${amuse.generation.idempotency-max-size:10000}") long maxSize,
+			@Value("${amuse.generation.idempotency-ttl:5m}") Duration ttl) {
+		this.results = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+	}
+
+	/** 요청 식별 키 - 멱등 키가 없으면 모드 + 입력 내용(SHA-256)으로 같은 요청을 판별
+	 * - hashCode 는 서로 다른 입력이 같은 값이 될 수 있어(ex. "Aa"/"BB") 다른 요청이 앞선 결과를 받게 되므로 사용하지 않음
+	 * @param request
+	 * @return
+	 */
+	public static String keyOf(NovelUserInputRequest request) {
+		String identity = request.getIdempotencyKey() != null && !request.getIdempotencyKey().isBlank()
+				? "k:" + request.getIdempotencyKey()
+				: "c:" + request.getMode() + ":" + sha256(request.getContent() == null ? "" : request.getContent());
+		return request.getNovelId() + ":" + request.getLastSceneId() + ":" + identity;
+	}
+
+	private static String sha256(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/** 단일 실행으로 장면 생성 (동기)
+	 * @param novelId
+	 * @param key        : keyOf(request)
+	 * @param generation : 실제 생성 (스냅샷 조회 -> AI 호출 -> 저장)
+	 * @return
+	 */
+	public StorySceneResponse run(Long novelId, String key, Supplier<StorySceneResponse> generation) {
+		Ticket ticket = enter(novelId, key);
+		if (!ticket.isLeader()) return await(ticket.result());
+
+		try {
+			StorySceneResponse response = generation.get();
+			ticket.complete(response);
+			return response;
+		} catch (RuntimeException | Error e) {
+			ticket.fail(e); // Error(StackOverflowError 등)로 끝나도 대기열 차례는 반드시 반납
+			throw e;
+		}
+	}
+
+	/** 관문 진입 - 같은 요청이 진행 중(또는 완료)이면 그 결과를 기다리는 표를, 아니면 소설 대기열 차례를 받은 표를 반환
+	 * - 대기열 차례를 받은 표는 반드시 complete 또는 fail 로 끝내야 함
+	 * @param novelId
+	 * @param key
+	 * @return
+	 */
+	public Ticket enter(Long novelId, String key) {
+		CompletableFuture<StorySceneResponse> mine = new CompletableFuture<>();
+		CompletableFuture<StorySceneResponse> existing = results.asMap().putIfAbsent(key, mine);
+		if (existing != null) {
+			joined.increment();
+			log.debug("진행 중인 같은 장면 생성 요청에 합류 (key: {})", key);
+			return new Ticket(novelId, key, existing, null);
+		}
+
+		Lane lane = lanes.compute(novelId, (id, current) -> {
+			Lane l = current != null ? current : new Lane();
+			l.users++;
+			return l;
+		});
+		Ticket ticket = new Ticket(novelId, key, mine, lane);
+		try {
+			lane.permit.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			ticket.leave(false);
+			ticket.fail(new IllegalStateException("장면 생성 대기 중 요청이 중단되었습니다."));
+			throw new IllegalStateException("장면 생성 대기 중 요청이 중단되었습니다.");
+		}
+		started.increment();
+		return ticket;
+	}
+
+	private StorySceneResponse await(CompletableFuture<StorySceneResponse> result) {
+		try {
+			return result.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) throw re;
+			throw new RuntimeException("장면 생성에 실패했습니다.", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("장면 생성 대기 중 요청이 중단되었습니다.");
+		}
+	}
+
+	/** 관문 지표
+	 * @return
+	 */
+	public Stats stats() {
+		return new Stats(lanes.size(), started.sum(), joined.sum());
+	}
+
+	/** 관문 지표
+	 * @param activeNovels 생성 중/대기 중인 소설 수
+	 * @param started      실제로 실행된 생성 수
+	 * @param joined       진행 중(또는 완료된) 같은 요청에 합류한 수
+	 */
+	public record Stats(int activeNovels, long started, long joined) {
+	}
+
+	/**
+	 * 관문 통과 표
+	 * - leader : 소설 대기열 차례를 받아 직접 생성하는 요청
+	 * - follower : 같은 요청의 결과(result)를 기다리는 요청
+	 */
+	public final class Ticket {
+		private final Long novelId;
+		private final String key;
+		private final CompletableFuture<StorySceneResponse> result;
+		private final Lane lane;
+		private final AtomicBoolean left = new AtomicBoolean();
+
+		private Ticket(Long novelId, String key, CompletableFuture<StorySceneResponse> result, Lane lane) {
+			this.novelId = novelId;
+			this.key = key;
+			this.result = result;
+			this.lane = lane;
+		}
+
+		public boolean isLeader() {
+			return lane != null;
+		}
+
+		public CompletableFuture<StorySceneResponse> result() {
+			return result;
+		}
+
+		/** 생성 성공 - 결과 공유 후 다음 요청에 차례를 넘김
+		 * @param response
+		 */
+		public void complete(StorySceneResponse response) {
+			result.complete(response);
+			leave(true);
+		}
+
+		/** 생성 실패(또는 중단) - 결과를 제거하여 재시도는 새로 실행되도록 하고 다음 요청에 차례를 넘김
+		 * @param error
+		 */
+		public void fail(Throwable error) {
+			if (result.completeExceptionally(error)) results.asMap().remove(key, result); // 이미 성공한 결과는 유지
+			leave(true);
+		}
+
+		private void leave(boolean release) {
+			if (lane == null || !left.compareAndSet(false, true)) return;
+			if (release) lane.permit.release();
+			lanes.computeIfPresent(novelId, (id, l) -> --l.users == 0 ? null : l);
+		}
+	}
+}
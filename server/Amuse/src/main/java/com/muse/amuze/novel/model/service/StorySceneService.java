@@ -0,0 +1,52 @@
+package com.muse.amuze.novel.model.service;
+
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+public interface StorySceneService {
+
+	/** AI 전달용 컨텍스트 스냅샷 조회 서비스 (짧은 읽기 전용 트랜잭션)
+	 * @param novelId
+	 * @param isAuto : 자동 전개 모드 여부 (조회할 이전 장면 갯수)
+	 * @return
+	 */
+	NovelContext loadContext(Long novelId, boolean isAuto);
+
+	/** 재생성 대상 장면 조회 서비스 (짧은 읽기 전용 트랜잭션)
+	 * @param novelId
+	 * @param sceneId
+	 * @return
+	 */
+	StoryScene findScene(Long novelId, Long sceneId);
+
+	/** AI가 생성한 새 장면 저장 + 메인 캐릭터 호감도 반영 서비스
+	 * (AI 호출이 끝난 뒤 짧은 쓰기 트랜잭션으로 실행, 스냅샷 이후 소설이 변경되었으면 예외)
+	 * @param snapshot : AI 호출 전에 조회한 컨텍스트
+	 * @param userInput : 저장할 사용자 입력값 (AUTO 표시 포함)
+	 * @param result : 파싱된 AI 응답
+	 * @return
+	 */
+	StorySceneResponse saveGeneratedScene(NovelContext snapshot, String userInput, AiSceneResult result);
+
+	/** AI가 재생성한 장면 반영 서비스
+	 * (AI 호출이 끝난 뒤 짧은 쓰기 트랜잭션으로 실행, 스냅샷 이후 소설이 변경되었으면 예외)
+	 * @param snapshot : AI 호출 전에 조회한 컨텍스트
+	 * @param sceneId : 재생성 대상 장면 ID
+	 * @param result : 파싱된 AI 응답
+	 * @return
+	 */
+	StorySceneResponse saveRegeneratedScene(NovelContext snapshot, Long sceneId, AiSceneResult result);
+
+	/** 사용자가 직접 수정한 장면 반영 서비스
+	 * (key_event 요약 AI 호출이 끝난 뒤 짧은 쓰기 트랜잭션으로 실행)
+	 * @param novelId
+	 * @param sceneId : 수정 대상 장면 ID
+	 * @param content : 수정한 본문
+	 * @param keyEvent : AI가 요약한 사건
+	 * @return
+	 */
+	StorySceneResponse saveEditedScene(Long novelId, Long sceneId, String content, String keyEvent);
+
+}
@@ -0,0 +1,213 @@
+package com.muse.amuze.novel.model.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+import com.muse.amuze.novel.model.repository.CharacterRepository;
+import com.muse.amuze.novel.model.repository.NovelRepository;
+import com.muse.amuze.novel.model.repository.StorySceneRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장면 생성 파이프라인의 DB 구간 전담 서비스
+ * 1. loadContext / findScene : 짧은 읽기 전용 스냅샷
+ * 2. (NovelServiceImpl) AI 호출 : 트랜잭션/커넥션 없이 실행
+ * 3. saveGeneratedScene / saveRegeneratedScene : 짧은 쓰기 트랜잭션 + 낙관적 락 검증
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StorySceneServiceImpl implements StorySceneService {
+
+	private final SummaryScheduler summaryScheduler;
+	private final NovelContextCache novelContextCache;
+
+	private final StorySceneRepository storySceneRepository;
+	private final CharacterRepository characterRepository;
+	private final NovelRepository novelRepository;
+
+	/**
+	 * AI 전달용 컨텍스트 스냅샷 조회 서비스
+	 *
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public NovelContext loadContext(Long novelId, boolean isAuto) {
+
+		int count = isAuto ? NovelContextCache.CACHED_SCENES : 3; // 자동전개 모드에 따라 갯수 변경 (캐시용은 최대 개수)
+
+		// 최근 n개 장면 조회 및 정렬
+		List<StoryScene> previousScenes = storySceneRepository.findByNovelIdOrderBySequenceOrderDesc(novelId,
+				PageRequest.of(0, count)); // 0부터 count 까지 페이지 잘라오기
+		Collections.reverse(previousScenes); // 반대로 정렬
+
+		// 현재 소설 조회
+		Novel novel = novelRepository.findByIdAndIsDeleteFalse(novelId)
+				.orElseThrow(() -> new EntityNotFoundException("소설을 찾을 수 없거나 삭제되었습니다. ID: " + novelId));
+
+		// 현재 소설 속 유저,메인 캐릭터 조회
+		Character userChar = characterRepository.findByNovelIdAndRole(novelId, CharacterRole.USER);
+		Character mainChar = characterRepository.findByNovelIdAndRole(novelId, CharacterRole.MAIN);
+
+		return new NovelContext(novel, userChar, mainChar, previousScenes);
+	}
+
+	/**
+	 * 재생성 대상 장면 조회 서비스
+	 *
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public StoryScene findScene(Long novelId, Long sceneId) {
+		return storySceneRepository.findByNovelIdAndId(novelId, sceneId)
+				.orElseThrow(() -> new EntityNotFoundException("장면을 찾을 수 없습니다."));
+	}
+
+	/**
+	 * AI가 생성한 새 장면 저장 + 메인 캐릭터 호감도 반영 서비스
+	 *
+	 */
+	@Transactional
+	@Override
+	public StorySceneResponse saveGeneratedScene(NovelContext snapshot, String userInput, AiSceneResult result) {
+		Novel novel = lockNovel(snapshot);
+		Character mainChar = reloadMainChar(snapshot);
+
+		// 호감도 및 관계 등급 업데이트
+		String oldLevel = mainChar.getRelationshipLevel(); // 이전 레벨
+		mainChar.updateAffinity(result.affinityDelta()); // 호감도 업뎃 후
+		String newLevel = mainChar.getRelationshipLevel(); // 최종 레벨
+
+		// 소설 version 검증을 통과했으므로 스냅샷의 마지막 순서 이후로 다른 장면이 추가되지 않았음
+		StoryScene newScene = StoryScene.builder().novel(novel).userInput(userInput).aiOutput(result.aiOutput())
+				.keyEvent(result.keyEvent()).sequenceOrder(snapshot.lastSequenceOrder() + 1)
+				.affinityAtMoment(mainChar.getAffinity()).affinityDelta(result.affinityDelta()).build();
+
+		try {
+			storySceneRepository.saveAndFlush(newScene);
+		} catch (DataIntegrityViolationException e) {
+			// (novel_id, sequence_order) 유니크 제약 위반 - 다른 서버/요청이 같은 순서의 장면을 먼저 저장함
+			novelContextCache.evict(novel.getId());
+			throw new OptimisticLockingFailureException("같은 순서의 장면이 이미 저장되었습니다. 다시 시도해 주세요. ID: " + novel.getId());
+		}
+
+		// 커밋 후 컨텍스트 캐시에 새 장면 반영 (다음 생성 요청은 DB 조회 없이 캐시 사용)
+		novelContextCache.appendAfterCommit(snapshot.novel().getVersion(), novel, mainChar, newScene);
+
+		// 5장면마다 줄거리 요약 (커밋 후 백그라운드 실행, 같은 소설의 중복 요청은 합쳐짐)
+		if (newScene.getSequenceOrder() % 5 == 0) {
+			summaryScheduler.request(novel.getId());
+		}
+
+		return StorySceneResponse.of(newScene, result.affinityDelta(), result.reason(), mainChar,
+				!oldLevel.equals(newLevel));
+	}
+
+	/**
+	 * AI가 재생성한 장면 반영 서비스
+	 *
+	 */
+	@Transactional
+	@Override
+	public StorySceneResponse saveRegeneratedScene(NovelContext snapshot, Long sceneId, AiSceneResult result) {
+		lockNovel(snapshot);
+		Character mainChar = reloadMainChar(snapshot);
+
+		StoryScene scene = storySceneRepository.findByNovelIdAndId(snapshot.novel().getId(), sceneId)
+				.orElseThrow(() -> new EntityNotFoundException("장면을 찾을 수 없습니다."));
+
+		if (scene.isRegenerated())
+			throw new IllegalStateException("이미 재생성된 장면입니다.");
+
+		// 기존장면에서 가져온 이전 호감도 변화 취소 (메인 캐릭터 호감도 복구)
+		mainChar.updateAffinity(-scene.getAffinityDelta());
+
+		String oldLevel = mainChar.getRelationshipLevel(); // 이전 레벨
+		mainChar.updateAffinity(result.affinityDelta()); // character entity 새 호감도 반영
+		String newLevel = mainChar.getRelationshipLevel(); // 최종 레벨
+
+		scene.setAiOutput(result.aiOutput());
+		scene.setKeyEvent(result.keyEvent());
+		scene.setAffinityDelta(result.affinityDelta()); // story_scene 새로운 호감도 저장
+		scene.setAffinityAtMoment(mainChar.getAffinity()); // 갱신된 누적 호감도 스냅샷
+
+		scene.setRegenerated(true); // 재생성 체크
+		scene.setEdited(true); // 재생성한 내용은 수정 불가
+
+		novelContextCache.evictAfterCommit(snapshot.novel().getId());
+
+		return StorySceneResponse.of(scene, result.affinityDelta(), result.reason(), mainChar,
+				!oldLevel.equals(newLevel));
+	}
+
+	/**
+	 * 사용자가 직접 수정한 장면 반영 서비스
+	 *
+	 */
+	@Transactional
+	@Override
+	public StorySceneResponse saveEditedScene(Long novelId, Long sceneId, String content, String keyEvent) {
+		StoryScene scene = storySceneRepository.findByNovelIdAndId(novelId, sceneId)
+				.orElseThrow(() -> new EntityNotFoundException("해당 장면을 찾을 수 없습니다."));
+
+		// 내용 업데이트(수정한 콘텐트)
+		scene.setAiOutput(content);
+		scene.setKeyEvent(keyEvent);
+		scene.setEdited(true);
+		scene.setRegenerated(true);
+
+		// 이미 요약에 반영된 장면(요약 기준점 이하)이면 줄거리 다시 생성
+		// (이미 요약된 사건이 바뀌었으므로 증분이 아닌 전체 재요약이 되도록 기준점 초기화 - 요약 스냅샷은 최신 장면에만 있으므로 기준점으로 판단)
+		if (novelRepository.resetSummaryWatermark(novelId, scene.getSequenceOrder()) > 0) {
+			summaryScheduler.request(novelId);
+		}
+
+		novelContextCache.evictAfterCommit(novelId);
+
+		Character mainChar = characterRepository.findByNovelIdAndRole(novelId, CharacterRole.MAIN);
+
+		return StorySceneResponse.of(scene, 0, "직접 수정됨", mainChar, false);
+	}
+
+	// 소설 조회 + version 검증 (커밋 시 version 강제 증가)
+	private Novel lockNovel(NovelContext snapshot) {
+		Long novelId = snapshot.novel().getId();
+		Novel novel = novelRepository.findLockedByIdAndIsDeleteFalse(novelId)
+				.orElseThrow(() -> new EntityNotFoundException("소설을 찾을 수 없거나 삭제되었습니다. ID: " + novelId));
+
+		if (!Objects.equals(novel.getVersion(), snapshot.novel().getVersion())) {
+			novelContextCache.evict(novelId); // 오래된 캐시 제거 -> 재시도 시 최신 데이터 조회
+			throw new OptimisticLockingFailureException("AI가 장면을 작성하는 동안 소설이 변경되었습니다. 다시 시도해 주세요. ID: " + novelId);
+		}
+		return novel;
+	}
+
+	// 메인 캐릭터 재조회 + version 검증
+	private Character reloadMainChar(NovelContext snapshot) {
+		Character mainChar = characterRepository.findById(snapshot.mainChar().getId())
+				.orElseThrow(() -> new EntityNotFoundException("캐릭터를 찾을 수 없습니다."));
+
+		if (!Objects.equals(mainChar.getVersion(), snapshot.mainChar().getVersion())) {
+			novelContextCache.evict(snapshot.novel().getId());
+			throw new OptimisticLockingFailureException("AI가 장면을 작성하는 동안 캐릭터 호감도가 변경되었습니다. 다시 시도해 주세요.");
+		}
+		return mainChar;
+	}
+}
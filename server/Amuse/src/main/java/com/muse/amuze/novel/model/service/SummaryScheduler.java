@@ -0,0 +1,177 @@
+package com.muse.amuze.novel.model.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.muse.amuze.common.tracing.PhaseTracer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 줄거리 요약(SummaryService.summarizeInterval) 백그라운드 스케줄러
+ * - bounded queue : 대기열이 가득 차면 요청을 거절(집계)하고 호출 스레드는 막지 않음 (다음 요약 주기에 다시 반영됨)
+ * - 소설별 합치기(coalescing) : 같은 소설의 요약이 대기 중이면 새 요청은 합쳐지고,
+ *   실행 중이면 끝난 뒤 최신 데이터로 한 번만 다시 실행
+ * - 트랜잭션 안에서 요청되면 커밋 이후에 대기열에 넣음 (방금 저장한 장면이 요약에 포함되도록)
+ * - 종료 시 대기 중인 요약을 drain-timeout 동안 마무리
+ * - 요약 작업은 처음 요청한 쪽(장면 저장)의 추적 문맥을 이어받아 같은 trace 의 하위 span 으로 기록됨
+ *   (합쳐진 요청은 이미 예정된 실행의 문맥을 따름)
+ */
+@Component
+@Slf4j
+public class SummaryScheduler {
+
+	// 소설별 요약 상태
+	private enum State {
+		PENDING, // 대기열에 있음 (아직 시작 전)
+		RUNNING, // 실행 중
+		RUNNING_DIRTY // 실행 중 + 새 요청 도착 (끝난 뒤 재실행)
+	}
+
+	private final SummaryService summaryService;
+	private final ThreadPoolExecutor executor;
+	private final PhaseTracer phaseTracer;
+
+	@Value("${amuse.summary.drain-timeout:30s}")
+	private Duration drainTimeout;
+
+	private final ConcurrentHashMap<Long, State> states = new ConcurrentHashMap<>();
+
+	// 지표
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder totalRunNanos = new LongAdder();
+	private final AtomicLong maxRunNanos = new AtomicLong();
+
+	public SummaryScheduler(SummaryService summaryService, @Qualifier("summaryExecutor") ThreadPoolExecutor executor,
+			PhaseTracer phaseTracer) {
+		this.summaryService = summaryService;
+		this.executor = executor;
+		this.phaseTracer = phaseTracer;
+	}
+
+	/** 소설 줄거리 요약 요청 (비동기, 중복 요청은 합쳐짐)
+	 * @param novelId
+	 */
+	public void request(Long novelId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(novelId);
+				}
+			});
+			return;
+		}
+		enqueue(novelId);
+	}
+
+	private void enqueue(Long novelId) {
+		State[] previous = { null };
+		states.compute(novelId, (id, current) -> {
+			previous[0] = current;
+			if (current == null) return State.PENDING;
+			// 대기 중이면 그대로 합치고, 실행 중이면 끝난 뒤 재실행 표시
+			return current == State.RUNNING ? State.RUNNING_DIRTY : current;
+		});
+
+		if (previous[0] == null) {
+			submit(novelId);
+		} else if (previous[0] != State.RUNNING) {
+			coalesced.increment(); // 이미 예정된 실행에 합쳐짐
+		}
+	}
+
+	private void submit(Long novelId) {
+		try {
+			executor.execute(phaseTracer.wrap(() -> run(novelId)));
+			submitted.increment();
+		} catch (RejectedExecutionException e) {
+			// 대기열 초과 또는 종료 중 -> 이번 요약은 건너뜀 (다음 요약 주기에 최신 사건까지 다시 요약됨)
+			states.remove(novelId);
+			rejected.increment();
+			log.warn("요약 대기열이 가득 차 요청을 건너뜁니다. (Novel ID: {}, 대기열: {})", novelId, executor.getQueue().size());
+		}
+	}
+
+	private void run(Long novelId) {
+		states.put(novelId, State.RUNNING);
+
+		// 실행 중 새 요청이 들어왔으면 같은 작업 스레드에서 최신 데이터로 한 번 더 실행
+		do {
+			runOnce(novelId);
+		} while (states.compute(novelId, (id, current) -> current == State.RUNNING_DIRTY ? State.RUNNING : null) != null);
+	}
+
+	private void runOnce(Long novelId) {
+		long begin = System.nanoTime();
+		try {
+			summaryService.summarizeInterval(novelId);
+			completed.increment();
+		} catch (Exception e) {
+			failures.increment();
+			log.error("줄거리 요약 실패 (Novel ID: {})", novelId, e);
+		} finally {
+			long elapsed = System.nanoTime() - begin;
+			totalRunNanos.add(elapsed);
+			maxRunNanos.accumulateAndGet(elapsed, Math::max);
+		}
+	}
+
+	/** 종료 시 대기 중인 요약 마무리
+	 */
+	@PreDestroy
+	public void drain() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				int dropped = executor.shutdownNow().size();
+				log.warn("요약 작업 종료 대기 시간 초과 - 미처리 요약 {}건 취소", dropped);
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/** 요약 스케줄러 현재 지표
+	 * @return
+	 */
+	public Stats stats() {
+		long done = completed.sum() + failures.sum();
+		return new Stats(executor.getQueue().size(), executor.getActiveCount(), submitted.sum(), coalesced.sum(),
+				rejected.sum(), completed.sum(), failures.sum(),
+				done == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalRunNanos.sum() / done),
+				TimeUnit.NANOSECONDS.toMillis(maxRunNanos.get()));
+	}
+
+	/** 요약 스케줄러 지표
+	 * @param queueDepth    대기열 길이
+	 * @param active        실행 중인 요약 수
+	 * @param submitted     제출된 요약 수
+	 * @param coalesced     합쳐진(중복) 요청 수
+	 * @param rejected      대기열 초과로 거절된 요청 수
+	 * @param completed     성공한 요약 수
+	 * @param failures      실패한 요약 수
+	 * @param avgRunMillis  평균 실행 시간
+	 * @param maxRunMillis  최대 실행 시간
+	 */
+	public record Stats(int queueDepth, int active, long submitted, long coalesced, long rejected, long completed,
+			long failures, long avgRunMillis, long maxRunMillis) {
+	}
+}
@@ -1,27 +1,32 @@
 package com.muse.amuze.novel.model.service;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
-import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
-import org.springframework.core.io.Resource;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StreamUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.muse.amuze.common.ai.LlmGateway;
+import com.muse.amuze.common.ai.PromptTemplateRegistry;
+import com.muse.amuze.common.tracing.PhaseTracer;
+import com.muse.amuze.novel.model.dto.SceneKeyEvent;
 import com.muse.amuze.novel.model.entity.Novel;
 import com.muse.amuze.novel.model.entity.StoryScene;
 import com.muse.amuze.novel.model.repository.NovelRepository;
 import com.muse.amuze.novel.model.repository.StorySceneRepository;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,52 +39,134 @@ public class SummaryServiceImpl implements SummaryService {
 
 	private final StorySceneRepository storySceneRepository;
 	private final NovelRepository novelRepository;
-	private final OpenAiChatModel chatModel;
-
-	@Value("classpath:prompts/summary-system-prompt.txt")
-	private Resource summaryPromptResource;
+	private final LlmGateway llmGateway;
+	private final PromptTemplateRegistry promptTemplates;
+	private final NovelContextCache novelContextCache;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final PhaseTracer phaseTracer;
+
+	private static final String SUMMARY_PROMPT = "summary-system-prompt"; // prompts/summary-system-prompt.txt
+	private static final String INCREMENTAL_PROMPT = "summary-incremental-prompt"; // prompts/summary-incremental-prompt.txt
+
+	// 증분 요약 n회마다 한 번은 전체 사건으로 재요약 (증분 누적으로 인한 서사 왜곡 보정)
+	@Value("${amuse.summary.full-every:10}")
+	private int fullSummaryEvery;
+
+	/** 요약 설정 검증 - 전체 재요약 주기는 1 이상
+	 * 요약 프롬프트 템플릿 검증 - 사건 목록은 사용자 메세지로 전달하므로 시스템 프롬프트에는 {{placeholder}}가 없어야 함
+	 */
+	@PostConstruct
+	public void validatePromptTemplates() {
+		if (fullSummaryEvery < 1) {
+			throw new IllegalArgumentException("amuse.summary.full-every 는 1 이상이어야 합니다: " + fullSummaryEvery);
+		}
+		promptTemplates.require(SUMMARY_PROMPT);
+		promptTemplates.require(INCREMENTAL_PROMPT);
+	}
 
 	/** 최근 다섯개 씬의 내용 줄거리 요약
 	 * keyEvents 기반으로 요약
+	 * - 증분 요약 : 기존 줄거리(total_summary) + 마지막 요약 이후(summarized_sequence_order) 새 사건만 전달
+	 * - 전체 재요약 : 첫 요약, 기준점 초기화(장면 수정) 시, 또는 amuse.summary.full-every 회마다 한 번
+	 * - 조회(읽기 트랜잭션) -> AI 호출(트랜잭션 밖, 재시도 대기 중 커넥션 미점유) -> 저장(쓰기 트랜잭션)
+	 * - 그 사이 장면 수정으로 기준점이 초기화되었으면 저장하지 않음 (수정 시 요청된 재실행이 전체 재요약)
+	 * (SummaryScheduler 의 요약 전용 실행기에서 백그라운드로 호출됨, 같은 소설은 동시에 실행되지 않음)
 	 */
-	@Async
-	@Transactional
+	@Override
 	public void summarizeInterval(Long novelId) throws IOException {
-		// 모든 Key Events 조회
-		List<String> keyEvents = storySceneRepository.findAllKeyEventsByNovelId(novelId);
+		phaseTracer.trace("summary.summarize", span -> {
+			span.tag("novel.id", novelId);
+			summarize(novelId, span);
+			return null;
+		});
+	}
 
-		// AI에게 보낼 텍스트로 결합 (ex) "1. 사건 -> 2. 사건")
-		String combinedEvents = String.join(" -> ", keyEvents);
+	// 요약 실행 (span summary.summarize 하위 : db.summary_load > llm.summary.* > db.summary_save)
+	private void summarize(Long novelId, PhaseTracer.Scope span) {
+		SummaryInput input = timeDb("summary_load", () -> transactionTemplate.execute(status -> loadSummaryInput(novelId)));
+		if (input == null) {
+			log.info("요약할 새 사건이 없습니다. (Novel ID: {})", novelId);
+			return;
+		}
+		span.tag("summary.mode", input.full() ? "full" : "incremental");
 
 		// AI에게 요약 요청
-		log.info("추출된 이벤트: " + combinedEvents);
-		String newSummary = requestSummary(combinedEvents);
+		log.info("추출된 이벤트({}): {}", input.full() ? "전체" : "증분", input.combinedEvents());
+		String newSummary = input.full() ? requestSummary(input.combinedEvents())
+				: requestIncrementalSummary(input.previousSummary(), input.combinedEvents());
+
+		timeDb("summary_save", () -> {
+			transactionTemplate.executeWithoutResult(status -> saveSummary(novelId, newSummary, input));
+			return null;
+		});
+
+		log.info("=== 비동기 요약 완료 (Novel ID: " + novelId + ") ===");
+	}
 
-		// 마스터 줄거리 업데이트 (novel 테이블 total_summary)
-        Novel novel = novelRepository.findById(novelId)
-                .orElseThrow(() -> new RuntimeException("소설을 찾을 수 없습니다."));
-        novel.setTotalSummary(newSummary);
+	// DB 구간 시간 기록 (트랜잭션 커밋 포함) - 지표 amuse.db.phase{phase}, span db.{phase}
+	private <T> T timeDb(String phase, Supplier<T> work) {
+		return phaseTracer.trace("db." + phase,
+				span -> Timer.builder("amuse.db.phase").tag("phase", phase).register(meterRegistry).record(work));
+	}
+
+	// 요약 대상 조회 (새 사건이 없으면 null)
+	private SummaryInput loadSummaryInput(Long novelId) {
+		Novel novel = novelRepository.findById(novelId)
+				.orElseThrow(() -> new RuntimeException("소설을 찾을 수 없습니다."));
+
+		int watermark = novel.getSummarizedSequenceOrder();
+		String previousSummary = novel.getTotalSummary();
+		boolean full = watermark == 0 || previousSummary == null || previousSummary.isBlank()
+				|| (novel.getSummaryRevision() + 1) % fullSummaryEvery == 0;
+
+		// 요약할 Key Events 조회 (전체 재요약이면 처음부터)
+		List<SceneKeyEvent> keyEvents = storySceneRepository.findKeyEventsAfter(novelId, full ? -1 : watermark);
+		if (keyEvents.isEmpty()) return null;
+
+		// AI에게 보낼 텍스트로 결합 (ex) "1. 사건 -> 2. 사건")
+		String combinedEvents = keyEvents.stream().map(SceneKeyEvent::keyEvent).collect(Collectors.joining(" -> "));
+		int summarizedOrder = keyEvents.get(keyEvents.size() - 1).sequenceOrder();
+
+		// 요약 지연 : 마지막 요약 이후 쌓인 장면 수 (요약이 밀리면 장면 생성 프롬프트의 줄거리가 그만큼 오래됨)
+		DistributionSummary.builder("amuse.summary.lag").baseUnit("scenes").register(meterRegistry)
+				.record(summarizedOrder - watermark);
+
+		return new SummaryInput(full, previousSummary, combinedEvents, summarizedOrder, novel.getSummaryRevision());
+	}
+
+	// 요약 결과 저장
+	private void saveSummary(Long novelId, String newSummary, SummaryInput input) {
+		// 마스터 줄거리 + 요약 기준점 업데이트 (novel 테이블 total_summary, summarized_sequence_order)
+        // 벌크 업데이트로 반영하여 소설 version(낙관적 락)을 올리지 않음 -> 진행 중인 장면 생성과 충돌 방지
+        // 조회 시점의 summaryRevision 과 다르면(요약 중 장면 수정으로 기준점 초기화) 0건 -> 오래된 요약 버림
+        if (novelRepository.updateTotalSummary(novelId, newSummary, input.summarizedOrder(), input.summaryRevision()) == 0) {
+        	log.info("요약 중 기준점이 초기화되어 저장하지 않습니다. (Novel ID: {})", novelId);
+        	return;
+        }
+        novelContextCache.evictAfterCommit(novelId); // 벌크 업데이트는 version 을 올리지 않으므로 캐시된 줄거리 직접 제거
 
         // 가장 최신 장면 하나에 스냅샷 저장(story_scene 테이블 summary)
         StoryScene latestScene = storySceneRepository.findTopByNovelIdOrderByIdDesc(novelId);
         if (latestScene != null) {
             latestScene.setSummary(newSummary);
         }
-        
-        log.info("=== 비동기 요약 완료 (Novel ID: " + novelId + ") ===");
+	}
+
+	// 요약 대상 (읽기 트랜잭션 -> AI 호출 구간으로 전달)
+	private record SummaryInput(boolean full, String previousSummary, String combinedEvents, int summarizedOrder,
+			int summaryRevision) {
 	}
 	
 	/**
      * 사건 리스트를 바탕으로 전체 줄거리를 요약.
      * @param combinedEvents "사건1 -> 사건2 -> 사건3" 형태의 문자열
      * @return 요약된 줄거리 텍스트
-	 * @throws IOException 
      */
-    public String requestSummary(String combinedEvents) throws IOException {
-    	String systemPrompt = StreamUtils.copyToString(summaryPromptResource.getInputStream(),
-				StandardCharsets.UTF_8);
+    public String requestSummary(String combinedEvents) {
+    	String systemPrompt = promptTemplates.get(SUMMARY_PROMPT).render(Map.of());
 
-        String userPrompt = "# Input (Key Events)\n" + combinedEvents;
+        String userPrompt = buildFullUserPrompt(combinedEvents);
 
         // 1. Prompt 생성
         Prompt prompt = new Prompt(
@@ -89,8 +176,36 @@ public class SummaryServiceImpl implements SummaryService {
             )
         );
 
-        // 2. AI 호출 및 결과 반환 (단순 텍스트 추출)
-        ChatResponse response = chatModel.call(prompt);
-        return response.getResult().getOutput().getContent();
+        // 2. AI 호출 및 결과 반환 (단순 텍스트 추출, 제한 시간/재시도/서킷 브레이커는 게이트웨이에서)
+        return llmGateway.callText("summary.full", prompt);
+    }
+
+    /**
+     * 기존 줄거리 + 새 사건 리스트로 최신 줄거리를 요약 (증분 요약).
+     * @param previousSummary 기존 줄거리 (total_summary)
+     * @param combinedEvents 마지막 요약 이후 "사건1 -> 사건2" 형태의 문자열
+     * @return 요약된 줄거리 텍스트
+     */
+    public String requestIncrementalSummary(String previousSummary, String combinedEvents) {
+    	String systemPrompt = promptTemplates.get(INCREMENTAL_PROMPT).render(Map.of());
+
+    	Prompt prompt = new Prompt(
+    		List.of(
+    			new SystemMessage(systemPrompt),
+    			new UserMessage(buildIncrementalUserPrompt(previousSummary, combinedEvents))
+    		)
+    	);
+
+    	return llmGateway.callText("summary.incremental", prompt);
+    }
+
+    // 전체 요약 사용자 프롬프트 - 모든 사건 (소설 길이에 비례)
+    static String buildFullUserPrompt(String combinedEvents) {
+    	return "# Input (Key Events)\n" + combinedEvents;
+    }
+
+    // 증분 요약 사용자 프롬프트 - 기존 줄거리(300자 이내) + 새 사건 (소설 길이와 무관하게 일정)
+    static String buildIncrementalUserPrompt(String previousSummary, String combinedEvents) {
+    	return "# Previous Summary\n" + previousSummary + "\n\n# Input (New Key Events)\n" + combinedEvents;
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.muse.amuze.common.auth.JwtPrincipalCache;
 import com.muse.amuze.common.auth.JwtTokenProvider;
 import com.muse.amuze.user.model.dto.KakaoLoginRequest;
 import com.muse.amuze.user.model.entity.User;
@@ -21,6 +22,7 @@ public class AuthServiceImpl implements AuthService{
 	
 	private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtPrincipalCache jwtPrincipalCache;
     
     /** 카카오 로그인 서비스
 	 * @param email
@@ -48,10 +50,12 @@ public class AuthServiceImpl implements AuthService{
                 });
 
         // 2. Amuse 전용 토큰 발행
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getRole());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole(),
+        		user.getNickname());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
         
         user.updateRefreshToken(refreshToken);
+        jwtPrincipalCache.evictUser(user.getEmail()); // 재로그인 시 이전 토큰의 캐시된 사용자 정보 제거
 
         // 3. 응답 데이터 구성
         Map<String, Object> tokenMap = new HashMap<>();
@@ -72,6 +76,7 @@ public class AuthServiceImpl implements AuthService{
 		User user = userRepository.findByEmail(userEmail).orElseThrow();
 	    user.setRefreshToken(null);
 	    user.setExpiredAt(null);
+	    jwtPrincipalCache.evictUser(userEmail);
 	}
 	
 	@Override
@@ -0,0 +1,34 @@
+-- IDENTITY 컬럼 -> 시퀀스(pooled, 50개 단위) ID 전환 (PostgreSQL)
+-- novel, character, story_scene, affinity_history, stone_history
+--
+-- 실행 시점 : 시퀀스 ID 를 쓰는 버전을 배포하기 전에 1회 (여러 번 실행해도 결과 같음)
+--   ddl-auto=update 가 먼저 뜨면 시퀀스를 1부터 만들어 기존 ID 와 충돌(PK 위반)하므로 반드시 먼저 실행
+-- 시퀀스 값 : Hibernate pooled 방식은 nextval 로 받은 값 v 에 대해 (v - 49) ~ v 를 사용
+--   -> 다음 nextval 이 MAX(id) + 50 이 되도록 맞추면 MAX(id) + 1 부터 이어서 발급
+-- IDENTITY 해제 : GENERATED ALWAYS 인 경우 애플리케이션이 지정한 ID 로 INSERT 할 수 없으므로 제거
+--   (serial 로 만들어진 컬럼의 DEFAULT nextval 은 그대로 두어도 무방 - 항상 ID 를 지정해서 INSERT)
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS novel_seq INCREMENT BY 50;
+SELECT setval('novel_seq', COALESCE((SELECT MAX(id) FROM novel), 0) + 50, false);
+ALTER TABLE novel ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- character 는 타입 이름과 겹치므로 따옴표로 지정
+CREATE SEQUENCE IF NOT EXISTS character_seq INCREMENT BY 50;
+SELECT setval('character_seq', COALESCE((SELECT MAX(id) FROM "character"), 0) + 50, false);
+ALTER TABLE "character" ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS story_scene_seq INCREMENT BY 50;
+SELECT setval('story_scene_seq', COALESCE((SELECT MAX(id) FROM story_scene), 0) + 50, false);
+ALTER TABLE story_scene ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS affinity_history_seq INCREMENT BY 50;
+SELECT setval('affinity_history_seq', COALESCE((SELECT MAX(id) FROM affinity_history), 0) + 50, false);
+ALTER TABLE affinity_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS stone_history_seq INCREMENT BY 50;
+SELECT setval('stone_history_seq', COALESCE((SELECT MAX(id) FROM stone_history), 0) + 50, false);
+ALTER TABLE stone_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+COMMIT;
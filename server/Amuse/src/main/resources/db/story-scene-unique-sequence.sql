@@ -0,0 +1,37 @@
+-- story_scene (novel_id, sequence_order) 유니크 제약 추가 (PostgreSQL)
+--
+-- 실행 시점 : 유니크 제약을 쓰는 버전을 배포하기 전에 1회 (여러 번 실행해도 결과 같음)
+--   기존 DB 에 같은 순서의 장면이 이미 있으면 ddl-auto=update 는 제약 추가에 실패하고 경고만 남김
+--   -> 제약 없이 실행되어 여러 인스턴스 간 중복 저장을 막지 못하므로 반드시 먼저 실행
+-- 중복 정리 : 삭제하지 않고 중복이 있는 소설의 장면 순서를 (sequence_order, id) 순으로 0 부터 다시 매김
+--   (첫 장면 0 유지, 먼저 저장된 장면이 앞 순서)
+-- 요약 기준점 : 순서가 바뀐 소설은 summarized_sequence_order 를 0 으로 (다음 요약은 전체 재요약)
+--   summary_revision 도 올려 실행 중인 요약이 예전 순서로 저장하지 않도록 함
+
+BEGIN;
+
+CREATE TEMPORARY TABLE duplicated_novel ON COMMIT DROP AS
+SELECT DISTINCT novel_id FROM story_scene GROUP BY novel_id, sequence_order HAVING COUNT(*) > 1;
+
+UPDATE story_scene s
+SET sequence_order = r.new_order
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY novel_id ORDER BY sequence_order, id) - 1 AS new_order
+      FROM story_scene
+      WHERE novel_id IN (SELECT novel_id FROM duplicated_novel)) r
+WHERE s.id = r.id AND s.sequence_order <> r.new_order;
+
+UPDATE novel
+SET summarized_sequence_order = 0, summary_revision = summary_revision + 1
+WHERE id IN (SELECT novel_id FROM duplicated_novel);
+
+-- ddl-auto 로 이미 만들어진 경우 건너뜀 (ADD CONSTRAINT 에는 IF NOT EXISTS 가 없음)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_story_scene_novel_sequence') THEN
+        ALTER TABLE story_scene
+            ADD CONSTRAINT uk_story_scene_novel_sequence UNIQUE (novel_id, sequence_order);
+    END IF;
+END
+$$;
+
+COMMIT;
@@ -0,0 +1,52 @@
+package com.muse.amuze.common.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스트리밍 본문 파서 검증 - 조각 경계에서 잘린 이스케이프/유니코드, 닫는 따옴표 누락
+ */
+class AiOutputStreamParserTest {
+
+	@Test
+	void 조각_경계에서_잘린_이스케이프는_다음_조각과_합쳐_해석한다() {
+		AiOutputStreamParser parser = new AiOutputStreamParser("ai_output");
+
+		StringBuilder out = new StringBuilder();
+		out.append(parser.feed("{\"ai_output\": \"첫 줄\\"));
+		assertThat(out.toString()).isEqualTo("첫 줄"); // 역슬래시만 온 상태에서는 내보내지 않음
+		out.append(parser.feed("n둘째 줄 \\"));
+		out.append(parser.feed("\"인용\\\\"));
+		out.append(parser.feed("\"\", \"affinity_delta\": 1}"));
+
+		assertThat(out.toString()).isEqualTo("첫 줄\n둘째 줄 \"인용\\");
+		assertThat(parser.isFinished()).isTrue();
+		assertThat(parser.feed(" ")).isEmpty();
+	}
+
+	@Test
+	void 조각_경계에서_잘린_유니코드_이스케이프는_4자리가_모두_도착한_뒤_해석한다() {
+		AiOutputStreamParser parser = new AiOutputStreamParser("ai_output");
+
+		StringBuilder out = new StringBuilder();
+		for (String chunk : new String[] { "{\"ai_", "output\" : \"A\\u", "AC", "00\\uD83D", "\\uDE00", "B\"}" }) {
+			out.append(parser.feed(chunk));
+		}
+
+		assertThat(out.toString()).isEqualTo("A가😀B");
+		assertThat(parser.isFinished()).isTrue();
+	}
+
+	@Test
+	void 닫는_따옴표가_없으면_받은_본문까지만_내보내고_원문은_그대로_보관한다() {
+		AiOutputStreamParser parser = new AiOutputStreamParser("ai_output");
+		String raw = "{\"reason\": \"ai_output\", \"ai_output\": \"끝나지 않은 본문\\";
+
+		String out = parser.feed(raw);
+
+		assertThat(out).isEqualTo("끝나지 않은 본문"); // 값 안의 같은 문자열은 키로 보지 않음, 끝의 역슬래시는 대기
+		assertThat(parser.isFinished()).isFalse();
+		assertThat(parser.getRaw()).isEqualTo(raw);
+	}
+}
@@ -0,0 +1,221 @@
+package com.muse.amuze.common.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.openai.metadata.OpenAiUsage;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+
+import com.muse.amuze.common.tracing.PhaseTracer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI 호출 게이트웨이 검증 - 재시도 분류, 호출 제한 시간(스트리밍 전체/조각 사이 포함), 서킷 브레이커
+ */
+@ExtendWith(MockitoExtension.class)
+class LlmGatewayTest {
+
+	private static final Prompt PROMPT = new Prompt("안녕");
+
+	@Mock
+	private OpenAiChatModel chatModel;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private LlmGateway gateway;
+
+	@BeforeEach
+	void setUp() {
+		// 시도 3회, 호출 1회 200ms, 스트리밍 조각 사이 200ms, 백오프 1~5ms, 연속 실패 3회 시 1초간 열림
+		gateway = new LlmGateway(chatModel, meterRegistry, PhaseTracer.noop(),
+				LlmGateway.Settings.defaults().withTimeouts(Duration.ofMillis(200), Duration.ofSeconds(5)).withMaxAttempts(3)
+						.withStreamIdleTimeout(Duration.ofMillis(200))
+						.withBackoff(Duration.ofMillis(1), Duration.ofMillis(5)).withBreaker(3, Duration.ofSeconds(1)));
+	}
+
+	@Test
+	void 일시적_오류는_재시도_후_성공한다() {
+		when(chatModel.call(any(Prompt.class))).thenThrow(new TransientAiException("503")).thenReturn(response("본문"));
+
+		assertThat(gateway.callText("test", PROMPT)).isEqualTo("본문");
+		assertThat(gateway.stats().retries()).isEqualTo(1);
+	}
+
+	@Test
+	void 재시도_불가_오류는_한번만_호출한다() {
+		when(chatModel.call(any(Prompt.class))).thenThrow(new NonTransientAiException("401"));
+
+		assertThatThrownBy(() -> gateway.callText("test", PROMPT)).isInstanceOf(NonTransientAiException.class);
+		verify(chatModel, times(1)).call(any(Prompt.class));
+		assertThat(gateway.stats().breakerState()).isEqualTo("CLOSED");
+	}
+
+	@Test
+	void 응답_시간_초과는_재시도_대상이다() {
+		when(chatModel.call(any(Prompt.class))).thenAnswer(inv -> {
+			Thread.sleep(1_000);
+			return response("늦은 응답");
+		}).thenReturn(response("본문"));
+
+		assertThat(gateway.callText("test", PROMPT)).isEqualTo("본문");
+		assertThat(gateway.stats().timeouts()).isEqualTo(1);
+	}
+
+	@Test
+	void 호출_중_예외는_원인을_유지한_채_재시도_대상이_된다() {
+		IOException cause = new IOException("연결 끊김");
+		when(chatModel.call(any(Prompt.class))).thenAnswer(inv -> {
+			throw cause;
+		});
+
+		assertThatThrownBy(() -> gateway.callText("test", PROMPT)).isInstanceOf(LlmUnavailableException.class)
+				.cause().isInstanceOf(TransientAiException.class).hasCause(cause);
+		verify(chatModel, times(3)).call(any(Prompt.class));
+	}
+
+	@Test
+	void 호출_중_Error_는_감싸지_않고_재시도하지_않는다() {
+		StackOverflowError error = new StackOverflowError("깊은 재귀");
+		when(chatModel.call(any(Prompt.class))).thenThrow(error);
+
+		assertThatThrownBy(() -> gateway.callText("test", PROMPT)).isSameAs(error);
+		verify(chatModel, times(1)).call(any(Prompt.class));
+		assertThat(gateway.stats().retries()).isZero();
+		assertThat(gateway.stats().breakerState()).isEqualTo("CLOSED");
+	}
+
+	@Test
+	void 조각이_꾸준히_와도_스트림_전체_제한_시간을_넘기면_중단한다() {
+		// 조각 사이 50ms (대기 제한 200ms 이내), 전체 2초 - 전체 제한 500ms
+		gateway = new LlmGateway(chatModel, meterRegistry, PhaseTracer.noop(),
+				LlmGateway.Settings.defaults().withTimeouts(Duration.ofMillis(200), Duration.ofMillis(500))
+						.withStreamIdleTimeout(Duration.ofMillis(200)));
+		when(chatModel.stream(any(Prompt.class)))
+				.thenReturn(Flux.interval(Duration.ofMillis(50)).take(40).map(i -> response("조각" + i)));
+
+		List<ChatResponse> received = new CopyOnWriteArrayList<>();
+		assertThatThrownBy(() -> gateway.stream("test", PROMPT).doOnNext(received::add).blockLast())
+				.isInstanceOf(LlmGateway.LlmTimeoutException.class).hasMessageContaining("전체");
+
+		assertThat(received).hasSizeBetween(3, 12);
+		assertThat(gateway.stats().timeouts()).isEqualTo(1);
+		assertThat(meterRegistry.get("amuse.llm.request").tags("operation", "test", "outcome", "failure").timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void 스트리밍_조각_사이가_대기_제한_시간을_넘기면_중단한다() {
+		when(chatModel.stream(any(Prompt.class)))
+				.thenReturn(Flux.concat(Flux.just(response("첫 조각")), Flux.never()));
+
+		assertThatThrownBy(() -> gateway.stream("test", PROMPT).blockLast())
+				.isInstanceOf(LlmGateway.LlmTimeoutException.class).hasMessageContaining("대기");
+		assertThat(gateway.stats().timeouts()).isEqualTo(1);
+	}
+
+	@Test
+	void 제한_시간_안에_끝나는_스트림은_그대로_전달한다() {
+		when(chatModel.stream(any(Prompt.class)))
+				.thenReturn(Flux.interval(Duration.ofMillis(20)).take(5).map(i -> response("조각" + i)));
+
+		List<ChatResponse> received = gateway.stream("test", PROMPT).collectList().block();
+
+		assertThat(received).hasSize(5);
+		assertThat(gateway.stats().timeouts()).isZero();
+	}
+
+	@Test
+	void 응답_형식_오류는_재시도한다() {
+		when(chatModel.call(any(Prompt.class))).thenReturn(response("깨진 JSON"), response("{}"));
+
+		String result = gateway.call("test", PROMPT, r -> {
+			String text = r.getResult().getOutput().getText();
+			if (!text.startsWith("{")) throw new IllegalArgumentException("JSON 아님");
+			return text;
+		});
+
+		assertThat(result).isEqualTo("{}");
+	}
+
+	@Test
+	void 연속_실패하면_브레이커가_열려_바로_실패한다() {
+		when(chatModel.call(any(Prompt.class))).thenThrow(new TransientAiException("503"));
+
+		// 1회 요청 = 3번 시도 = 연속 실패 3회 -> 열림
+		assertThatThrownBy(() -> gateway.callText("test", PROMPT)).isInstanceOf(LlmUnavailableException.class);
+		assertThat(gateway.stats().breakerState()).isEqualTo("OPEN");
+
+		// 열린 동안에는 공급자를 호출하지 않음
+		assertThatThrownBy(() -> gateway.callText("test", PROMPT)).isInstanceOf(LlmUnavailableException.class);
+		verify(chatModel, times(3)).call(any(Prompt.class));
+		assertThat(gateway.stats().shortCircuited()).isEqualTo(1);
+	}
+
+	@Test
+	void 응답의_캐시_토큰_사용량을_기록한다() {
+		OpenAiApi.Usage cachedUsage = new OpenAiApi.Usage(300, 2000, 2300,
+				new OpenAiApi.Usage.PromptTokensDetails(0, 1536), null);
+		OpenAiApi.Usage coldUsage = new OpenAiApi.Usage(300, 2000, 2300, null, null);
+		when(chatModel.call(any(Prompt.class))).thenReturn(response("본문", coldUsage), response("본문", cachedUsage));
+
+		gateway.callText("test", PROMPT);
+		gateway.callText("test", PROMPT);
+
+		LlmGateway.TokenUsage usage = gateway.tokenUsage();
+		assertThat(usage.promptTokens()).isEqualTo(4000);
+		assertThat(usage.cachedTokens()).isEqualTo(1536);
+		assertThat(usage.completionTokens()).isEqualTo(600);
+		assertThat(usage.cacheHitRatio()).isEqualTo(1536 / 4000.0);
+	}
+
+	@Test
+	void 호출_시간과_실패_원인을_지표로_남긴다() {
+		when(chatModel.call(any(Prompt.class))).thenThrow(new TransientAiException("503")).thenReturn(response("본문"));
+
+		gateway.callText("scene", PROMPT);
+
+		assertThat(meterRegistry.get("amuse.llm.attempt").tags("operation", "scene", "outcome", "transient").timer()
+				.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("amuse.llm.attempt").tags("operation", "scene", "outcome", "success").timer()
+				.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("amuse.llm.request").tags("operation", "scene", "outcome", "success").timer()
+				.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("amuse.llm.retries").tag("operation", "scene").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("amuse.llm.prompt.chars").tag("operation", "scene").summary().totalAmount())
+				.isEqualTo(PROMPT.getContents().length());
+	}
+
+	private ChatResponse response(String text, OpenAiApi.Usage usage) {
+		return new ChatResponse(List.of(new Generation(new AssistantMessage(text))),
+				ChatResponseMetadata.builder().usage(OpenAiUsage.from(usage)).build());
+	}
+
+	private ChatResponse response(String text) {
+		return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+	}
+}
@@ -0,0 +1,115 @@
+package com.muse.amuze.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.muse.amuze.user.model.entity.User;
+import com.muse.amuze.user.model.service.AuthService;
+
+/**
+ * 인증 필터 검증 - 사용자 정보 토큰은 DB 조회 없이 인증 + 캐시, 이전 형식 토큰은 DB 조회, 잘못된 토큰은 미인증
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+	@Mock
+	private AuthService authService;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private JwtPrincipalCache jwtPrincipalCache;
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		jwtTokenProvider = spy(JwtTokenProviderTest.provider(JwtTokenProviderTest.SECRET));
+		jwtPrincipalCache = new JwtPrincipalCache(100, Duration.ofMinutes(1));
+		filter = new JwtAuthenticationFilter(jwtTokenProvider, jwtPrincipalCache, authService);
+	}
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void 사용자_정보가_담긴_토큰은_DB_조회_없이_인증하고_다음_요청은_캐시로_처리한다() throws Exception {
+		String token = jwtTokenProvider.createAccessToken(7, "writer@amuse.com", "USER", "작가");
+
+		User first = authenticate(token);
+		SecurityContextHolder.clearContext();
+		User second = authenticate(token);
+
+		assertThat(first.getId()).isEqualTo(7);
+		assertThat(first.getEmail()).isEqualTo("writer@amuse.com");
+		assertThat(first.getNickname()).isEqualTo("작가");
+		assertThat(first.getRole()).isEqualTo("USER");
+		assertThat(second).isSameAs(first);
+
+		verifyNoInteractions(authService);
+		verify(jwtTokenProvider, times(1)).parseClaims(token); // 두 번째 요청은 서명 검증 생략
+		assertThat(jwtPrincipalCache.stats().hits()).isEqualTo(1);
+	}
+
+	@Test
+	void 사용자_정보가_없는_이전_형식_토큰은_DB에서_조회한다() throws Exception {
+		String token = jwtTokenProvider.createRefreshToken("writer@amuse.com"); // uid/nickname 없음
+		User stored = User.builder().id(7).email("writer@amuse.com").nickname("작가").build();
+		when(authService.loadUserByUsername("writer@amuse.com")).thenReturn(stored);
+
+		assertThat(authenticate(token)).isSameAs(stored);
+		SecurityContextHolder.clearContext();
+		assertThat(authenticate(token)).isSameAs(stored);
+
+		verify(authService, times(1)).loadUserByUsername("writer@amuse.com");
+	}
+
+	@Test
+	void 유효하지_않은_토큰은_인증하지_않고_요청을_이어간다() throws Exception {
+		String forged = JwtTokenProviderTest.provider("other-secret-key-with-enough-length-0123456789")
+				.createAccessToken(1, "admin@amuse.com", "ADMIN", "관리자");
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request(forged), new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(chain.getRequest()).isNotNull();
+		assertThat(jwtPrincipalCache.stats().size()).isZero();
+		verify(authService, times(0)).loadUserByUsername(anyString());
+	}
+
+	// 토큰으로 요청 1회 처리 후 인증된 사용자
+	private User authenticate(String token) throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+		assertThat(chain.getRequest()).isNotNull();
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertThat(authentication).isNotNull();
+		return (User) authentication.getPrincipal();
+	}
+
+	private MockHttpServletRequest request(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/novel/1");
+		request.addHeader("Authorization", "Bearer " + token);
+		return request;
+	}
+}
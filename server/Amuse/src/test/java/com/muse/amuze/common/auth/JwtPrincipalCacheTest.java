@@ -0,0 +1,49 @@
+package com.muse.amuze.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.muse.amuze.user.model.entity.User;
+
+/**
+ * 토큰 -> 사용자 캐시 검증 - 토큰 만료 시각 적용, 사용자 단위 제거
+ */
+class JwtPrincipalCacheTest {
+
+	private final JwtPrincipalCache cache = new JwtPrincipalCache(100, Duration.ofMinutes(1));
+
+	@Test
+	void 토큰_만료_시각이_지난_항목은_반환하지_않는다() {
+		User user = user("writer@amuse.com");
+		cache.put("live", user, System.currentTimeMillis() + 60_000);
+		cache.put("expired", user, System.currentTimeMillis() - 1);
+
+		assertThat(cache.get("live")).isSameAs(user);
+		assertThat(cache.get("expired")).isNull();
+		assertThat(cache.get("unknown")).isNull();
+		assertThat(cache.stats().hits()).isEqualTo(2); // live, expired(적중 후 만료로 제거)
+	}
+
+	@Test
+	void 사용자의_모든_토큰_항목만_제거한다() {
+		long expiresAt = System.currentTimeMillis() + 60_000;
+		User writer = user("writer@amuse.com");
+		User reader = user("reader@amuse.com");
+		cache.put("writer-pc", writer, expiresAt);
+		cache.put("writer-phone", writer, expiresAt);
+		cache.put("reader", reader, expiresAt);
+
+		cache.evictUser("writer@amuse.com");
+
+		assertThat(cache.get("writer-pc")).isNull();
+		assertThat(cache.get("writer-phone")).isNull();
+		assertThat(cache.get("reader")).isSameAs(reader);
+	}
+
+	private User user(String email) {
+		return User.builder().id(email.hashCode()).email(email).nickname("작가").build();
+	}
+}
@@ -0,0 +1,77 @@
+package com.muse.amuze.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 토큰 발급/검증 검증 - 사용자 정보 Claims, 다른 키 서명/만료/형식 오류 토큰 거절
+ */
+class JwtTokenProviderTest {
+
+	static final String SECRET = "amuse-test-secret-key-0123456789-abcdefghij";
+
+	private final JwtTokenProvider provider = provider(SECRET);
+
+	/** 테스트용 토큰 발급기 (config.properties 없이 비밀키 지정)
+	 * @param secret : HMAC-SHA 키 (32바이트 이상)
+	 * @return
+	 */
+	static JwtTokenProvider provider(String secret) {
+		JwtTokenProvider provider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(provider, "secretKey", secret);
+		provider.init();
+		return provider;
+	}
+
+	@Test
+	void 발급한_토큰의_Claims_로_사용자_정보를_읽는다() {
+		String token = provider.createAccessToken(7, "writer@amuse.com", "USER", "작가");
+
+		Claims claims = provider.parseClaims(token);
+
+		assertThat(claims).isNotNull();
+		assertThat(claims.getSubject()).isEqualTo("writer@amuse.com");
+		assertThat(provider.getUserId(claims)).isEqualTo(7);
+		assertThat(provider.getRole(claims)).isEqualTo("USER");
+		assertThat(provider.getNickname(claims)).isEqualTo("작가");
+		assertThat(provider.validateToken(token)).isTrue();
+	}
+
+	@Test
+	void 다른_키로_서명한_토큰은_거절한다() {
+		String forged = provider("other-secret-key-with-enough-length-0123456789")
+				.createAccessToken(1, "admin@amuse.com", "ADMIN", "관리자");
+
+		assertThat(provider.parseClaims(forged)).isNull();
+		assertThat(provider.validateToken(forged)).isFalse();
+	}
+
+	@Test
+	void 만료된_토큰은_거절한다() {
+		Date issuedAt = new Date(System.currentTimeMillis() - 60_000);
+		String expired = Jwts.builder().subject("writer@amuse.com").issuedAt(issuedAt)
+				.expiration(new Date(issuedAt.getTime() + 1_000))
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8))).compact();
+
+		assertThat(provider.parseClaims(expired)).isNull();
+	}
+
+	@Test
+	void 형식이_잘못된_토큰은_거절한다() {
+		String token = provider.createAccessToken(7, "writer@amuse.com", "USER", "작가");
+		String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "AAAA";
+
+		assertThat(provider.parseClaims(tampered)).isNull();
+		assertThat(provider.parseClaims("not-a-jwt")).isNull();
+		assertThat(provider.parseClaims("")).isNull();
+	}
+}
@@ -0,0 +1,145 @@
+package com.muse.amuze.common.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.muse.amuze.common.file.BlobStore.StoredBlob;
+
+/**
+ * 이미지 저장소 검증 - 내용 해시 경로, 중복 제거, 이미지 형식 검사, 임시 파일 정리, 참조 없는 파일 정리
+ */
+@ExtendWith(MockitoExtension.class)
+class BlobStoreTest {
+
+	private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R' };
+	private static final byte[] GIF = { 'G', 'I', 'F', '8', '9', 'a', 1, 0, 1, 0, 0, 0 };
+
+	@TempDir
+	Path root;
+
+	@Mock
+	private ImageBlobRepository repository;
+
+	private BlobStore blobStore;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		blobStore = new BlobStore(repository, root.toString(), "/images/blob", Duration.ofHours(24));
+	}
+
+	@Test
+	void 같은_이미지는_해시_경로_하나에_한_번만_저장된다() throws Exception {
+		// 원본 이름/확장자가 달라도 내용이 같으면 같은 파일 (형식은 내용으로 판별)
+		StoredBlob first = blobStore.store(new MockMultipartFile("coverImage", "cover.jpeg", "image/png", PNG));
+		StoredBlob second = blobStore.store(new MockMultipartFile("profileImage", "프로필.PNG", "image/png", PNG));
+
+		String hash = first.hash();
+		assertThat(hash).hasSize(64);
+		assertThat(first.path()).isEqualTo(hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".png");
+		assertThat(first.url()).isEqualTo("/images/blob/" + first.path());
+		assertThat(second).isEqualTo(first);
+		assertThat(Files.readAllBytes(root.resolve(first.path()))).isEqualTo(PNG);
+
+		// 임시 파일은 남지 않음
+		try (Stream<Path> temp = Files.list(root.resolve("tmp"))) {
+			assertThat(temp).isEmpty();
+		}
+		assertThat(blobStore.stats().stored()).isEqualTo(1);
+		assertThat(blobStore.stats().deduplicated()).isEqualTo(1);
+		verify(repository, times(2)).register(hash, first.path(), PNG.length);
+	}
+
+	@Test
+	void 이미지_형식이_아니면_원본_확장자와_관계없이_거절한다() throws Exception {
+		byte[] html = "<html><script>alert(1)</script></html>".getBytes();
+		byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" onload=\"alert(1)\"/>".getBytes();
+
+		assertThatThrownBy(() -> blobStore.store(new MockMultipartFile("a", "page.html", "text/html", html)))
+				.isInstanceOf(UnsupportedImageException.class);
+		assertThatThrownBy(() -> blobStore.store(new MockMultipartFile("b", "icon.svg", "image/svg+xml", svg)))
+				.isInstanceOf(UnsupportedImageException.class);
+		assertThatThrownBy(() -> blobStore.store(new MockMultipartFile("c", "cover.png", "image/png", html)))
+				.isInstanceOf(UnsupportedImageException.class);
+
+		verifyNoInteractions(repository);
+		try (Stream<Path> files = Files.list(root)) {
+			assertThat(files).containsExactly(root.resolve("tmp"));
+		}
+		try (Stream<Path> temp = Files.list(root.resolve("tmp"))) {
+			assertThat(temp).isEmpty();
+		}
+	}
+
+	@Test
+	void 이전_방식_URL_은_참조_해제하지_않는다() throws Exception {
+		StoredBlob blob = blobStore.store(new MockMultipartFile("coverImage", "cover.png", "image/png", PNG));
+
+		blobStore.release("/images/novel/20260101120000_00001.png"); // Utility.fileRename 시절 파일
+		blobStore.release("http://k.kakaocdn.net/profile.jpg"); // 카카오 프로필
+		blobStore.release(null);
+		verify(repository, never()).release(anyString());
+
+		blobStore.release(blob.url());
+		verify(repository).release(blob.hash());
+		assertThat(blobStore.store(null)).isNull();
+	}
+
+	@Test
+	void 참조가_없고_유예_시간이_지난_파일만_정리한다() throws Exception {
+		StoredBlob stale = blobStore.store(new MockMultipartFile("a", "a.png", "image/png", PNG));
+		StoredBlob fresh = blobStore.store(new MockMultipartFile("b", "b.gif", "image/gif", GIF));
+		Files.setLastModifiedTime(root.resolve(stale.path()), FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+		when(repository.findUnreferenced(any(), any(Limit.class))).thenReturn(List.of(blob(stale), blob(fresh)));
+		when(repository.deleteUnreferenced(eq(stale.hash()), any())).thenReturn(1);
+
+		assertThat(blobStore.sweep()).isEqualTo(1);
+		assertThat(root.resolve(stale.path())).doesNotExist();
+		assertThat(root.resolve(fresh.path())).exists();
+		assertThat(fresh.path()).endsWith(".gif");
+		// 유예 시간 안에 다시 올라온 파일은 행도 지우지 않음 (행만 지우면 다시 정리되지 않는 고아 파일)
+		verify(repository, never()).deleteUnreferenced(eq(fresh.hash()), any());
+	}
+
+	@Test
+	void 정리_직전에_다시_참조된_이미지는_남긴다() throws Exception {
+		StoredBlob blob = blobStore.store(new MockMultipartFile("a", "a.png", "image/png", PNG));
+		Files.setLastModifiedTime(root.resolve(blob.path()), FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+		when(repository.findUnreferenced(any(), any(Limit.class))).thenReturn(List.of(blob(blob)));
+		when(repository.deleteUnreferenced(eq(blob.hash()), any())).thenReturn(0); // 그 사이 다시 참조됨
+
+		assertThat(blobStore.sweep()).isZero();
+		assertThat(root.resolve(blob.path())).exists();
+	}
+
+	private static ImageBlob blob(StoredBlob stored) {
+		return ImageBlob.builder().hash(stored.hash()).path(stored.path()).size(stored.size()).build();
+	}
+}
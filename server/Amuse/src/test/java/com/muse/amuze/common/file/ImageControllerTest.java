@@ -0,0 +1,86 @@
+package com.muse.amuze.common.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 이미지 제공 검증 - 해시 경로 immutable 캐시/ETag, If-None-Match 304, Range 206, sendfile, 폴더 밖 경로 거절
+ */
+class ImageControllerTest {
+
+	private static final String HASH = "ab".repeat(32);
+	private static final String URL = "/images/blob/ab/ab/" + HASH + ".png";
+
+	@TempDir
+	Path root;
+
+	private ImageController controller;
+	private byte[] content;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		content = new byte[100 * 1024];
+		for (int i = 0; i < content.length; i++) content[i] = (byte) i;
+		Path file = root.resolve("ab/ab/" + HASH + ".png");
+		Files.createDirectories(file.getParent());
+		Files.write(file, content);
+		Files.writeString(root.resolve("secret.txt"), "secret");
+
+		controller = new ImageController("/images/blob/", root.resolve("").toString(), "", "", "", "", "", "");
+	}
+
+	@Test
+	void 해시_경로는_immutable_캐시와_ETag_를_주고_일치하면_304() throws Exception {
+		MockHttpServletResponse full = serve(new MockHttpServletRequest("GET", URL));
+		assertThat(full.getStatus()).isEqualTo(200);
+		assertThat(full.getHeader("Cache-Control")).contains("immutable").contains("max-age=31536000");
+		assertThat(full.getHeader("ETag")).isEqualTo("\"" + HASH + "\"");
+		assertThat(full.getContentType()).isEqualTo("image/png");
+		assertThat(full.getContentAsByteArray()).isEqualTo(content);
+
+		MockHttpServletRequest revalidate = new MockHttpServletRequest("GET", URL);
+		revalidate.addHeader("If-None-Match", "W/\"other\", \"" + HASH + "\"");
+		MockHttpServletResponse notModified = serve(revalidate);
+		assertThat(notModified.getStatus()).isEqualTo(304);
+		assertThat(notModified.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void 구간_요청은_206_이고_sendfile_지원_시_본문을_넘긴다() throws Exception {
+		MockHttpServletRequest range = new MockHttpServletRequest("GET", URL);
+		range.addHeader("Range", "bytes=10-19");
+		MockHttpServletResponse partial = serve(range);
+		assertThat(partial.getStatus()).isEqualTo(206);
+		assertThat(partial.getHeader("Content-Range")).isEqualTo("bytes 10-19/" + content.length);
+		assertThat(partial.getContentAsByteArray()).containsExactly(Arrays.copyOfRange(content, 10, 20));
+
+		MockHttpServletRequest sendfile = new MockHttpServletRequest("GET", URL);
+		sendfile.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		MockHttpServletResponse response = serve(sendfile);
+		assertThat(response.getContentLengthLong()).isEqualTo(content.length);
+		assertThat(response.getContentAsByteArray()).isEmpty(); // 본문은 Tomcat 이 커널 sendfile 로 전송
+		assertThat(sendfile.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) content.length);
+	}
+
+	@Test
+	void 폴더_밖이나_없는_파일은_404() throws Exception {
+		assertThat(serve(new MockHttpServletRequest("GET", "/images/blob/%2e%2e/secret.txt")).getStatus()).isEqualTo(404);
+		assertThat(serve(new MockHttpServletRequest("GET", "/images/blob/ab/ab/none.png")).getStatus()).isEqualTo(404);
+		assertThat(serve(new MockHttpServletRequest("GET", "/images/other/secret.txt")).getStatus()).isEqualTo(404);
+	}
+
+	private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		controller.serve(request, response);
+		return response;
+	}
+}
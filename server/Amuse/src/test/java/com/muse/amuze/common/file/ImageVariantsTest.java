@@ -0,0 +1,89 @@
+package com.muse.amuze.common.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 축소본 검증 - 세로 위치(posY) 기준 자르기, 처음 응답 시 생성 요청(lazy backfill) 후 축소본 URL
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageVariantsTest {
+
+	@TempDir
+	Path root;
+
+	@Mock
+	private ImageBlobRepository repository;
+
+	@Test
+	void 자르는_영역은_CSS_object_position_과_같다() {
+		// 세로로 긴 이미지 -> 3:4 로 자를 때 posY 0 은 맨 위, 100 은 맨 아래, 50 은 가운데
+		assertThat(ImageResizer.crop(900, 2000, ImageVariant.CARD, 0)).isEqualTo(new Rectangle(0, 0, 900, 1200));
+		assertThat(ImageResizer.crop(900, 2000, ImageVariant.CARD, 100)).isEqualTo(new Rectangle(0, 800, 900, 1200));
+		assertThat(ImageResizer.crop(900, 2000, ImageVariant.CARD, 50)).isEqualTo(new Rectangle(0, 400, 900, 1200));
+		// 가로로 긴 이미지 -> 가로 가운데
+		assertThat(ImageResizer.crop(1000, 600, ImageVariant.AVATAR, 0)).isEqualTo(new Rectangle(200, 0, 600, 600));
+		// 비율 유지 종류는 자르지 않음
+		assertThat(ImageResizer.crop(1000, 600, ImageVariant.DETAIL, 0)).isEqualTo(new Rectangle(0, 0, 1000, 600));
+	}
+
+	@Test
+	void 축소본이_없으면_원본을_주고_생성한_뒤에는_축소본을_준다() throws Exception {
+		BlobStore blobStore = new BlobStore(repository, root.toString(), "/images/blob/", Duration.ofDays(1));
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(10));
+		ImageVariants imageVariants = new ImageVariants(blobStore, executor, 40_000_000, 100, "", "", "", "");
+
+		// 위 절반 빨강, 아래 절반 파랑 (1200x3200 PNG)
+		String cover = blobStore.store(new MockMultipartFile("coverImage", "cover.png", "image/png", png(1200, 3200))).url();
+
+		assertThat(imageVariants.url(cover, 100, ImageVariant.CARD)).isEqualTo(cover); // 첫 요청 - 생성 요청만
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		String card = imageVariants.url(cover, 100, ImageVariant.CARD);
+		assertThat(card).isEqualTo(cover.replace(".png", "_card_100.png"));
+		Path cardFile = blobStore.resolve(cover).resolveSibling(card.substring(card.lastIndexOf('/') + 1));
+		BufferedImage image = ImageIO.read(cardFile.toFile());
+		assertThat(image.getWidth()).isEqualTo(360);
+		assertThat(image.getHeight()).isEqualTo(480);
+		assertThat(new Color(image.getRGB(180, 10))).isEqualTo(Color.BLUE); // posY 100 -> 아래쪽(파랑)만 남음
+		assertThat(imageVariants.stats().generated()).isEqualTo(1);
+		assertThat(imageVariants.stats().backfills()).isEqualTo(1);
+
+		// 외부 URL 은 그대로
+		assertThat(imageVariants.url("http://k.kakaocdn.net/profile.jpg", 50, ImageVariant.AVATAR))
+				.isEqualTo("http://k.kakaocdn.net/profile.jpg");
+	}
+
+	private static byte[] png(int width, int height) throws Exception {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		g.setColor(Color.RED);
+		g.fillRect(0, 0, width, height / 2);
+		g.setColor(Color.BLUE);
+		g.fillRect(0, height / 2, width, height - height / 2);
+		g.dispose();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+}
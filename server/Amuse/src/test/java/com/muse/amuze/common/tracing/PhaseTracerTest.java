@@ -0,0 +1,110 @@
+package com.muse.amuze.common.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.muse.amuze.common.tracing.LocalSpanExporter.LocalSpan;
+
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+/**
+ * 구간 추적 검증 - 하위 span 연결, 다른 스레드로 문맥 전달, 오류 기록, 로컬 파일/메모리 내보내기
+ */
+class PhaseTracerTest {
+
+	@TempDir
+	Path dir;
+
+	private SdkTracerProvider provider;
+	private LocalSpanExporter exporter;
+	private PhaseTracer phaseTracer;
+
+	@BeforeEach
+	void setUp() {
+		exporter = new LocalSpanExporter(100, dir.resolve("spans.jsonl").toString());
+		provider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build();
+		phaseTracer = new PhaseTracer(
+				new OtelTracer(provider.get("test"), new OtelCurrentTraceContext(), event -> {}));
+	}
+
+	@AfterEach
+	void tearDown() {
+		provider.close();
+	}
+
+	@Test
+	void 구간은_상위_span_아래에_태그와_함께_기록된다() throws Exception {
+		phaseTracer.trace("scene.generate", span -> {
+			span.tag("novel.id", 7L).tag("mode", "AUTO");
+			return phaseTracer.trace("llm.attempt", attempt -> {
+				attempt.tag("llm.attempt", 1);
+				phaseTracer.tag("llm.tokens.prompt", 2300); // 현재 span(llm.attempt)에 추가
+				return null;
+			});
+		});
+
+		LocalSpan root = find("scene.generate");
+		LocalSpan attempt = find("llm.attempt");
+		assertThat(root.parentId()).isNull();
+		assertThat(root.tags()).containsEntry("novel.id", 7L).containsEntry("mode", "AUTO");
+		assertThat(attempt.traceId()).isEqualTo(root.traceId());
+		assertThat(attempt.parentId()).isEqualTo(root.spanId());
+		assertThat(attempt.tags()).containsEntry("llm.attempt", 1L).containsEntry("llm.tokens.prompt", 2300L);
+
+		// 파일에는 span 1개당 JSON 1줄
+		assertThat(Files.readAllLines(dir.resolve("spans.jsonl"))).hasSize(2)
+				.allSatisfy(line -> assertThat(line).contains(root.traceId()));
+	}
+
+	@Test
+	void 다른_스레드의_작업도_같은_trace_로_이어진다() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			phaseTracer.trace("db.save_scene", span -> {
+				// 요약 스케줄러처럼 제출 시점의 문맥을 넘김
+				executor.execute(phaseTracer.wrap(() -> phaseTracer.trace("summary.summarize", summary -> null)));
+				return null;
+			});
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		}
+
+		LocalSpan save = find("db.save_scene");
+		LocalSpan summary = find("summary.summarize");
+		assertThat(summary.traceId()).isEqualTo(save.traceId());
+		assertThat(summary.parentId()).isEqualTo(save.spanId());
+	}
+
+	@Test
+	void 예외는_span_오류로_기록하고_그대로_던진다() {
+		assertThatThrownBy(() -> phaseTracer.trace("db.save_scene", span -> {
+			throw new IllegalStateException("낙관적 락 충돌");
+		})).isInstanceOf(IllegalStateException.class);
+
+		LocalSpan span = find("db.save_scene");
+		assertThat(span.error()).isTrue();
+		assertThat(span.errorMessage()).contains("낙관적 락 충돌");
+	}
+
+	private LocalSpan find(String name) {
+		List<LocalSpan> spans = exporter.recent().stream().filter(span -> span.name().equals(name)).toList();
+		assertThat(spans).hasSize(1);
+		return spans.get(0);
+	}
+}
@@ -0,0 +1,311 @@
+package com.muse.amuze.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 부하 테스트용 가짜 OpenAI 호환 서버 (POST /v1/chat/completions)
+ * - 실제 API 크레딧 없이 장면 생성/재생성/요약 흐름을 부하 테스트하기 위함
+ * - 응답 지연 : 로그정규 분포 (중앙값 latencyMedian, 꼬리 두께 latencySigma) - 스트림이면 첫 조각까지의 지연
+ * - 스트리밍 : chunkChars 글자씩 chunkInterval 간격으로 SSE 조각 전송 후 usage 조각, [DONE]
+ * - 오류 : errorRate 비율로 429/500 응답, malformedRate 비율로 잘리거나 깨진 장면 JSON 응답
+ * - 응답 내용 : response_format 이 있거나 프롬프트에 ai_output 이 있으면 장면 JSON, 아니면 짧은 문장(요약/사건 추출)
+ * - 첫 메세지가 이전에 본 것과 같으면 그 토큰 수를 cached_tokens 로 돌려줌 (프롬프트 캐시 흉내)
+ *
+ * 단독 실행 : gradle fakeLlm -Pfake.port=18089 -Pfake.latency-median=1500ms ...
+ * 애플리케이션은 loadtest 프로필(spring.ai.openai.base-url 이 이 서버)로 실행
+ */
+public class FakeOpenAiServer implements AutoCloseable {
+
+	private static final String COMPLETIONS_PATH = "/v1/chat/completions";
+	private static final String MODEL = "fake-gpt";
+
+	private static final String SCENE_TEXT = "창밖으로 빗소리가 잦아들자 서아는 조용히 고개를 들어 그를 바라보았다. "
+			+ "\"우산, 같이 쓸래요?\" 그가 건넨 말에 서아는 잠시 망설이다 작게 웃었다. "
+			+ "젖은 어깨가 닿을 듯 말 듯한 거리에서 두 사람은 천천히 정류장까지 걸었다. ";
+	private static final String SUMMARY_TEXT = "비 오는 날 처음 만난 두 사람은 같은 우산을 쓰고 정류장까지 함께 걸으며 조금씩 가까워졌다.";
+
+	private final Settings settings;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Set<Integer> seenPrefixes = ConcurrentHashMap.newKeySet();
+	private HttpServer server;
+
+	// 지표
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder streams = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder malformed = new LongAdder();
+
+	public FakeOpenAiServer(Settings settings) {
+		this.settings = settings;
+	}
+
+	/** 서버 시작
+	 * @param port : 0 이면 임의 포트
+	 * @return base-url (spring.ai.openai.base-url 에 그대로 사용)
+	 * @throws IOException
+	 */
+	public String start(int port) throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext(COMPLETIONS_PATH, this::handle);
+		server.start();
+		return baseUrl();
+	}
+
+	public String baseUrl() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	@Override
+	public void close() {
+		if (server != null) server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			requests.increment();
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				send(exchange, 405, "application/json", error("method not allowed", "invalid_request_error"));
+				return;
+			}
+
+			JsonNode request;
+			try (InputStream in = exchange.getRequestBody()) {
+				request = objectMapper.readTree(in);
+			}
+			boolean stream = request.path("stream").asBoolean(false);
+			if (stream) streams.increment();
+
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			sleep(latency(random));
+
+			if (random.nextDouble() < settings.errorRate()) {
+				errors.increment();
+				boolean rateLimited = random.nextBoolean();
+				send(exchange, rateLimited ? 429 : 500, "application/json",
+						rateLimited ? error("Rate limit reached", "rate_limit_exceeded") : error("The server had an error", "server_error"));
+				return;
+			}
+
+			String content = content(request, random);
+			Usage usage = usage(request, content);
+			if (stream) {
+				stream(exchange, content, usage, request.path("stream_options").path("include_usage").asBoolean(false));
+			} else {
+				send(exchange, 200, "application/json", completion(content, usage));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 장면 요청이면 장면 JSON (일부는 깨뜨림), 아니면 요약/사건 문장
+	private String content(JsonNode request, ThreadLocalRandom random) {
+		boolean scene = request.has("response_format") || request.path("messages").toString().contains("ai_output");
+		if (!scene) return SUMMARY_TEXT;
+
+		ObjectNode json = objectMapper.createObjectNode();
+		json.put("ai_output", SCENE_TEXT.repeat(Math.max(1, settings.sceneChars() / SCENE_TEXT.length())));
+		json.put("affinity_delta", random.nextInt(-3, 6));
+		json.put("reason", "배려하는 행동에 마음이 조금 열렸다.");
+		json.put("key_event", "두 사람이 한 우산을 쓰고 정류장까지 걸었다.");
+		String text = json.toString();
+
+		if (random.nextDouble() < settings.malformedRate()) {
+			malformed.increment();
+			// 잘린 JSON (key_event 누락) 또는 앞뒤에 설명이 붙은 JSON
+			return random.nextBoolean() ? text.substring(0, text.indexOf(",\"key_event\""))
+					: "다음은 요청하신 장면입니다.\n```json\n" + text + "\n```";
+		}
+		return text;
+	}
+
+	private Usage usage(JsonNode request, String content) {
+		JsonNode messages = request.path("messages");
+		int promptTokens = estimateTokens(messages.toString());
+		int cachedTokens = 0;
+		if (messages.size() > 0) {
+			String prefix = messages.get(0).path("content").asText();
+			if (!seenPrefixes.add(prefix.hashCode())) cachedTokens = estimateTokens(prefix);
+		}
+		int completionTokens = estimateTokens(content);
+		return new Usage(promptTokens, Math.min(cachedTokens, promptTokens), completionTokens);
+	}
+
+	// 한글 기준 대략 글자 수 / 1.5 (정확할 필요 없음 - 지표 흐름 확인용)
+	private static int estimateTokens(String text) {
+		return (int) Math.ceil(text.length() / 1.5);
+	}
+
+	private void stream(HttpExchange exchange, String content, Usage usage, boolean includeUsage)
+			throws IOException, InterruptedException {
+		exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+		exchange.sendResponseHeaders(200, 0); // chunked
+		OutputStream out = exchange.getResponseBody();
+
+		String id = "chatcmpl-" + Long.toHexString(System.nanoTime());
+		int step = Math.max(1, settings.chunkChars());
+		for (int i = 0; i < content.length(); i += step) {
+			if (i > 0) sleep(settings.chunkInterval());
+			ObjectNode delta = objectMapper.createObjectNode();
+			if (i == 0) delta.put("role", "assistant");
+			delta.put("content", content.substring(i, Math.min(content.length(), i + step)));
+			writeEvent(out, chunk(id, delta, null));
+		}
+		writeEvent(out, chunk(id, objectMapper.createObjectNode(), "stop"));
+		if (includeUsage) {
+			ObjectNode last = chunk(id, null, null);
+			last.set("usage", usageNode(usage));
+			writeEvent(out, last);
+		}
+		out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+		out.flush();
+	}
+
+	private ObjectNode chunk(String id, ObjectNode delta, String finishReason) {
+		ObjectNode chunk = objectMapper.createObjectNode();
+		chunk.put("id", id);
+		chunk.put("object", "chat.completion.chunk");
+		chunk.put("created", System.currentTimeMillis() / 1000);
+		chunk.put("model", MODEL);
+		ArrayNode choices = chunk.putArray("choices");
+		if (delta != null) {
+			ObjectNode choice = choices.addObject();
+			choice.put("index", 0);
+			choice.set("delta", delta);
+			choice.put("finish_reason", finishReason);
+		}
+		return chunk;
+	}
+
+	private void writeEvent(OutputStream out, ObjectNode event) throws IOException {
+		out.write(("data: " + event + "\n\n").getBytes(StandardCharsets.UTF_8));
+		out.flush();
+	}
+
+	private String completion(String content, Usage usage) {
+		ObjectNode body = objectMapper.createObjectNode();
+		body.put("id", "chatcmpl-" + Long.toHexString(System.nanoTime()));
+		body.put("object", "chat.completion");
+		body.put("created", System.currentTimeMillis() / 1000);
+		body.put("model", MODEL);
+		ObjectNode choice = body.putArray("choices").addObject();
+		choice.put("index", 0);
+		choice.putObject("message").put("role", "assistant").put("content", content);
+		choice.put("finish_reason", "stop");
+		body.set("usage", usageNode(usage));
+		return body.toString();
+	}
+
+	private ObjectNode usageNode(Usage usage) {
+		ObjectNode node = objectMapper.createObjectNode();
+		node.put("prompt_tokens", usage.promptTokens());
+		node.put("completion_tokens", usage.completionTokens());
+		node.put("total_tokens", usage.promptTokens() + usage.completionTokens());
+		node.putObject("prompt_tokens_details").put("cached_tokens", usage.cachedTokens());
+		return node;
+	}
+
+	private String error(String message, String type) {
+		ObjectNode body = objectMapper.createObjectNode();
+		body.putObject("error").put("message", message).put("type", type).put("code", type);
+		return body.toString();
+	}
+
+	private void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+	}
+
+	// 로그정규 분포 : 중앙값 * e^(sigma * N(0,1))
+	private Duration latency(ThreadLocalRandom random) {
+		if (settings.latencyMedian().isZero()) return Duration.ZERO;
+		double factor = Math.exp(settings.latencySigma() * random.nextGaussian());
+		return Duration.ofNanos((long) (settings.latencyMedian().toNanos() * factor));
+	}
+
+	private static void sleep(Duration duration) throws InterruptedException {
+		if (!duration.isZero()) Thread.sleep(duration);
+	}
+
+	/** 서버 지표
+	 * @return
+	 */
+	public Stats stats() {
+		return new Stats(requests.sum(), streams.sum(), errors.sum(), malformed.sum());
+	}
+
+	/** 가짜 서버 설정
+	 * @param latencyMedian 응답(스트림이면 첫 조각) 지연 중앙값
+	 * @param latencySigma  로그정규 분포 sigma (0 이면 고정 지연, 0.5 이면 p99 가 중앙값의 약 3.2배)
+	 * @param chunkChars    스트림 조각당 글자 수
+	 * @param chunkInterval 스트림 조각 간격
+	 * @param errorRate     429/500 응답 비율 (0~1)
+	 * @param malformedRate 깨진 장면 JSON 응답 비율 (0~1)
+	 * @param sceneChars    장면 본문 길이 (대략)
+	 */
+	public record Settings(Duration latencyMedian, double latencySigma, int chunkChars, Duration chunkInterval,
+			double errorRate, double malformedRate, int sceneChars) {
+
+		/** 시스템 프로퍼티(fake.*)로 설정, 없으면 실제 gpt-4o 장면 생성과 비슷한 기본값 */
+		public static Settings fromSystemProperties() {
+			return new Settings(
+					duration("fake.latency-median", "1200ms"),
+					Double.parseDouble(System.getProperty("fake.latency-sigma", "0.5")),
+					Integer.getInteger("fake.chunk-chars", 8),
+					duration("fake.chunk-interval", "30ms"),
+					Double.parseDouble(System.getProperty("fake.error-rate", "0.02")),
+					Double.parseDouble(System.getProperty("fake.malformed-rate", "0.03")),
+					Integer.getInteger("fake.scene-chars", 800));
+		}
+
+		private static Duration duration(String key, String defaultValue) {
+			return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+		}
+	}
+
+	/** 가짜 서버 지표
+	 * @param requests  받은 요청 수
+	 * @param streams   그 중 스트림 요청 수
+	 * @param errors    429/500 으로 응답한 수
+	 * @param malformed 깨진 장면 JSON 으로 응답한 수
+	 */
+	public record Stats(long requests, long streams, long errors, long malformed) {
+	}
+
+	private record Usage(int promptTokens, int cachedTokens, int completionTokens) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Settings settings = Settings.fromSystemProperties();
+		FakeOpenAiServer server = new FakeOpenAiServer(settings);
+		String baseUrl = server.start(Integer.getInteger("fake.port", 18089));
+		System.out.println("가짜 OpenAI 서버 시작 : " + baseUrl + " " + settings);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			System.out.println("가짜 OpenAI 서버 종료 : " + server.stats());
+			server.close();
+		}));
+		Thread.currentThread().join();
+	}
+}
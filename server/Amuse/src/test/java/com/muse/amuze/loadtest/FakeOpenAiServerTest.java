@@ -0,0 +1,102 @@
+package com.muse.amuze.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.retry.support.RetryTemplate;
+
+import com.muse.amuze.common.ai.LlmGateway;
+import com.muse.amuze.common.tracing.PhaseTracer;
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+import com.muse.amuze.novel.model.service.AiSceneParser;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 가짜 OpenAI 서버가 실제 Spring AI 클라이언트와 호환되는지 검증
+ * - 일반 호출 / 스트리밍(SSE 조각 + usage) / 오류 응답 / 깨진 JSON
+ */
+class FakeOpenAiServerTest {
+
+	private static final String SCENE_PROMPT = "다음 장면을 ai_output, affinity_delta, reason, key_event JSON 으로 작성하십시오.";
+
+	private final AiSceneParser parser = new AiSceneParser("json_schema");
+	private FakeOpenAiServer server;
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@Test
+	void 장면_JSON_과_캐시_토큰을_돌려준다() throws Exception {
+		LlmGateway gateway = gateway(settings(0, 0), 1);
+		Prompt prompt = new Prompt(SCENE_PROMPT, OpenAiChatOptions.builder().responseFormat(parser.responseFormat()).build());
+
+		AiSceneParser.Parsed first = gateway.call("scene", prompt, response -> parser.parse(response.getResult().getOutput().getText()));
+		gateway.call("scene", prompt, response -> parser.parse(response.getResult().getOutput().getText()));
+
+		AiSceneResult result = first.result();
+		assertThat(result.aiOutput()).isNotBlank();
+		assertThat(result.keyEvent()).isNotBlank();
+		// 같은 첫 메세지 두 번째 호출은 캐시 적중으로 응답
+		assertThat(gateway.tokenUsage().cachedTokens()).isPositive();
+		assertThat(gateway.tokenUsage().promptTokens()).isGreaterThan(gateway.tokenUsage().cachedTokens());
+	}
+
+	@Test
+	void 스트리밍은_조각으로_나눠_보내고_usage_로_끝난다() throws Exception {
+		LlmGateway gateway = gateway(settings(0, 0), 1);
+		Prompt prompt = new Prompt(SCENE_PROMPT, OpenAiChatOptions.builder().streamUsage(true).build());
+
+		List<ChatResponse> chunks = gateway.stream("scene.stream", prompt).collectList().block(Duration.ofSeconds(10));
+
+		String text = chunks.stream().filter(c -> c.getResult() != null && c.getResult().getOutput().getText() != null)
+				.map(c -> c.getResult().getOutput().getText()).collect(Collectors.joining());
+		assertThat(chunks.size()).isGreaterThan(10);
+		assertThat(parser.parse(text).result().aiOutput()).isNotBlank();
+		assertThat(gateway.tokenUsage().completionTokens()).isPositive();
+		assertThat(server.stats().streams()).isEqualTo(1);
+	}
+
+	@Test
+	void 오류_비율과_깨진_JSON_비율을_적용한다() throws Exception {
+		LlmGateway failing = gateway(settings(1.0, 0), 2);
+		assertThatThrownBy(() -> failing.callText("scene", new Prompt(SCENE_PROMPT))).isInstanceOf(RuntimeException.class);
+		assertThat(server.stats().errors()).isEqualTo(server.stats().requests()).isPositive();
+		server.close();
+
+		LlmGateway gateway = gateway(settings(0, 1.0), 1);
+		String text = gateway.callText("scene", new Prompt(SCENE_PROMPT));
+		AiSceneParser.Parsed parsed = parser.parse(text);
+		assertThat(server.stats().malformed()).isEqualTo(1);
+		// 잘린 JSON 이면 key_event 누락으로 보완 대상, 설명이 붙은 JSON 이면 그대로 파싱
+		assertThat(parsed.result().aiOutput()).isNotBlank();
+	}
+
+	private FakeOpenAiServer.Settings settings(double errorRate, double malformedRate) {
+		return new FakeOpenAiServer.Settings(Duration.ZERO, 0, 40, Duration.ZERO, errorRate, malformedRate, 400);
+	}
+
+	private LlmGateway gateway(FakeOpenAiServer.Settings settings, int maxAttempts) throws Exception {
+		server = new FakeOpenAiServer(settings);
+		OpenAiApi api = new OpenAiApi(server.start(0), "fake-key");
+		OpenAiChatModel chatModel = new OpenAiChatModel(api, OpenAiChatOptions.builder().model("fake-gpt").build(), null,
+				RetryTemplate.builder().maxAttempts(1).build());
+		return new LlmGateway(chatModel, new SimpleMeterRegistry(), PhaseTracer.noop(),
+				LlmGateway.Settings.defaults().withTimeouts(Duration.ofSeconds(5), Duration.ofSeconds(10))
+						.withMaxAttempts(maxAttempts).withBackoff(Duration.ofMillis(1), Duration.ofMillis(10))
+						.withBreaker(5, Duration.ofSeconds(1)));
+	}
+}
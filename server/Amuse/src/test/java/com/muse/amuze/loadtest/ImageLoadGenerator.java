@@ -0,0 +1,125 @@
+package com.muse.amuze.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * 이미지 제공 부하 생성기 (실행 중인 애플리케이션 대상, 한 장의 인기 커버를 계속 요청)
+ * - closed-loop 가상 사용자, think time 없음 -> 서버가 낼 수 있는 최대 처리량(req/s) 측정
+ * - image     : 본문 전체 응답 (캐시 없는 첫 방문, 200)
+ *   image-304 : If-None-Match 재검증 (캐시가 있는 재방문, 304 - 이전 방식(ETag 없음)이면 200 전체 응답으로 집계)
+ *   비율은 revalidate(%) 로 지정
+ * - 결과 : 콘솔 표 + CSV 누적 (LoadReport, label 로 변경 전/후 비교)
+ *
+ * 실행 : gradle imageLoadTest -Ploadtest.image-path=/images/blob/ab/cd/<hash>.jpg -Ploadtest.users=32 -Ploadtest.label=<커밋>
+ */
+public class ImageLoadGenerator {
+
+	private final Settings settings;
+	private final LoadReport report = new LoadReport();
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private volatile long measureFrom;
+	private volatile String etag;
+
+	public ImageLoadGenerator(Settings settings) {
+		this.settings = settings;
+	}
+
+	/** 부하 실행 (warmup + duration 동안 가상 사용자 실행, 모두 끝나면 결과 반환)
+	 * @return
+	 */
+	public LoadReport run() {
+		long start = System.nanoTime();
+		measureFrom = start + settings.warmup().toNanos();
+		long deadline = measureFrom + settings.duration().toNanos();
+
+		try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < settings.users(); i++) {
+				users.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						boolean revalidate = etag != null && ThreadLocalRandom.current().nextInt(100) < settings.revalidate();
+						send(revalidate);
+					}
+				});
+			}
+		}
+		return report;
+	}
+
+	// 요청 전송 + 지연 기록 (측정 구간 이후 시작한 요청만) - 본문은 끝까지 읽고 버림
+	private void send(boolean revalidate) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(settings.baseUrl() + settings.imagePath()))
+				.timeout(settings.requestTimeout()).GET();
+		if (revalidate) builder.header("If-None-Match", etag);
+
+		long started = System.nanoTime();
+		boolean success = false;
+		try {
+			HttpResponse<Void> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+			int status = response.statusCode();
+			success = status == 200 || (revalidate && status == 304);
+			if (status == 200 && etag == null) etag = response.headers().firstValue("ETag").orElse(null);
+		} catch (IOException e) {
+			// 연결 실패/타임아웃 - 오류로 집계
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (started >= measureFrom) report.record(revalidate ? "image-304" : "image", System.nanoTime() - started, success);
+	}
+
+	/** 이미지 부하 설정
+	 * @param baseUrl        애플리케이션 주소
+	 * @param imagePath      요청할 이미지 경로 (/images/...)
+	 * @param users          동시 가상 사용자 수
+	 * @param warmup         집계하지 않는 예열 시간
+	 * @param duration       측정 시간
+	 * @param revalidate     If-None-Match 재검증 요청 비율 (%)
+	 * @param requestTimeout 요청 1건 제한 시간
+	 * @param label          결과 구분 값 (커밋 해시 등)
+	 * @param reportFile     결과 CSV 누적 파일
+	 */
+	public record Settings(String baseUrl, String imagePath, int users, Duration warmup, Duration duration,
+			int revalidate, Duration requestTimeout, String label, Path reportFile) {
+
+		/** 시스템 프로퍼티(loadtest.*)로 설정 */
+		public static Settings fromSystemProperties() {
+			String imagePath = System.getProperty("loadtest.image-path", "");
+			if (imagePath.isBlank()) throw new IllegalArgumentException("loadtest.image-path 를 지정하세요 (/images/...)");
+			return new Settings(
+					System.getProperty("loadtest.base-url", "http://localhost:80"),
+					imagePath,
+					Integer.getInteger("loadtest.users", 32),
+					duration("loadtest.warmup", "10s"),
+					duration("loadtest.duration", "30s"),
+					Integer.getInteger("loadtest.revalidate", 50),
+					duration("loadtest.request-timeout", "10s"),
+					System.getProperty("loadtest.label", "local"),
+					Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/image-results.csv")));
+		}
+
+		private static Duration duration(String key, String defaultValue) {
+			return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Settings settings = Settings.fromSystemProperties();
+		System.out.println("이미지 부하 테스트 시작 : " + settings);
+
+		LoadReport report = new ImageLoadGenerator(settings).run();
+
+		report.print(System.out, settings.duration());
+		report.appendCsv(settings.reportFile(), settings.label(), settings.duration());
+		System.out.println("결과 누적 : " + settings.reportFile().toAbsolutePath());
+	}
+}
@@ -0,0 +1,296 @@
+package com.muse.amuze.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 소설 API 부하 생성기 (실행 중인 애플리케이션 대상, closed-loop 가상 사용자)
+ * - 가상 사용자마다 소설 1개를 만들고(/write) 이후 가중치(mix)에 따라 요청을 반복 :
+ *   도서관 목록(/list), 내 목록(/list/{userId}), 장면 목록(/{id}/scenes), 장면 생성(/generate),
+ *   재생성(/regenerate), 마지막 장면 수정(/editScene), 새 소설 작성(/write)
+ * - 요청 사이 think time (지수 분포, 평균 thinkTime) - 실제 사용자가 장면을 읽는 시간
+ * - warmup 동안의 요청은 집계하지 않음 (JIT/커넥션 풀/캐시 예열)
+ * - 결과 : 콘솔 표 + CSV 누적 (label 로 커밋 간 비교)
+ *
+ * 실행 순서
+ *   1. gradle fakeLlm                                   (가짜 OpenAI 서버, 기본 포트 18089)
+ *   2. gradle bootRun --args='--spring.profiles.active=loadtest'  (PostgreSQL, config.properties 필요)
+ *   3. gradle loadTest -Ploadtest.token=<AccessToken> -Ploadtest.user-id=<userNo> -Ploadtest.users=20 -Ploadtest.duration=2m
+ * 주의 : closed-loop 라 서버가 느려지면 요청 수도 줄어듦 (지연 백분위는 서비스 시간 기준)
+ */
+public class LoadGenerator {
+
+	private static final String API = "/api/novel";
+	private static final String DEFAULT_MIX = "list=30,myList=10,scenes=25,generate=20,regenerate=5,editScene=5,write=5";
+	private static final String[] USER_INPUTS = { "서아에게 우산을 건넨다.", "조용히 옆자리에 앉는다.", "도서관에서 책을 골라 준다.",
+			"비가 그칠 때까지 함께 기다리자고 말한다." };
+
+	private final Settings settings;
+	private final LoadReport report = new LoadReport();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final List<Map.Entry<String, Integer>> mix;
+	private final int totalWeight;
+	private volatile long measureFrom;
+
+	public LoadGenerator(Settings settings) {
+		this.settings = settings;
+		this.mix = new ArrayList<>(parseMix(settings.mix()).entrySet());
+		this.totalWeight = mix.stream().mapToInt(Map.Entry::getValue).sum();
+	}
+
+	/** 부하 실행 (warmup + duration 동안 가상 사용자 실행, 모두 끝나면 결과 반환)
+	 * @return
+	 */
+	public LoadReport run() {
+		long start = System.nanoTime();
+		measureFrom = start + settings.warmup().toNanos();
+		long deadline = measureFrom + settings.duration().toNanos();
+
+		try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < settings.users(); i++) {
+				users.submit(() -> new VirtualUser().run(deadline));
+			}
+		}
+		return report;
+	}
+
+	// 가상 사용자 1명 : 자기 소설의 마지막 장면 ID 를 들고 다니며 요청
+	private class VirtualUser {
+		private Long novelId;
+		private Long lastSceneId;
+
+		void run(long deadline) {
+			write();
+			while (System.nanoTime() < deadline) {
+				think();
+				String operation = pick();
+				if (novelId == null && !"write".equals(operation)) operation = "write"; // 작성 실패 시 다시 작성부터
+				switch (operation) {
+					case "list" -> get("list", API + "/list?order=latest&page=" + ThreadLocalRandom.current().nextInt(3) + "&size=12");
+					case "myList" -> get("myList", API + "/list/" + settings.userId());
+					case "scenes" -> scenes();
+					case "generate" -> generate();
+					case "regenerate" -> lastScene("regenerate", "regenerate", null);
+					case "editScene" -> lastScene("editScene", "editScene", "수정한 장면 본문입니다. " + USER_INPUTS[0]);
+					case "write" -> write();
+					default -> throw new IllegalArgumentException("알 수 없는 요청 종류 : " + operation);
+				}
+			}
+		}
+
+		private void write() {
+			ObjectNode novelInfo = objectMapper.createObjectNode();
+			novelInfo.put("title", "부하 테스트 " + UUID.randomUUID().toString().substring(0, 8));
+			novelInfo.put("description", "가짜 LLM 서버로 생성한 부하 테스트용 소설");
+			novelInfo.putArray("tags").add("로맨스").add("캠퍼스");
+			novelInfo.put("firstScene", "비 오는 오후, 캠퍼스 정문 앞에서 우산 없이 서 있는 서아를 발견했다.");
+			var characters = novelInfo.putArray("characters");
+			characters.addObject().put("name", "서아").put("role", "MAIN").put("gender", "F").put("personality", "차분함")
+					.put("appearance", "긴 생머리");
+			characters.addObject().put("name", "민준").put("role", "USER").put("gender", "M").put("personality", "다정함")
+					.put("appearance", "안경");
+
+			String boundary = "----amuse" + UUID.randomUUID();
+			HttpRequest request = request(API + "/write")
+					.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+					.POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, "novelInfo", novelInfo.toString())))
+					.build();
+			JsonNode body = send("write", request);
+			if (body != null && body.canConvertToLong()) {
+				novelId = body.asLong();
+				lastSceneId = null;
+				scenes();
+			}
+		}
+
+		private void scenes() {
+			JsonNode body = get("scenes", API + "/" + novelId + "/scenes");
+			if (body != null && body.isArray() && !body.isEmpty()) {
+				lastSceneId = body.get(body.size() - 1).path("sceneId").asLong();
+			}
+		}
+
+		private void generate() {
+			if (lastSceneId == null) {
+				scenes();
+				return;
+			}
+			boolean auto = ThreadLocalRandom.current().nextInt(10) < 3;
+			ObjectNode input = input(auto ? "AUTO" : "USER", auto ? null : randomInput());
+			input.put("idempotencyKey", UUID.randomUUID().toString());
+			JsonNode body = post("generate", API + "/generate", input);
+			if (body != null && body.hasNonNull("sceneId")) lastSceneId = body.get("sceneId").asLong();
+		}
+
+		// 마지막 장면 대상 요청 (재생성/수정)
+		private void lastScene(String endpoint, String path, String content) {
+			if (lastSceneId == null) {
+				scenes();
+				return;
+			}
+			JsonNode body = post(endpoint, API + "/" + path, input("USER", content != null ? content : randomInput()));
+			if (body != null && body.hasNonNull("sceneId")) lastSceneId = body.get("sceneId").asLong();
+		}
+
+		private ObjectNode input(String mode, String content) {
+			ObjectNode input = objectMapper.createObjectNode();
+			input.put("novelId", novelId);
+			input.put("lastSceneId", lastSceneId);
+			input.put("mode", mode);
+			input.put("content", content);
+			return input;
+		}
+
+		private String randomInput() {
+			return USER_INPUTS[ThreadLocalRandom.current().nextInt(USER_INPUTS.length)];
+		}
+
+		private void think() {
+			if (settings.thinkTime().isZero()) return;
+			double mean = settings.thinkTime().toMillis();
+			long millis = (long) (-mean * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private JsonNode get(String endpoint, String path) {
+		return send(endpoint, request(path).GET().build());
+	}
+
+	private JsonNode post(String endpoint, String path, JsonNode body) {
+		return send(endpoint, request(path).header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body.toString())).build());
+	}
+
+	private HttpRequest.Builder request(String path) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+				.timeout(settings.requestTimeout());
+		if (!settings.token().isBlank()) builder.header("Authorization", "Bearer " + settings.token());
+		return builder;
+	}
+
+	// 요청 전송 + 지연 기록 (측정 구간 이후 시작한 요청만), 2xx 면 JSON 본문 반환
+	private JsonNode send(String endpoint, HttpRequest request) {
+		long started = System.nanoTime();
+		boolean success = false;
+		JsonNode body = null;
+		try {
+			HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+			success = response.statusCode() / 100 == 2;
+			if (success && response.body().length > 0) body = objectMapper.readTree(response.body());
+		} catch (IOException e) {
+			// 연결 실패/타임아웃 - 오류로 집계
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (started >= measureFrom) report.record(endpoint, System.nanoTime() - started, success);
+		return body;
+	}
+
+	private String pick() {
+		int r = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Map.Entry<String, Integer> entry : mix) {
+			r -= entry.getValue();
+			if (r < 0) return entry.getKey();
+		}
+		return mix.get(mix.size() - 1).getKey();
+	}
+
+	private static byte[] multipart(String boundary, String name, String json) {
+		String part = "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"" + name + "\"\r\n"
+				+ "Content-Type: application/json\r\n\r\n"
+				+ json + "\r\n"
+				+ "--" + boundary + "--\r\n";
+		return part.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/** "list=30,generate=20" 형식의 요청 비율 파싱
+	 * @param mix
+	 * @return
+	 */
+	static Map<String, Integer> parseMix(String mix) {
+		Map<String, Integer> weights = new LinkedHashMap<>();
+		for (String entry : mix.split(",")) {
+			String[] pair = entry.trim().split("=");
+			if (pair.length != 2) throw new IllegalArgumentException("요청 비율 형식 오류 : " + entry);
+			int weight = Integer.parseInt(pair[1].trim());
+			if (weight > 0) weights.put(pair[0].trim(), weight);
+		}
+		if (weights.isEmpty()) throw new IllegalArgumentException("요청 비율이 비어 있습니다 : " + mix);
+		return weights;
+	}
+
+	/** 부하 생성 설정
+	 * @param baseUrl        애플리케이션 주소
+	 * @param token          Access Token (Authorization: Bearer)
+	 * @param userId         토큰 주인의 회원 번호 (/list/{userId})
+	 * @param users          동시 가상 사용자 수
+	 * @param warmup         집계하지 않는 예열 시간
+	 * @param duration       측정 시간
+	 * @param thinkTime      요청 사이 평균 대기 시간 (0 이면 쉬지 않음)
+	 * @param requestTimeout 요청 1건 제한 시간
+	 * @param mix            요청 종류별 가중치
+	 * @param label          결과 구분 값 (커밋 해시 등)
+	 * @param reportFile     결과 CSV 누적 파일
+	 */
+	public record Settings(String baseUrl, String token, int userId, int users, Duration warmup, Duration duration,
+			Duration thinkTime, Duration requestTimeout, String mix, String label, Path reportFile) {
+
+		/** 시스템 프로퍼티(loadtest.*)로 설정 */
+		public static Settings fromSystemProperties() {
+			return new Settings(
+					System.getProperty("loadtest.base-url", "http://localhost:80"),
+					System.getProperty("loadtest.token", ""),
+					Integer.getInteger("loadtest.user-id", 1),
+					Integer.getInteger("loadtest.users", 10),
+					duration("loadtest.warmup", "20s"),
+					duration("loadtest.duration", "1m"),
+					duration("loadtest.think-time", "1s"),
+					duration("loadtest.request-timeout", "120s"),
+					System.getProperty("loadtest.mix", DEFAULT_MIX),
+					System.getProperty("loadtest.label", "local"),
+					Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/results.csv")));
+		}
+
+		private static Duration duration(String key, String defaultValue) {
+			return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Settings settings = Settings.fromSystemProperties();
+		System.out.println("부하 테스트 시작 : " + settings);
+
+		LoadReport report = new LoadGenerator(settings).run();
+
+		report.print(System.out, settings.duration());
+		report.appendCsv(settings.reportFile(), settings.label(), settings.duration());
+		System.out.println("결과 누적 : " + settings.reportFile().toAbsolutePath());
+	}
+}
@@ -0,0 +1,137 @@
+package com.muse.amuze.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 부하 테스트 결과 집계 (엔드포인트별 처리량, 지연 p50/p95/p99/max, 오류 수)
+ * - 측정값을 전부 보관 후 정렬해서 백분위 계산 (nearest-rank) : 부하 테스트 한 번 분량이면 충분히 작음
+ * - 커밋 간 비교 : 실행마다 label(커밋 해시 등)을 붙여 같은 CSV 파일에 한 줄씩 누적
+ */
+public class LoadReport {
+
+	public static final String ALL = "ALL";
+	private static final String CSV_HEADER = "label,time,endpoint,count,errors,throughput,p50_ms,p95_ms,p99_ms,max_ms";
+
+	private final Map<String, Series> series = new ConcurrentSkipListMap<>();
+
+	/** 요청 1건 기록
+	 * @param endpoint
+	 * @param nanos    : 응답 완료까지 걸린 시간
+	 * @param success  : 2xx 응답 여부
+	 */
+	public void record(String endpoint, long nanos, boolean success) {
+		series.computeIfAbsent(endpoint, k -> new Series()).add(nanos, success);
+	}
+
+	/** 엔드포인트별 결과 (마지막 줄은 전체 합계)
+	 * @param elapsed : 측정 구간 길이 (처리량 계산용)
+	 * @return
+	 */
+	public List<Row> rows(Duration elapsed) {
+		List<Row> rows = new ArrayList<>();
+		Series all = new Series();
+		series.forEach((endpoint, s) -> {
+			rows.add(s.row(endpoint, elapsed));
+			all.addAll(s);
+		});
+		rows.add(all.row(ALL, elapsed));
+		return rows;
+	}
+
+	/** 콘솔 출력
+	 * @param out
+	 * @param elapsed
+	 */
+	public void print(PrintStream out, Duration elapsed) {
+		out.printf("%-12s %8s %7s %9s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)",
+				"p99(ms)", "max(ms)");
+		for (Row row : rows(elapsed)) {
+			out.printf("%-12s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", row.endpoint(), row.count(), row.errors(),
+					row.throughput(), row.p50(), row.p95(), row.p99(), row.max());
+		}
+	}
+
+	/** CSV 파일에 이번 실행 결과 누적 (파일이 없으면 헤더부터)
+	 * @param file
+	 * @param label   : 커밋 해시 등 실행 구분 값
+	 * @param elapsed
+	 * @throws IOException
+	 */
+	public void appendCsv(Path file, String label, Duration elapsed) throws IOException {
+		if (file.getParent() != null) Files.createDirectories(file.getParent());
+		List<String> lines = new ArrayList<>();
+		if (!Files.exists(file)) lines.add(CSV_HEADER);
+
+		String time = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+		for (Row row : rows(elapsed)) {
+			lines.add(String.format("%s,%s,%s,%d,%d,%.2f,%.1f,%.1f,%.1f,%.1f", label, time, row.endpoint(), row.count(),
+					row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.max()));
+		}
+		Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	// 엔드포인트 하나의 측정값
+	private static class Series {
+		private long[] nanos = new long[1024];
+		private int size;
+		private long errors;
+
+		synchronized void add(long value, boolean success) {
+			if (size == nanos.length) nanos = Arrays.copyOf(nanos, size * 2);
+			nanos[size++] = value;
+			if (!success) errors++;
+		}
+
+		synchronized void addAll(Series other) {
+			long[] values;
+			long otherErrors;
+			synchronized (other) {
+				values = Arrays.copyOf(other.nanos, other.size);
+				otherErrors = other.errors;
+			}
+			for (long value : values) add(value, true);
+			errors += otherErrors;
+		}
+
+		synchronized Row row(String endpoint, Duration elapsed) {
+			long[] sorted = Arrays.copyOf(nanos, size);
+			Arrays.sort(sorted);
+			double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+			return new Row(endpoint, size, errors, size / seconds, percentile(sorted, 0.50), percentile(sorted, 0.95),
+					percentile(sorted, 0.99), size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+		}
+
+		private static double percentile(long[] sorted, double p) {
+			if (sorted.length == 0) return 0;
+			int rank = (int) Math.ceil(p * sorted.length);
+			return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+		}
+	}
+
+	/** 엔드포인트별 결과
+	 * @param endpoint
+	 * @param count      요청 수 (오류 포함)
+	 * @param errors     2xx 가 아니거나 연결 실패한 요청 수
+	 * @param throughput 초당 요청 수
+	 * @param p50        지연 중앙값 (ms, 오류 포함)
+	 * @param p95
+	 * @param p99
+	 * @param max
+	 */
+	public record Row(String endpoint, long count, long errors, double throughput, double p50, double p95, double p99,
+			double max) {
+	}
+}
@@ -0,0 +1,69 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.openai.api.ResponseFormat;
+
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+
+/**
+ * AI 장면 응답 파서 - 관대한 파싱, 누락 필드 보충 판단, 형식 오류 지표
+ */
+class AiSceneParserTest {
+
+	private final AiSceneParser parser = new AiSceneParser("json_schema");
+
+	@Test
+	void 앞뒤_설명글과_코드_블록을_무시하고_필드를_읽는다() {
+		String text = "다음은 결과입니다.\n```json\n{\"ai_output\":\"본문 \\\"인용\\\"\",\"affinity_delta\":-2,"
+				+ "\"reason\":\"이유\",\"key_event\":\"사건\"}\n```\n감사합니다.";
+
+		AiSceneParser.Parsed parsed = parser.parse(text);
+
+		assertThat(parsed.result()).isEqualTo(new AiSceneResult("본문 \"인용\"", -2, "이유", "사건"));
+		assertThat(parsed.missingField()).isNull();
+	}
+
+	@Test
+	void 이스케이프되지_않은_줄바꿈과_끝_쉼표_문자열_숫자를_허용한다() {
+		String text = "{\"ai_output\":\"첫 줄\n둘째 줄\",\"affinity_delta\":\"+3\",\"reason\":\"이유\",\"key_event\":\"사건\",}";
+
+		AiSceneResult result = parser.parse(text).result();
+
+		assertThat(result.aiOutput()).isEqualTo("첫 줄\n둘째 줄");
+		assertThat(result.affinityDelta()).isEqualTo(3);
+	}
+
+	@Test
+	void 끝이_잘린_응답은_본문이_있으면_누락_필드만_보충_대상으로_알린다() {
+		String text = "{\"ai_output\":\"본문\",\"affinity_delta\":1,\"reason\":\"이유\",\"key_ev";
+
+		AiSceneParser.Parsed parsed = parser.parse(text);
+
+		assertThat(parsed.result().aiOutput()).isEqualTo("본문");
+		assertThat(parsed.missingField()).isEqualTo(AiSceneParser.KEY_EVENT);
+		assertThat(parser.stats().repairs()).isEqualTo(1);
+	}
+
+	@Test
+	void 본문이_없거나_부가_필드가_모두_없으면_형식_오류다() {
+		assertThatThrownBy(() -> parser.parse("{\"reason\":\"이유\",\"key_event\":\"사건\"}"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> parser.parse("{\"ai_output\":\"본문\"}")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> parser.parse("죄송합니다. 작성할 수 없습니다.")).isInstanceOf(IllegalArgumentException.class);
+
+		parser.parse("{\"ai_output\":\"본문\",\"reason\":\"이유\",\"key_event\":\"사건\"}");
+		assertThat(parser.stats().malformed()).isEqualTo(3);
+		assertThat(parser.stats().malformedRate()).isEqualTo(0.75);
+	}
+
+	@Test
+	void 구조화_출력_설정에_따라_응답_형식을_지정한다() {
+		assertThat(parser.responseFormat().getType()).isEqualTo(ResponseFormat.Type.JSON_SCHEMA);
+		assertThat(parser.responseFormat().getJsonSchema().getStrict()).isTrue();
+		assertThat(parser.responseFormat().getJsonSchema().getSchema()).containsKey("properties");
+		assertThat(new AiSceneParser("none").responseFormat()).isNull();
+	}
+}
@@ -0,0 +1,100 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.common.ai.TokenCounter;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+/**
+ * 토큰 예산 기반 컨텍스트 패킹 검증
+ * - 최신 장면은 본문 그대로, 오래된 장면은 key_event 로, 전체는 예산 안
+ * - 한글 본문 토큰 추정이 글자 수 기준으로 크게 어긋나지 않음
+ */
+class ContextPackerTest {
+
+	private static final String SYSTEM_PROMPT = "당신은 웹소설 작가입니다. 주어진 설정과 이전 장면을 이어 다음 장면을 JSON 으로 작성하십시오.";
+	private static final UserMessage USER_MESSAGE = new UserMessage("서아에게 우산을 건넨다.");
+	private static final String SUMMARY = "비 오는 날 처음 만난 두 사람은 같은 동아리에 들어가며 조금씩 가까워진다.";
+
+	private final TokenCounter tokenCounter = new TokenCounter();
+	private final NovelContextCache renderer = new NovelContextCache(new ObjectMapper(), 0, Duration.ofMinutes(1));
+
+	@Test
+	void 한글_본문_토큰을_추정한다() {
+		String text = body(1); // 한글 약 800자
+
+		int tokens = tokenCounter.count(text);
+
+		// 영어 기준(글자 수 / 4)이면 200 토큰으로 크게 과소 추정됨
+		assertThat(tokens).isBetween(text.length() / 3, text.length());
+	}
+
+	@Test
+	void 최신_장면은_본문으로_오래된_장면은_사건으로_예산_안에서_채운다() {
+		List<StoryScene> scenes = scenes(12);
+		ContextPacker packer = new ContextPacker(tokenCounter, 3000, 4000, 3, 5);
+
+		ContextPacker.Packed packed = packer.pack(SYSTEM_PROMPT, USER_MESSAGE, SUMMARY, scenes,
+				renderer.renderHistory(scenes), false);
+
+		assertThat(packed.tokens()).isLessThanOrEqualTo(3000);
+		assertThat(packed.verbatimScenes()).isBetween(1, 3);
+		assertThat(packed.history()).hasSize(packed.verbatimScenes() * 2);
+		assertThat(packed.history().get(packed.history().size() - 1).getText()).contains("장면 12");
+		assertThat(packed.keyEventScenes()).isPositive();
+		// 사건 목록은 본문으로 넣은 장면 바로 앞 장면까지 오래된 순으로 이어짐
+		int lastEvent = 12 - packed.verbatimScenes();
+		assertThat(packed.earlierEvents()).endsWith("- 사건 " + lastEvent);
+	}
+
+	@Test
+	void 예산이_작아도_가장_최근_장면은_포함하고_초과를_기록한다() {
+		List<StoryScene> scenes = scenes(5);
+		ContextPacker packer = new ContextPacker(tokenCounter, 100, 100, 3, 5);
+
+		ContextPacker.Packed packed = packer.pack(SYSTEM_PROMPT, USER_MESSAGE, SUMMARY, scenes,
+				renderer.renderHistory(scenes), true);
+
+		assertThat(packed.verbatimScenes()).isEqualTo(1);
+		assertThat(packed.keyEventScenes()).isZero();
+		assertThat(packer.stats().overBudget()).isEqualTo(1);
+	}
+
+	@Test
+	void 예산이_충분하면_모드별_최대_장면_수까지_본문으로_넣는다() {
+		List<StoryScene> scenes = scenes(12);
+		ContextPacker packer = new ContextPacker(tokenCounter, 100_000, 100_000, 3, 5);
+		List<Message> history = renderer.renderHistory(scenes);
+
+		assertThat(packer.pack(SYSTEM_PROMPT, USER_MESSAGE, SUMMARY, scenes, history, false).verbatimScenes())
+				.isEqualTo(3);
+		ContextPacker.Packed auto = packer.pack(SYSTEM_PROMPT, USER_MESSAGE, SUMMARY, scenes, history, true);
+		assertThat(auto.verbatimScenes()).isEqualTo(5);
+		assertThat(auto.keyEventScenes()).isEqualTo(7);
+		assertThat(packer.stats().packs()).isEqualTo(2);
+	}
+
+	private List<StoryScene> scenes(int count) {
+		Novel novel = Novel.builder().id(1L).title("테스트").build();
+		return IntStream.rangeClosed(1, count)
+				.mapToObj(i -> StoryScene.builder().id((long) i).novel(novel).sequenceOrder(i).userInput("입력 " + i)
+						.aiOutput(body(i)).keyEvent("사건 " + i).build())
+				.toList();
+	}
+
+	// 장면 본문 (한글 약 800자)
+	private String body(int order) {
+		String sentence = "창밖으로 빗소리가 잦아들자 서아는 조용히 고개를 들어 그를 바라보았다. ";
+		return "장면 " + order + ". " + sentence.repeat(800 / sentence.length());
+	}
+}
@@ -0,0 +1,144 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.muse.amuze.common.file.ImageVariants;
+import com.muse.amuze.novel.model.dto.CursorPageResponse;
+import com.muse.amuze.novel.model.dto.NovelCursor;
+import com.muse.amuze.novel.model.dto.NovelResponse;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.LibraryCard;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.NovelStats;
+import com.muse.amuze.novel.model.repository.CharacterRepository;
+import com.muse.amuze.novel.model.repository.LibraryCardRepository;
+import com.muse.amuze.novel.model.repository.NovelRepository;
+import com.muse.amuze.novel.model.repository.NovelStatsRepository;
+import com.muse.amuze.user.model.entity.User;
+
+/**
+ * 도서관 카드 갱신 검증 - 공유 중이면 비정규화 카드 저장, 비공유/삭제면 카드 삭제, 기존 카드의 통계는 덮어쓰지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+class LibraryCardServiceImplTest {
+
+	@Mock
+	private LibraryCardRepository libraryCardRepository;
+
+	@Mock
+	private NovelRepository novelRepository;
+
+	@Mock
+	private CharacterRepository characterRepository;
+
+	@Mock
+	private NovelStatsRepository novelStatsRepository;
+
+	@Mock
+	private NovelStatsCounter novelStatsCounter;
+
+	@Mock
+	private ImageVariants imageVariants;
+
+	@InjectMocks
+	private LibraryCardServiceImpl libraryCardService;
+
+	@Test
+	void sharedNovelIsDenormalizedIntoCard() {
+		LocalDateTime sharedAt = LocalDateTime.of(2026, 1, 29, 12, 0);
+		User author = User.builder().id(3).email("writer@amuse.com").nickname("작가").build();
+		Novel novel = Novel.builder().id(1L).author(author).title("봄날").tags(List.of("로맨스", "캠퍼스")).isShared(true)
+				.sharedAt(sharedAt).build();
+
+		when(novelRepository.findById(1L)).thenReturn(Optional.of(novel));
+		when(libraryCardRepository.findById(1L)).thenReturn(Optional.empty());
+		when(characterRepository.findByNovelIdAndRole(1L, CharacterRole.MAIN))
+				.thenReturn(Character.builder().name("서아").build());
+		when(novelStatsRepository.findLockedByNovelId(1L))
+				.thenReturn(Optional.of(NovelStats.builder().novelId(1L).viewCount(120L).likeCount(7L).build()));
+
+		libraryCardService.refresh(1L);
+
+		ArgumentCaptor<LibraryCard> saved = ArgumentCaptor.forClass(LibraryCard.class);
+		verify(libraryCardRepository).save(saved.capture());
+		LibraryCard card = saved.getValue();
+		assertThat(card.getNovelId()).isEqualTo(1L);
+		assertThat(card.getAuthorName()).isEqualTo("작가");
+		assertThat(card.getMainCharName()).isEqualTo("서아");
+		assertThat(card.getTags()).containsExactly("로맨스", "캠퍼스");
+		assertThat(card.getViewCount()).isEqualTo(120L);
+		assertThat(card.getLikeCount()).isEqualTo(7L);
+		assertThat(card.getSharedAt()).isEqualTo(sharedAt);
+	}
+
+	@Test
+	void existingCardKeepsCountsMaintainedByCounter() {
+		User author = User.builder().id(3).email("writer@amuse.com").nickname("작가").build();
+		Novel novel = Novel.builder().id(1L).author(author).title("새 제목").isShared(true)
+				.sharedAt(LocalDateTime.of(2026, 1, 29, 12, 0)).build();
+		LibraryCard existing = LibraryCard.builder().novelId(1L).title("옛 제목").authorId(3).viewCount(500L)
+				.likeCount(30L).build();
+
+		when(novelRepository.findById(1L)).thenReturn(Optional.of(novel));
+		when(libraryCardRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+		libraryCardService.refresh(1L);
+
+		// 통계는 읽지 않고(flush 증가분과 경합 없음) 카드의 값 유지
+		verify(novelStatsRepository, never()).findLockedByNovelId(anyLong());
+		verify(libraryCardRepository).save(existing);
+		assertThat(existing.getTitle()).isEqualTo("새 제목");
+		assertThat(existing.getViewCount()).isEqualTo(500L);
+		assertThat(existing.getLikeCount()).isEqualTo(30L);
+	}
+
+	@Test
+	void cursorPageContinuesAfterLastRow() {
+		LocalDateTime sharedAt = LocalDateTime.of(2026, 1, 29, 12, 0, 0, 123_456_000);
+		List<LibraryCard> cards = List.of(card(9L, sharedAt.plusMinutes(1)), card(8L, sharedAt), card(7L, sharedAt));
+		when(libraryCardRepository.findLatestBefore(any(), anyLong(), eq(3))).thenReturn(cards);
+
+		CursorPageResponse<NovelResponse> page = libraryCardService.getLibraryCursorPage("latest", null, 2);
+
+		assertThat(page.content()).extracting(NovelResponse::getId).containsExactly(9L, 8L);
+		assertThat(page.hasNext()).isTrue();
+
+		// 다음 커서 = 마지막 행 (공개일, id) -> 같은 공개일의 7번부터 이어서 조회
+		NovelCursor next = NovelCursor.decode("latest", page.nextCursor());
+		assertThat(next.sortTime()).isEqualTo(sharedAt);
+		assertThat(next.novelId()).isEqualTo(8L);
+	}
+
+	@Test
+	void unsharedNovelIsRemovedFromLibrary() {
+		Novel novel = Novel.builder().id(1L).title("봄날").isShared(false).build();
+		when(novelRepository.findById(1L)).thenReturn(Optional.of(novel));
+
+		libraryCardService.refresh(1L);
+
+		verify(libraryCardRepository).deleteById(1L);
+		verify(libraryCardRepository, never()).save(any());
+	}
+
+	private LibraryCard card(Long novelId, LocalDateTime sharedAt) {
+		return LibraryCard.builder().novelId(novelId).title("소설 " + novelId).authorId(3).sharedAt(sharedAt).build();
+	}
+}
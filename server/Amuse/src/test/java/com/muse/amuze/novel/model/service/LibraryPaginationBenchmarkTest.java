@@ -0,0 +1,131 @@
+package com.muse.amuze.novel.model.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 도서관 목록 OFFSET vs 커서(keyset) 페이지네이션 비교 벤치마크 (gradle benchmark)
+ * - library_card 와 같은 인덱스로 100만 행을 만든 뒤 500페이지(20개씩) 조회 지연시간 비교
+ * - OFFSET 모드는 Page 응답을 위해 COUNT(*) 도 함께 실행 (기존 getNovelListSortByAny 와 동일)
+ * - 기본은 H2(build/benchmark), AMUSE_BENCH_JDBC_URL(_USER/_PASSWORD) 지정 시 해당 DB(PostgreSQL 등)에서 실행
+ */
+@Tag("benchmark")
+class LibraryPaginationBenchmarkTest {
+
+	private static final int ROWS = 1_000_000;
+	private static final int PAGE_SIZE = 20;
+	private static final int PAGE = 500;
+	private static final int RUNS = 30;
+
+	@Test
+	void offsetVsKeysetAtDeepPage() throws Exception {
+		String url = System.getenv().getOrDefault("AMUSE_BENCH_JDBC_URL", "jdbc:h2:file:./build/benchmark/library;QUERY_CACHE_SIZE=0");
+		try (Connection conn = DriverManager.getConnection(url, System.getenv().getOrDefault("AMUSE_BENCH_JDBC_USER", "sa"),
+				System.getenv().getOrDefault("AMUSE_BENCH_JDBC_PASSWORD", ""))) {
+			seed(conn);
+
+			System.out.printf("[pagination] rows=%,d page=%d size=%d (%s)%n", ROWS, PAGE, PAGE_SIZE, url);
+			compare(conn, "latest", "shared_at");
+			compare(conn, "views", "view_count");
+		}
+	}
+
+	private void compare(Connection conn, String order, String column) throws Exception {
+		String orderBy = " ORDER BY " + column + " DESC, novel_id DESC";
+		String offsetSql = "SELECT * FROM bench_library_card" + orderBy + " LIMIT " + PAGE_SIZE + " OFFSET "
+				+ (long) (PAGE - 1) * PAGE_SIZE;
+		String keysetSql = "SELECT * FROM bench_library_card WHERE (" + column + ", novel_id) < (?, ?)" + orderBy
+				+ " LIMIT " + PAGE_SIZE;
+
+		// 499페이지 마지막 행 = 클라이언트가 커서를 따라왔을 때 500페이지 요청에 실리는 커서
+		Object cursorValue;
+		long cursorId;
+		try (Statement st = conn.createStatement();
+				ResultSet rs = st.executeQuery("SELECT " + column + ", novel_id FROM bench_library_card" + orderBy
+						+ " LIMIT 1 OFFSET " + ((long) (PAGE - 1) * PAGE_SIZE - 1))) {
+			rs.next();
+			cursorValue = rs.getObject(1);
+			cursorId = rs.getLong(2);
+		}
+
+		long[] offsetNanos = new long[RUNS];
+		long[] keysetNanos = new long[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			long begin = System.nanoTime();
+			try (Statement st = conn.createStatement()) {
+				drain(st.executeQuery(offsetSql));
+				drain(st.executeQuery("SELECT COUNT(*) FROM bench_library_card"));
+			}
+			offsetNanos[i] = System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			try (PreparedStatement ps = conn.prepareStatement(keysetSql)) {
+				ps.setObject(1, cursorValue);
+				ps.setLong(2, cursorId);
+				drain(ps.executeQuery());
+			}
+			keysetNanos[i] = System.nanoTime() - begin;
+		}
+
+		System.out.printf("[pagination] %-6s offset+count p50=%.2fms p99=%.2fms | keyset p50=%.2fms p99=%.2fms%n", order,
+				percentile(offsetNanos, 50), percentile(offsetNanos, 99), percentile(keysetNanos, 50),
+				percentile(keysetNanos, 99));
+	}
+
+	private void seed(Connection conn) throws Exception {
+		try (Statement st = conn.createStatement()) {
+			st.execute("DROP TABLE IF EXISTS bench_library_card");
+			st.execute("CREATE TABLE bench_library_card (novel_id BIGINT PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+					+ "main_char_name VARCHAR(100), view_count BIGINT NOT NULL, like_count BIGINT NOT NULL, "
+					+ "shared_at TIMESTAMP NOT NULL)");
+		}
+
+		conn.setAutoCommit(false);
+		Random random = new Random(42);
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		try (PreparedStatement ps = conn.prepareStatement("INSERT INTO bench_library_card VALUES (?, ?, ?, ?, ?, ?)")) {
+			for (int id = 1; id <= ROWS; id++) {
+				ps.setLong(1, id);
+				ps.setString(2, "소설 " + id);
+				ps.setString(3, "서아");
+				ps.setLong(4, random.nextInt(100_000));
+				ps.setLong(5, random.nextInt(5_000));
+				ps.setTimestamp(6, Timestamp.valueOf(base.plusSeconds(id * 30L + random.nextInt(30))));
+				ps.addBatch();
+				if (id % 10_000 == 0) ps.executeBatch();
+			}
+		}
+		conn.commit();
+		conn.setAutoCommit(true);
+
+		try (Statement st = conn.createStatement()) {
+			st.execute("CREATE INDEX idx_bench_shared_at ON bench_library_card (shared_at DESC, novel_id DESC)");
+			st.execute("CREATE INDEX idx_bench_views ON bench_library_card (view_count DESC, novel_id DESC)");
+		}
+	}
+
+	private void drain(ResultSet rs) throws Exception {
+		try (rs) {
+			while (rs.next()) {
+				rs.getLong(1);
+			}
+		}
+	}
+
+	private double percentile(long[] nanos, int p) {
+		long[] sorted = nanos.clone();
+		Arrays.sort(sorted);
+		int index = Math.min(sorted.length - 1, (int) Math.ceil(p / 100.0 * sorted.length) - 1);
+		return sorted[index] / 1_000_000.0;
+	}
+}
@@ -0,0 +1,92 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+/**
+ * 소설별 컨텍스트 캐시 검증
+ * - 적중/미적중 집계, 장면 저장 후 write-through 갱신(최근 CACHED_SCENES 개 유지), version 불일치 시 제거
+ */
+class NovelContextCacheTest {
+
+	private static final int N = NovelContextCache.CACHED_SCENES;
+
+	private final NovelContextCache cache = new NovelContextCache(new ObjectMapper(), 100, Duration.ofMinutes(10));
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void cachesContextAndCountsHits() {
+		cache.get(1L, this::load);
+		NovelContext ctx = cache.get(1L, this::load);
+
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(ctx.history()).hasSize(ctx.previousScenes().size() * 2);
+		assertThat(ctx.recent(3).previousScenes()).extracting(StoryScene::getSequenceOrder).containsExactly(N - 2, N - 1,
+				N);
+		assertThat(ctx.recent(3).history()).hasSize(6);
+
+		NovelContextCache.Stats stats = cache.stats();
+		assertThat(stats.hits()).isEqualTo(1);
+		assertThat(stats.misses()).isEqualTo(1);
+		assertThat(stats.hitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	void appendsNewSceneWhenVersionMatches() {
+		NovelContext ctx = cache.get(1L, this::load);
+		Novel committed = novel(1L);
+		StoryScene newScene = scene(committed, N + 1);
+
+		cache.appendAfterCommit(0L, committed, ctx.mainChar(), newScene);
+
+		NovelContext updated = cache.get(1L, this::load);
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(updated.novel().getVersion()).isEqualTo(1L);
+		assertThat(updated.previousScenes()).extracting(StoryScene::getSequenceOrder)
+				.containsExactlyElementsOf(IntStream.rangeClosed(2, N + 1).boxed().toList());
+		assertThat(updated.history()).hasSize(N * 2);
+		assertThat(updated.lastSequenceOrder()).isEqualTo(N + 1);
+	}
+
+	@Test
+	void evictsWhenVersionDoesNotMatch() {
+		NovelContext ctx = cache.get(1L, this::load);
+
+		cache.appendAfterCommit(7L, novel(8L), ctx.mainChar(), scene(ctx.novel(), N + 1));
+		cache.get(1L, this::load);
+
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	private NovelContext load(Long novelId) {
+		loads.incrementAndGet();
+		Novel novel = novel(0L);
+		Character userChar = Character.builder().id(1L).name("주인공").role(CharacterRole.USER).build();
+		Character mainChar = Character.builder().id(2L).name("서아").role(CharacterRole.MAIN).version(0L).build();
+		List<StoryScene> scenes = new ArrayList<>(IntStream.rangeClosed(1, N).mapToObj(i -> scene(novel, i)).toList());
+		return new NovelContext(novel, userChar, mainChar, scenes);
+	}
+
+	private Novel novel(Long version) {
+		return Novel.builder().id(1L).title("테스트").version(version).build();
+	}
+
+	private StoryScene scene(Novel novel, int order) {
+		return StoryScene.builder().id((long) order).novel(novel).sequenceOrder(order).userInput("입력 " + order)
+				.aiOutput("본문 " + order).keyEvent("사건 " + order).build();
+	}
+}
@@ -0,0 +1,215 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.muse.amuze.common.file.BlobStore;
+import com.muse.amuze.common.file.ImageBlobRepository;
+import com.muse.amuze.novel.model.dto.NovelCreateRequest;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.repository.CharacterRepository;
+import com.muse.amuze.novel.model.repository.NovelRepository;
+import com.muse.amuze.novel.model.repository.NovelStatsRepository;
+import com.muse.amuze.novel.model.repository.StorySceneRepository;
+import com.muse.amuze.user.model.entity.User;
+import com.muse.amuze.user.model.repository.UserRepository;
+
+/**
+ * 소설 생성 DB 왕복 횟수 회귀 테스트 (캐릭터 10명, 태그 10개)
+ * - IDENTITY ID 일 때 : 소설 1 + 캐릭터 10 + 태그 10 + 통계 1 + 첫 장면 1 = INSERT 23회 왕복
+ * - 시퀀스(pooled) ID + JDBC 배치 : 테이블별 배치 1회씩 INSERT 5회 왕복
+ *   (시퀀스 조회는 50개 단위로 한 번씩 - 새 시퀀스는 pooled 초기화로 두 번째 할당까지 조회가 있을 수 있음)
+ * - 실제 DB 대신 H2(PostgreSQL 모드), JDBC 실행(execute*, executeBatch) 횟수를 DataSource 프록시로 집계
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:novel-batching;MODE=PostgreSQL;NON_KEYWORDS=CHARACTER;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop", "logging.config=classpath:logback-console.xml" })
+@Import(NovelCreateBatchingTest.RoundTripConfig.class)
+class NovelCreateBatchingTest {
+
+	@Autowired
+	private NovelRepository novelRepository;
+	@Autowired
+	private CharacterRepository characterRepository;
+	@Autowired
+	private NovelStatsRepository novelStatsRepository;
+	@Autowired
+	private StorySceneRepository storySceneRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private ImageBlobRepository imageBlobRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private RoundTrips roundTrips;
+
+	@TempDir
+	Path blobFolder;
+
+	@Test
+	void 캐릭터_10명_태그_10개_소설_생성은_테이블별_배치_한번씩이다() throws Exception {
+		BlobStore blobStore = new BlobStore(imageBlobRepository, blobFolder.toString(), "/images/blob/", Duration.ofDays(1));
+		NovelServiceImpl novelService = NovelServiceFixture.of(null, null)
+				.repositories(storySceneRepository, characterRepository, novelRepository, novelStatsRepository)
+				.blobStore(blobStore, new TransactionTemplate(transactionManager)).build();
+		User author = userRepository.save(User.builder().email("writer@amuse.com").nickname("작가").build());
+
+		// 첫 소설은 시퀀스 첫 할당 포함 - 측정에서 제외
+		novelService.createNovel(request("첫 소설"), null, author);
+		entityManager.flush();
+
+		roundTrips.reset();
+		Long novelId = novelService.createNovel(request("두 번째 소설"), null, author);
+		entityManager.flush();
+		List<String> trips = roundTrips.snapshot();
+
+		List<String> inserts = trips.stream().filter(trip -> trip.contains("insert into")).toList();
+		List<String> sequences = trips.stream().filter(trip -> trip.contains("next value for")).toList();
+		assertThat(inserts).as("createNovel 왕복 %s", trips).hasSize(5).allMatch(trip -> trip.startsWith("batch("));
+		assertThat(inserts).anyMatch(trip -> trip.startsWith("batch(10) insert into character "));
+		assertThat(inserts).anyMatch(trip -> trip.startsWith("batch(10) insert into novel_tags "));
+		// 캐릭터 10명은 시퀀스 조회 없이 미리 받아 둔 50개 범위에서 할당
+		assertThat(sequences).noneMatch(trip -> trip.contains("character_seq")).hasSizeLessThanOrEqualTo(2);
+		assertThat(trips).as("createNovel 왕복 %s", trips).hasSize(inserts.size() + sequences.size());
+
+		entityManager.clear();
+		assertThat(characterRepository.findAll()).filteredOn(c -> c.getNovel().getId().equals(novelId)).hasSize(10);
+		assertThat(novelRepository.findById(novelId).orElseThrow().getTags()).hasSize(10);
+	}
+
+	private NovelCreateRequest request(String title) {
+		NovelCreateRequest request = new NovelCreateRequest();
+		request.setTitle(title);
+		request.setDescription("비 오는 날의 이야기");
+		request.setFirstScene("창밖으로 빗소리가 잦아들었다.");
+		request.setTags(IntStream.rangeClosed(1, 10).mapToObj(i -> "태그" + i).toList());
+		request.setCharacters(IntStream.rangeClosed(1, 10).mapToObj(i -> {
+			NovelCreateRequest.CharacterRequest character = new NovelCreateRequest.CharacterRequest();
+			character.setName("인물" + i);
+			character.setRole(i == 1 ? CharacterRole.MAIN : i == 2 ? CharacterRole.USER : CharacterRole.SUB);
+			character.setGender(i % 2 == 0 ? "M" : "F");
+			character.setPersonality("차분함");
+			character.setAppearance("검은 머리");
+			return character;
+		}).toList());
+		return request;
+	}
+
+	/**
+	 * DataSource 를 감싸 JDBC 실행 1회(= DB 왕복 1회)마다 SQL 을 기록
+	 */
+	@TestConfiguration
+	static class RoundTripConfig {
+
+		@Bean
+		RoundTrips roundTrips() {
+			return new RoundTrips();
+		}
+
+		@Bean
+		static BeanPostProcessor roundTripDataSourceWrapper(RoundTrips roundTrips) {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? roundTrips.wrap(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	static class RoundTrips {
+
+		private final List<String> trips = new ArrayList<>();
+
+		synchronized void reset() {
+			trips.clear();
+		}
+
+		synchronized List<String> snapshot() {
+			return List.copyOf(trips);
+		}
+
+		private synchronized void record(String trip) {
+			trips.add(trip);
+		}
+
+		DataSource wrap(DataSource dataSource) {
+			return proxy(DataSource.class, dataSource, (method, args, result) -> result instanceof Connection connection
+					? proxy(Connection.class, connection, (m, a, r) -> r instanceof Statement statement
+							? wrapStatement(statement, m.getName().startsWith("prepare") ? (String) a[0] : null)
+							: r)
+					: result);
+		}
+
+		private Object wrapStatement(Statement statement, String preparedSql) {
+			int[] batched = { 0 };
+			Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+					: statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+			return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, (p, method, args) -> {
+				String name = method.getName();
+				if (name.equals("addBatch")) batched[0]++;
+				Object result = invoke(method, statement, args);
+				if (name.equals("executeBatch")) {
+					record("batch(" + batched[0] + ") " + preparedSql);
+					batched[0] = 0;
+				} else if (name.startsWith("execute")) {
+					record(args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql);
+				}
+				return result;
+			});
+		}
+
+		@FunctionalInterface
+		private interface ResultWrapper {
+			Object wrap(Method method, Object[] args, Object result) throws Exception;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+			return (T) Proxy.newProxyInstance(RoundTrips.class.getClassLoader(), new Class<?>[] { type },
+					(p, method, args) -> wrapper.wrap(method, args, invoke(method, target, args)));
+		}
+
+		private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.muse.amuze.novel.model.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.common.ai.LlmGateway;
+import com.muse.amuze.common.ai.PromptTemplateRegistry;
+import com.muse.amuze.common.ai.TokenCounter;
+import com.muse.amuze.common.file.BlobStore;
+import com.muse.amuze.common.file.ImageVariants;
+import com.muse.amuze.common.tracing.PhaseTracer;
+import com.muse.amuze.novel.model.repository.CharacterRepository;
+import com.muse.amuze.novel.model.repository.NovelRepository;
+import com.muse.amuze.novel.model.repository.NovelStatsRepository;
+import com.muse.amuze.novel.model.repository.StorySceneRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 장면 생성 파이프라인 테스트용 NovelServiceImpl 구성
+ * - DB 구간(StorySceneService)과 AI 모델(OpenAiChatModel)만 받고 나머지(관문, 파서, 패커, 프롬프트, 게이트웨이)는 실제 구현
+ * - 저장소/이미지 저장소는 필요한 테스트만 지정 (소설 생성 등, 지정하지 않으면 null)
+ * - 컨텍스트 캐시 크기 0 (매 요청 StorySceneService 에서 스냅샷 조회), 추적 없음
+ * - 테스트마다 다른 값만 바꿔서 build
+ */
+final class NovelServiceFixture {
+
+	private final StorySceneService storySceneService;
+	private final OpenAiChatModel chatModel;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SceneGenerationGate sceneGenerationGate = new SceneGenerationGate(10_000, Duration.ofMinutes(5));
+	private ContextPacker contextPacker = new ContextPacker(new TokenCounter(), 3000, 4000, 3, 5);
+	private LlmGateway.Settings llmSettings = LlmGateway.Settings.defaults()
+			.withTimeouts(Duration.ofSeconds(30), Duration.ofSeconds(60))
+			.withBackoff(Duration.ofMillis(10), Duration.ofMillis(100)).withBreaker(5, Duration.ofSeconds(1));
+	private LlmGateway llmGateway;
+
+	private StorySceneRepository storySceneRepository;
+	private CharacterRepository characterRepository;
+	private NovelRepository novelRepository;
+	private NovelStatsRepository novelStatsRepository;
+	private BlobStore blobStore;
+	private TransactionTemplate transactionTemplate;
+	private ImageVariants imageVariants;
+
+	private NovelServiceFixture(StorySceneService storySceneService, OpenAiChatModel chatModel) {
+		this.storySceneService = storySceneService;
+		this.chatModel = chatModel;
+	}
+
+	static NovelServiceFixture of(StorySceneService storySceneService, OpenAiChatModel chatModel) {
+		return new NovelServiceFixture(storySceneService, chatModel);
+	}
+
+	NovelServiceFixture contextPacker(ContextPacker contextPacker) {
+		this.contextPacker = contextPacker;
+		return this;
+	}
+
+	/** 게이트웨이 설정 변경 (기본 : 제한 시간 30초/60초, 시도 3회, 백오프 10~100ms) */
+	NovelServiceFixture llmSettings(UnaryOperator<LlmGateway.Settings> change) {
+		this.llmSettings = change.apply(llmSettings);
+		return this;
+	}
+
+	/** 게이트웨이를 직접 지정 (spy 등) - 지정하지 않으면 chatModel + llmSettings 로 생성 */
+	NovelServiceFixture llmGateway(LlmGateway llmGateway) {
+		this.llmGateway = llmGateway;
+		return this;
+	}
+
+	/** 서비스가 직접 쓰는 저장소 지정 (소설 생성/기록 조회 등) */
+	NovelServiceFixture repositories(StorySceneRepository storySceneRepository, CharacterRepository characterRepository,
+			NovelRepository novelRepository, NovelStatsRepository novelStatsRepository) {
+		this.storySceneRepository = storySceneRepository;
+		this.characterRepository = characterRepository;
+		this.novelRepository = novelRepository;
+		this.novelStatsRepository = novelStatsRepository;
+		return this;
+	}
+
+	/** 이미지 저장소 지정 (커버/프로필 저장 + DB 반영 트랜잭션, 축소본은 생성하지 않는 설정) */
+	NovelServiceFixture blobStore(BlobStore blobStore, TransactionTemplate transactionTemplate) {
+		this.blobStore = blobStore;
+		this.transactionTemplate = transactionTemplate;
+		this.imageVariants = new ImageVariants(blobStore, null, 1, 1, "", "", "", "");
+		return this;
+	}
+
+	/** 이 구성의 게이트웨이 (llmGateway 로 지정하기 전 spy 대상 생성용) */
+	LlmGateway newLlmGateway() {
+		return new LlmGateway(chatModel, meterRegistry, PhaseTracer.noop(), llmSettings);
+	}
+
+	MeterRegistry meterRegistry() {
+		return meterRegistry;
+	}
+
+	SceneGenerationGate sceneGenerationGate() {
+		return sceneGenerationGate;
+	}
+
+	NovelServiceImpl build() {
+		PromptTemplateRegistry promptTemplates = new PromptTemplateRegistry(new PathMatchingResourcePatternResolver());
+		try {
+			promptTemplates.init();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		ObjectMapper objectMapper = new ObjectMapper();
+		NovelServiceImpl novelService = new NovelServiceImpl(storySceneService,
+				new NovelContextCache(objectMapper, 0, Duration.ofMinutes(10)), null, null, sceneGenerationGate,
+				new AiSceneParser("json_schema"), contextPacker, storySceneRepository, characterRepository, novelRepository,
+				novelStatsRepository, llmGateway != null ? llmGateway : newLlmGateway(), objectMapper, promptTemplates,
+				meterRegistry, PhaseTracer.noop(), blobStore, transactionTemplate, imageVariants);
+		novelService.validatePromptTemplates();
+		return novelService;
+	}
+}
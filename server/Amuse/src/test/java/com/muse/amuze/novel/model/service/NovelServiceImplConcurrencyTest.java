@@ -0,0 +1,223 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.common.ai.LlmGateway;
+import com.muse.amuze.novel.model.dto.NovelUserInputRequest;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+import com.muse.amuze.novel.model.repository.CharacterRepository;
+import com.muse.amuze.novel.model.repository.NovelRepository;
+import com.muse.amuze.novel.model.repository.StorySceneRepository;
+import com.muse.amuze.user.model.entity.User;
+import com.muse.amuze.user.model.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 장면 생성 시 DB 커넥션(트랜잭션) 점유가 AI 호출 시간과 분리되어 있는지 검증
+ * - 실제 StorySceneServiceImpl(@Transactional) + H2 + Hikari 커넥션 풀, AI 모델만 지연이 있는 스텁
+ * - AI 호출 시점 : 호출 스레드에 트랜잭션이 없어야 함 (게이트웨이 진입 시 확인 - 모델 호출은 게이트웨이의 제한 시간용 스레드에서 실행)
+ *   단독 생성(N=1)이면 모델 호출 중 사용 중인 커넥션이 0개
+ * - 동시 생성 N=1/8/32 : 실행 중 사용 중인 커넥션 수(1ms 간격 측정) 평균 x 실행 시간 = 커넥션 점유 시간
+ *   생성 1건당 커넥션 점유 시간이 AI 호출 시간의 절반 미만이어야 함 (AI 호출 중 커넥션을 잡고 있으면 AI 호출 시간 이상)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 테스트 트랜잭션 없이 서비스 트랜잭션만 사용
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:scene-concurrency;MODE=PostgreSQL;NON_KEYWORDS=CHARACTER;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.hikari.maximum-pool-size=" + NovelServiceImplConcurrencyTest.POOL_SIZE,
+		"spring.jpa.hibernate.ddl-auto=create-drop", "logging.config=classpath:logback-console.xml",
+		// 콘솔 출력(동기화)이 트랜잭션 구간을 늘리지 않도록 SQL/디버그 로그 끔
+		"spring.jpa.show-sql=false", "logging.level.com.muse.amuze=warn" })
+@Import({ StorySceneServiceImpl.class, NovelServiceImplConcurrencyTest.SceneServiceConfig.class })
+class NovelServiceImplConcurrencyTest {
+
+	static final int POOL_SIZE = 10;
+	private static final int MAX_CONCURRENCY = 32;
+	private static final long LLM_MILLIS = 1000; // AI 호출 1회 소요 시간
+
+	private static final String AI_JSON = "{\"ai_output\":\"본문\",\"affinity_delta\":1,\"reason\":\"이유\",\"key_event\":\"사건\"}";
+
+	@Autowired
+	private StorySceneService storySceneService;
+	@Autowired
+	private NovelRepository novelRepository;
+	@Autowired
+	private CharacterRepository characterRepository;
+	@Autowired
+	private StorySceneRepository storySceneRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private DataSource dataSource;
+
+	private NovelServiceImpl novelService;
+	private HikariPoolMXBean pool;
+	private final List<Long> novelIds = new ArrayList<>();
+	private int round; // 실행마다 입력을 바꿔 관문의 중복 요청 재사용을 피함
+
+	// AI 호출 시점 측정값
+	private final AtomicInteger callsInTransaction = new AtomicInteger();
+	private final Queue<Integer> activeAtLlmCall = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		OpenAiChatModel chatModel = mock(OpenAiChatModel.class);
+		when(chatModel.call(any(Prompt.class))).thenAnswer(inv -> {
+			activeAtLlmCall.add(pool.getActiveConnections());
+			Thread.sleep(LLM_MILLIS);
+			return new ChatResponse(List.of(new Generation(new AssistantMessage(AI_JSON))));
+		});
+
+		NovelServiceFixture fixture = NovelServiceFixture.of(storySceneService, chatModel);
+		LlmGateway llmGateway = spy(fixture.newLlmGateway());
+		doAnswer(inv -> {
+			if (TransactionSynchronizationManager.isActualTransactionActive()) callsInTransaction.incrementAndGet();
+			return inv.callRealMethod();
+		}).when(llmGateway).call(anyString(), any(Prompt.class), any());
+		novelService = fixture.llmGateway(llmGateway).build();
+
+		pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			User author = userRepository.save(User.builder().email("writer@amuse.com").nickname("작가").build());
+			for (int i = 0; i < MAX_CONCURRENCY; i++) {
+				novelIds.add(saveNovel(author, i));
+			}
+		});
+	}
+
+	@Test
+	void AI_호출_중에는_커넥션을_점유하지_않는다() throws Exception {
+		run(4); // 예열 (JIT, 커넥션 생성)
+
+		Occupancy single = run(1);
+		assertThat(single.activeAtLlmCall()).containsOnly(0);
+
+		for (int concurrency : new int[] { 1, 8, MAX_CONCURRENCY }) {
+			Occupancy occupancy = run(concurrency);
+			double heldMillisPerScene = occupancy.averageActive() * occupancy.elapsedMillis() / concurrency;
+			assertThat(heldMillisPerScene).as("N=%d 평균 사용 중 커넥션 %.2f, %dms", concurrency,
+					occupancy.averageActive(), occupancy.elapsedMillis()).isLessThan(LLM_MILLIS / 2.0);
+		}
+		assertThat(callsInTransaction.get()).isZero();
+	}
+
+	// N개의 동시 생성 실행 (소설마다 하나씩 - 같은 소설의 요청은 관문에서 차례로 실행됨)
+	private Occupancy run(int concurrency) throws Exception {
+		activeAtLlmCall.clear();
+		String content = "안녕 " + (++round);
+		long scenesBefore = storySceneRepository.count();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<StorySceneResponse>> futures = new ArrayList<>();
+
+		long samples = 0;
+		long activeSum = 0;
+		long startNanos = System.nanoTime();
+		try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+			for (int i = 0; i < concurrency; i++) {
+				long novelId = novelIds.get(i);
+				futures.add(executor.submit(() -> {
+					start.await();
+					return novelService.generateNextScene(
+							NovelUserInputRequest.builder().novelId(novelId).mode("USER").content(content).build());
+				}));
+			}
+
+			start.countDown();
+			while (!futures.stream().allMatch(Future::isDone)) {
+				activeSum += pool.getActiveConnections();
+				samples++;
+				Thread.sleep(Duration.ofMillis(1));
+			}
+			for (Future<StorySceneResponse> future : futures) {
+				assertThat(future.get().getSceneId()).isNotNull();
+			}
+		}
+
+		assertThat(storySceneRepository.count()).isEqualTo(scenesBefore + concurrency);
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+		return new Occupancy(samples == 0 ? 0 : (double) activeSum / samples, elapsedMillis, List.copyOf(activeAtLlmCall));
+	}
+
+	private Long saveNovel(User author, int index) {
+		Novel novel = novelRepository.save(Novel.builder().author(author).title("테스트 " + index)
+				.characterSettings("[설정]").totalSummary("요약").status("PROCESS").isShared(false).build());
+		characterRepository.save(Character.builder().novel(novel).name("주인공").role(CharacterRole.USER).affinity(0)
+				.relationshipLevel("ACQUAINTANCE").build());
+		characterRepository.save(Character.builder().novel(novel).name("서아").role(CharacterRole.MAIN).affinity(0)
+				.relationshipLevel("ACQUAINTANCE").build());
+		storySceneRepository.save(StoryScene.builder().novel(novel).sequenceOrder(0).userInput("시작").aiOutput("첫 장면")
+				.keyEvent("소설의 시작").affinityAtMoment(0).build());
+		return novel.getId();
+	}
+
+	/** 동시 생성 1회 측정값
+	 * @param averageActive  실행 중 사용 중인 커넥션 수 평균
+	 * @param elapsedMillis  N개 생성이 모두 끝날 때까지 걸린 시간
+	 * @param activeAtLlmCall AI 모델 호출 시점마다 사용 중인 커넥션 수
+	 */
+	private record Occupancy(double averageActive, long elapsedMillis, List<Integer> activeAtLlmCall) {
+	}
+
+	@TestConfiguration
+	static class SceneServiceConfig {
+
+		@Bean // 크기 0 : 매 요청 DB 에서 스냅샷 조회 (커넥션 사용 구간 유지)
+		NovelContextCache novelContextCache() {
+			return new NovelContextCache(new ObjectMapper(), 0, Duration.ofMinutes(10));
+		}
+
+		@Bean
+		SummaryScheduler summaryScheduler() {
+			return mock(SummaryScheduler.class);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+
+import com.muse.amuze.common.ai.TokenCounter;
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.dto.NovelUserInputRequest;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+/**
+ * 프롬프트 캐시 친화 메세지 배치 검증
+ * - 줄거리/호감도/입력이 달라도 첫 시스템 메세지(공통 규칙 + 캐릭터 설정)는 바이트 단위로 같음
+ * - 바뀌는 값(현재 상태, 작성 모드)은 이전 장면 뒤, 사용자 입력 바로 앞에 위치
+ */
+@ExtendWith(MockitoExtension.class)
+class NovelServiceImplPromptLayoutTest {
+
+	private static final String AI_JSON = "{\"ai_output\":\"본문\",\"affinity_delta\":1,\"reason\":\"이유\",\"key_event\":\"사건\"}";
+
+	@Mock
+	private StorySceneService storySceneService;
+
+	@Mock
+	private OpenAiChatModel chatModel;
+
+	private NovelServiceImpl novelService;
+
+	private final List<Prompt> prompts = new ArrayList<>();
+	private int affinity = 10;
+	private String summary = "두 사람은 비 오는 날 처음 만났다.";
+
+	@BeforeEach
+	void setUp() throws Exception {
+		novelService = NovelServiceFixture.of(storySceneService, chatModel)
+				.contextPacker(new ContextPacker(new TokenCounter(), 4000, 5500, 3, 5))
+				.llmSettings(settings -> settings.withMaxAttempts(1)).build();
+
+		when(storySceneService.loadContext(anyLong(), anyBoolean())).thenAnswer(inv -> snapshot());
+		when(storySceneService.saveGeneratedScene(any(NovelContext.class), anyString(), any(AiSceneResult.class)))
+				.thenReturn(StorySceneResponse.builder().novelId(1L).sceneId(2L).build());
+		when(chatModel.call(any(Prompt.class))).thenAnswer(inv -> {
+			prompts.add(inv.getArgument(0));
+			return new ChatResponse(List.of(new Generation(new AssistantMessage(AI_JSON))));
+		});
+	}
+
+	@Test
+	void 바뀌지_않는_접두부가_요청마다_같다() {
+		novelService.generateNextScene(request("우산을 건넨다.", "USER", "k1"));
+
+		affinity = 35;
+		summary = "두 사람은 동아리 활동을 하며 가까워졌다.";
+		novelService.generateNextScene(request(null, "AUTO", "k2"));
+
+		List<Message> first = prompts.get(0).getInstructions();
+		List<Message> second = prompts.get(1).getInstructions();
+
+		// 접두부 : 같은 소설이면 바이트 단위로 동일
+		assertThat(first.get(0).getMessageType()).isEqualTo(MessageType.SYSTEM);
+		assertThat(second.get(0).getText()).isEqualTo(first.get(0).getText());
+		assertThat(first.get(0).getText()).contains("서아").doesNotContain("호감도 10점").doesNotContain(summary);
+
+		// 바뀌는 상태는 사용자 입력 바로 앞 시스템 메세지
+		Message state = second.get(second.size() - 2);
+		assertThat(state.getMessageType()).isEqualTo(MessageType.SYSTEM);
+		assertThat(state.getText()).contains("호감도 35점").contains(summary).contains("[MODE: PURE AUTO]");
+		assertThat(second.get(second.size() - 1).getMessageType()).isEqualTo(MessageType.USER);
+	}
+
+	private NovelUserInputRequest request(String content, String mode, String idempotencyKey) {
+		return NovelUserInputRequest.builder().novelId(1L).lastSceneId(1L).content(content).mode(mode)
+				.idempotencyKey(idempotencyKey).build();
+	}
+
+	private NovelContext snapshot() {
+		Novel novel = Novel.builder().id(1L).title("테스트").characterSettings("서아: 21세, 국문과").totalSummary(summary)
+				.version(0L).build();
+		Character userChar = Character.builder().id(1L).novel(novel).name("민준").role(CharacterRole.USER).build();
+		Character mainChar = Character.builder().id(2L).novel(novel).name("서아").role(CharacterRole.MAIN)
+				.affinity(affinity).version(0L).build();
+		StoryScene scene = StoryScene.builder().id(1L).novel(novel).sequenceOrder(1).userInput("시작").aiOutput("첫 장면")
+				.keyEvent("첫 만남").build();
+		return new NovelContext(novel, userChar, mainChar, List.of(scene));
+	}
+}
@@ -0,0 +1,117 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.novel.model.dto.CursorPageResponse;
+import com.muse.amuze.novel.model.dto.SceneHistoryRow;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+import com.muse.amuze.novel.model.repository.StorySceneRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 장면 기록 커서 조회 / NDJSON 스트리밍 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class NovelServiceImplSceneHistoryTest {
+
+	@Mock
+	private StorySceneRepository storySceneRepository;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@InjectMocks
+	private NovelServiceImpl novelService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(novelService, "entityManager", entityManager);
+	}
+
+	@Test
+	void 역방향_조회는_마지막_장면부터_가져오고_오래된_순으로_반환한다() {
+		// 최신 순 4개 조회 (size 3 + 다음 페이지 확인용 1개)
+		when(storySceneRepository.findHistoryBefore(eq(1L), eq(Integer.MAX_VALUE), any(Pageable.class)))
+				.thenReturn(List.of(row(10), row(9), row(8), row(7)));
+
+		CursorPageResponse<StorySceneResponse> page = novelService.getScenesByCursor(1L, "backward", null, 3);
+
+		assertThat(page.content()).extracting(StorySceneResponse::getSequenceOrder).containsExactly(8, 9, 10);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.nextCursor()).isEqualTo("8");
+	}
+
+	@Test
+	void 정방향_첫_조회는_첫_장면부터_가져온다() {
+		// 첫 장면은 sequenceOrder 0 -> 커서 없으면 -1 이후부터 조회
+		when(storySceneRepository.findHistoryAfter(eq(1L), eq(-1), any(Pageable.class)))
+				.thenReturn(List.of(row(0), row(1), row(2), row(3)));
+
+		CursorPageResponse<StorySceneResponse> page = novelService.getScenesByCursor(1L, "forward", null, 3);
+
+		assertThat(page.content()).extracting(StorySceneResponse::getSequenceOrder).containsExactly(0, 1, 2);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.nextCursor()).isEqualTo("2");
+	}
+
+	@Test
+	void 정방향_마지막_페이지는_다음_커서가_없다() {
+		when(storySceneRepository.findHistoryAfter(eq(1L), eq(8), any(Pageable.class)))
+				.thenReturn(List.of(row(9), row(10)));
+
+		CursorPageResponse<StorySceneResponse> page = novelService.getScenesByCursor(1L, "forward", 8, 3);
+
+		assertThat(page.content()).extracting(StorySceneResponse::getSequenceOrder).containsExactly(9, 10);
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.nextCursor()).isNull();
+	}
+
+	@Test
+	void 스트리밍은_장면마다_한_줄씩_쓰고_분리한다() throws Exception {
+		Novel novel = Novel.builder().id(1L).build();
+		List<StoryScene> scenes = IntStream.rangeClosed(1, 3)
+				.mapToObj(i -> StoryScene.builder().id((long) i).novel(novel).sequenceOrder(i).aiOutput("본문" + i).build())
+				.toList();
+		when(storySceneRepository.streamByNovelId(1L)).thenReturn(Stream.of(scenes.toArray(StoryScene[]::new)));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		novelService.streamScenes(1L, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(3);
+		assertThat(objectMapper.readValue(lines[2], StorySceneResponse.class).getContent()).isEqualTo("본문3");
+		verify(entityManager, times(3)).detach(any(StoryScene.class));
+	}
+
+	private SceneHistoryRow row(int sequenceOrder) {
+		return new SceneHistoryRow((long) sequenceOrder, 1L, sequenceOrder, null, "본문" + sequenceOrder, 0, false, false);
+	}
+}
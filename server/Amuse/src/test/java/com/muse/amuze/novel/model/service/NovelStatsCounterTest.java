@@ -0,0 +1,124 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.muse.amuze.novel.model.dto.NovelCounts;
+import com.muse.amuze.novel.model.entity.NovelStats;
+import com.muse.amuze.novel.model.repository.NovelStatsRepository;
+
+/**
+ * 조회수 지연 기록 카운터 검증
+ * - 한 소설에 동시에 몰린 증가분이 유실 없이 한 번의 배치 UPDATE 로 반영되는지
+ * - 반영 실패 시 증가분이 보존되어 다음 주기에 다시 반영되는지
+ * - 같은 사용자의 반복 조회는 한 번만 집계되는지
+ */
+@ExtendWith(MockitoExtension.class)
+class NovelStatsCounterTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private NovelStatsRepository novelStatsRepository;
+
+	private NovelStatsCounter counter;
+
+	@BeforeEach
+	void setUp() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+		counter = new NovelStatsCounter(jdbcTemplate, transactionTemplate, novelStatsRepository, Duration.ofMinutes(30),
+				1000);
+	}
+
+	@Test
+	void 동시에_몰린_증가분을_한번에_반영한다() throws Exception {
+		int threads = 8;
+		int perThread = 10_000;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		for (int t = 0; t < threads; t++) {
+			pool.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				for (int i = 0; i < perThread; i++) {
+					counter.incrementView(1L);
+				}
+			});
+		}
+		start.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(counter.flush()).isEqualTo(1);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("UPDATE novel_stats"), batch.capture());
+		assertThat(batch.getValue()).hasSize(1);
+		assertThat(batch.getValue().get(0)).containsExactly((long) threads * perThread, 1L);
+
+		assertThat(counter.pending(1L)).isEqualTo(new NovelCounts(0, 0));
+	}
+
+	@Test
+	void 반영에_실패하면_다음_주기에_다시_반영한다() {
+		counter.incrementView(2L);
+		counter.incrementView(2L);
+		doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate)
+				.batchUpdate(startsWith("UPDATE novel_stats"), anyList());
+
+		counter.flush();
+
+		assertThat(counter.pending(2L)).isEqualTo(new NovelCounts(2, 0));
+		assertThat(counter.stats().flushFailures()).isEqualTo(1);
+	}
+
+	@Test
+	void 조회시_DB값과_미반영_증가분을_합친다() {
+		when(novelStatsRepository.findByNovelId(eq(3L)))
+				.thenReturn(Optional.of(NovelStats.builder().novelId(3L).viewCount(100L).likeCount(5L).build()));
+		counter.incrementView(3L);
+
+		assertThat(counter.counts(3L)).isEqualTo(new NovelCounts(101, 5));
+	}
+
+	@Test
+	void 같은_사용자의_반복_조회는_한번만_집계한다() {
+		assertThat(counter.recordView(4L, 10)).isTrue();
+		assertThat(counter.recordView(4L, 10)).isFalse();
+		assertThat(counter.recordView(4L, 11)).isTrue();
+		assertThat(counter.recordView(5L, 10)).isTrue();
+
+		assertThat(counter.pending(4L)).isEqualTo(new NovelCounts(2, 0));
+		assertThat(counter.pending(5L)).isEqualTo(new NovelCounts(1, 0));
+	}
+}
@@ -0,0 +1,50 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.muse.amuze.novel.model.dto.NovelUserInputRequest;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+
+/**
+ * 장면 생성 관문 검증 - 요청 식별 키 충돌, Error 로 끝난 생성의 대기열 반납
+ */
+class SceneGenerationGateTest {
+
+	private final SceneGenerationGate gate = new SceneGenerationGate(100, Duration.ofMinutes(5));
+
+	@Test
+	void hashCode_가_같은_서로_다른_입력은_다른_요청으로_본다() {
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+		assertThat(SceneGenerationGate.keyOf(request("Aa"))).isNotEqualTo(SceneGenerationGate.keyOf(request("BB")));
+		assertThat(SceneGenerationGate.keyOf(request("Aa"))).isEqualTo(SceneGenerationGate.keyOf(request("Aa")));
+	}
+
+	@Test
+	void 생성이_Error_로_끝나도_대기열_차례를_반납한다() throws Exception {
+		assertThatThrownBy(() -> gate.run(1L, "첫 요청", () -> {
+			throw new StackOverflowError();
+		})).isInstanceOf(StackOverflowError.class);
+
+		// 같은 소설의 다음 요청이 막히지 않고 실행됨
+		StorySceneResponse expected = StorySceneResponse.builder().novelId(1L).sceneId(2L).build();
+		CompletableFuture<StorySceneResponse> next = CompletableFuture
+				.supplyAsync(() -> gate.run(1L, "다음 요청", () -> expected));
+		assertThat(next.get(1, TimeUnit.SECONDS)).isSameAs(expected);
+		assertThat(gate.stats().activeNovels()).isZero();
+
+		// 실패한 요청은 결과를 남기지 않아 같은 요청 재전송 시 새로 실행
+		assertThat(gate.run(1L, "첫 요청", () -> expected)).isSameAs(expected);
+	}
+
+	private NovelUserInputRequest request(String content) {
+		return NovelUserInputRequest.builder().novelId(1L).lastSceneId(1L).mode("USER").content(content).build();
+	}
+}
@@ -0,0 +1,153 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.muse.amuze.novel.model.dto.AiSceneResult;
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.dto.NovelUserInputRequest;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+/**
+ * 한 소설에 장면 생성 요청이 동시에 몰릴 때 (더블 클릭 + 서로 다른 입력)
+ * - 서로 다른 요청마다 AI 호출은 정확히 1번
+ * - 같은 요청은 같은 장면을 돌려받음
+ * - 저장된 장면 순서는 빈틈/중복 없이 1..N
+ */
+@ExtendWith(MockitoExtension.class)
+class SceneGenerationStressTest {
+
+	private static final int DISTINCT_REQUESTS = 6; // 서로 다른 입력 수
+	private static final int DUPLICATES = 5; // 입력마다 동시에 보낸 같은 요청 수
+	private static final long LLM_MILLIS = 30;
+
+	private static final String AI_JSON = "{\"ai_output\":\"본문\",\"affinity_delta\":1,\"reason\":\"이유\",\"key_event\":\"사건\"}";
+
+	@Mock
+	private StorySceneService storySceneService;
+
+	@Mock
+	private OpenAiChatModel chatModel;
+
+	private NovelServiceImpl novelService;
+	private SceneGenerationGate sceneGenerationGate;
+
+	// 가짜 저장소 : 소설 1개의 장면 목록 (version = 저장된 장면 수)
+	private final List<StoryScene> stored = new ArrayList<>();
+	private final Map<String, AtomicInteger> llmCalls = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		NovelServiceFixture fixture = NovelServiceFixture.of(storySceneService, chatModel);
+		novelService = fixture.build();
+		sceneGenerationGate = fixture.sceneGenerationGate();
+
+		Novel novel = Novel.builder().id(1L).title("테스트").characterSettings("[설정]").totalSummary("요약").build();
+		stored.add(StoryScene.builder().id(1L).novel(novel).sequenceOrder(0).userInput("시작").aiOutput("첫 장면")
+				.keyEvent("소설의 시작").build());
+
+		when(storySceneService.loadContext(anyLong(), anyBoolean())).thenAnswer(inv -> snapshot());
+		when(storySceneService.saveGeneratedScene(any(NovelContext.class), anyString(), any(AiSceneResult.class)))
+				.thenAnswer(inv -> save(inv.getArgument(0), inv.getArgument(1)));
+
+		when(chatModel.call(any(Prompt.class))).thenAnswer(inv -> {
+			List<Message> messages = ((Prompt) inv.getArgument(0)).getInstructions();
+			String userInput = messages.get(messages.size() - 1).getText();
+			llmCalls.computeIfAbsent(userInput, k -> new AtomicInteger()).incrementAndGet();
+			Thread.sleep(LLM_MILLIS);
+			return new ChatResponse(List.of(new Generation(new AssistantMessage(AI_JSON))));
+		});
+	}
+
+	@Test
+	void 동시_요청은_입력마다_AI를_한번만_호출하고_순서가_이어진다() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(DISTINCT_REQUESTS * DUPLICATES);
+		CountDownLatch start = new CountDownLatch(1);
+		Map<String, List<Future<StorySceneResponse>>> futures = new ConcurrentHashMap<>();
+
+		for (int d = 0; d < DUPLICATES; d++) {
+			for (int r = 0; r < DISTINCT_REQUESTS; r++) {
+				String content = "입력" + r;
+				futures.computeIfAbsent(content, k -> new ArrayList<>()).add(executor.submit(() -> {
+					start.await();
+					// 모두 같은 마지막 장면을 보고 보낸 요청
+					return novelService.generateNextScene(NovelUserInputRequest.builder().novelId(1L).mode("USER")
+							.content(content).lastSceneId(1L).build());
+				}));
+			}
+		}
+		start.countDown();
+
+		for (Map.Entry<String, List<Future<StorySceneResponse>>> entry : futures.entrySet()) {
+			List<Long> sceneIds = new ArrayList<>();
+			for (Future<StorySceneResponse> future : entry.getValue()) {
+				sceneIds.add(future.get().getSceneId());
+			}
+			assertThat(sceneIds).as("같은 요청은 같은 장면").containsOnly(sceneIds.get(0));
+		}
+		executor.shutdown();
+
+		assertThat(llmCalls).hasSize(DISTINCT_REQUESTS);
+		assertThat(llmCalls.values()).allSatisfy(calls -> assertThat(calls.get()).isEqualTo(1));
+
+		List<Integer> orders = stored.stream().map(StoryScene::getSequenceOrder).toList();
+		assertThat(orders).containsExactly(0, 1, 2, 3, 4, 5, 6);
+		assertThat(sceneGenerationGate.stats().activeNovels()).isZero();
+	}
+
+	private synchronized NovelContext snapshot() {
+		Novel novel = Novel.builder().id(1L).title("테스트").characterSettings("[설정]").totalSummary("요약")
+				.version((long) stored.size()).build();
+		Character userChar = Character.builder().id(1L).novel(novel).name("주인공").role(CharacterRole.USER).build();
+		Character mainChar = Character.builder().id(2L).novel(novel).name("서아").role(CharacterRole.MAIN).version(0L)
+				.build();
+		List<StoryScene> recent = new ArrayList<>(stored.subList(Math.max(0, stored.size() - 5), stored.size()));
+		return new NovelContext(novel, userChar, mainChar, recent);
+	}
+
+	// saveGeneratedScene 스텁 : version 검증 + (novel_id, sequence_order) 유니크 제약 흉내
+	private synchronized StorySceneResponse save(NovelContext ctx, String userInput) {
+		if (ctx.novel().getVersion() != stored.size()) {
+			throw new OptimisticLockingFailureException("소설이 변경되었습니다.");
+		}
+		int order = ctx.lastSequenceOrder() + 1;
+		if (stored.stream().anyMatch(s -> s.getSequenceOrder() == order)) {
+			throw new IllegalStateException("중복 순서: " + order);
+		}
+		StoryScene scene = StoryScene.builder().id((long) stored.size() + 1).novel(ctx.novel()).sequenceOrder(order)
+				.userInput(userInput).aiOutput("본문").build();
+		stored.add(scene);
+		return StorySceneResponse.builder().novelId(1L).sceneId(scene.getId()).sequenceOrder(order).build();
+	}
+}
@@ -0,0 +1,65 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+/**
+ * 전체 요약 vs 증분 요약 프롬프트 크기 비교 (gradle benchmark)
+ * - 소설 길이(장면 수)가 늘어날 때 요약 1회당 프롬프트 토큰 추정치를 출력
+ * - 토큰 추정 : 한글 음절 1자 ≈ 1토큰, 그 외 문자 4자 ≈ 1토큰
+ */
+@Tag("benchmark")
+class SummaryPromptBenchmarkTest {
+
+	private static final int SCENES_PER_SUMMARY = 5; // 5장면마다 요약
+	private static final String KEY_EVENT = "서아가 비 오는 골목에서 주인공에게 우산을 건네며 처음으로 이름을 불렀다"; // 평균 길이의 사건
+	private static final String PREVIOUS_SUMMARY = "가".repeat(300); // 300자 이내 요약
+
+	@Test
+	void incrementalPromptStaysConstant() throws Exception {
+		String fullSystem = read("prompts/summary-system-prompt.txt");
+		String incrementalSystem = read("prompts/summary-incremental-prompt.txt");
+
+		int[] sceneCounts = { 50, 100, 250, 500 };
+		long[] fullTokens = new long[sceneCounts.length];
+		long[] incrementalTokens = new long[sceneCounts.length];
+
+		for (int i = 0; i < sceneCounts.length; i++) {
+			String allEvents = events(sceneCounts[i]);
+			String newEvents = events(SCENES_PER_SUMMARY);
+
+			fullTokens[i] = estimateTokens(fullSystem + SummaryServiceImpl.buildFullUserPrompt(allEvents));
+			incrementalTokens[i] = estimateTokens(
+					incrementalSystem + SummaryServiceImpl.buildIncrementalUserPrompt(PREVIOUS_SUMMARY, newEvents));
+
+			System.out.printf("장면 %4d개 - 전체 요약: %6d 토큰, 증분 요약: %4d 토큰%n", sceneCounts[i], fullTokens[i],
+					incrementalTokens[i]);
+		}
+
+		int last = sceneCounts.length - 1;
+		assertThat(fullTokens[last]).isGreaterThan(fullTokens[0] * 5);
+		assertThat(incrementalTokens[last]).isEqualTo(incrementalTokens[0]);
+	}
+
+	private String events(int count) {
+		return IntStream.range(0, count).mapToObj(i -> KEY_EVENT).collect(Collectors.joining(" -> "));
+	}
+
+	private long estimateTokens(String text) {
+		long hangul = text.codePoints().filter(c -> c >= 0xAC00 && c <= 0xD7A3).count();
+		long others = text.codePoints().count() - hangul;
+		return hangul + (others + 3) / 4;
+	}
+
+	private String read(String path) throws Exception {
+		return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,86 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.muse.amuze.common.tracing.PhaseTracer;
+
+class SummarySchedulerTest {
+
+	private SummaryService summaryService;
+	private ThreadPoolExecutor executor;
+	private SummaryScheduler scheduler;
+
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws Exception {
+		summaryService = mock(SummaryService.class);
+		// 첫 번째 요약은 release 될 때까지 실행 중 상태로 붙잡아 둠
+		doAnswer(inv -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(summaryService).summarizeInterval(anyLong());
+
+		executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+		scheduler = new SummaryScheduler(summaryService, executor, PhaseTracer.noop());
+		ReflectionTestUtils.setField(scheduler, "drainTimeout", Duration.ofSeconds(5));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void requestsForSameNovelAreCoalesced() throws Exception {
+		scheduler.request(1L);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 실행 중 도착한 요청 3개 -> 끝난 뒤 한 번만 재실행
+		scheduler.request(1L);
+		scheduler.request(1L);
+		scheduler.request(1L);
+
+		release.countDown();
+		scheduler.drain();
+
+		verify(summaryService, times(2)).summarizeInterval(1L);
+		assertThat(scheduler.stats().coalesced()).isEqualTo(2);
+		assertThat(scheduler.stats().completed()).isEqualTo(2);
+	}
+
+	@Test
+	void requestsBeyondQueueCapacityAreRejected() throws Exception {
+		scheduler.request(1L); // 실행 중
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		scheduler.request(2L); // 대기열 (capacity 1)
+		scheduler.request(3L); // 거절
+
+		assertThat(scheduler.stats().queueDepth()).isEqualTo(1);
+		assertThat(scheduler.stats().rejected()).isEqualTo(1);
+
+		release.countDown();
+		scheduler.drain();
+
+		verify(summaryService, times(1)).summarizeInterval(2L);
+		verify(summaryService, times(0)).summarizeInterval(3L);
+	}
+}
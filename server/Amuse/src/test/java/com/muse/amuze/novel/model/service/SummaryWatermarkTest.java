@@ -0,0 +1,137 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+import com.muse.amuze.novel.model.repository.NovelRepository;
+import com.muse.amuze.user.model.entity.User;
+
+/**
+ * 줄거리 요약 기준점 검증
+ * - 이미 요약된 장면(기준점 이하) 수정 시 요약 스냅샷 유무와 관계없이 기준점 초기화 + 재요약 요청
+ * - 기준점 초기화 후에는 그 전에 읽은 summaryRevision 으로 저장하는 요약이 반영되지 않음
+ * - 전체 재요약 주기 0 이하 거절
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:summary-watermark;MODE=PostgreSQL;NON_KEYWORDS=CHARACTER;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa", "spring.datasource.password=", "spring.jpa.hibernate.ddl-auto=create-drop",
+		"logging.config=classpath:logback-console.xml", "spring.jpa.show-sql=false" })
+@Import({ StorySceneServiceImpl.class, SummaryWatermarkTest.SceneServiceConfig.class })
+class SummaryWatermarkTest {
+
+	private static final int WATERMARK = 5; // 장면 0~5 요약됨, 6 미반영
+	private static final int REVISION = 2;
+
+	@Autowired
+	private StorySceneService storySceneService;
+	@Autowired
+	private NovelRepository novelRepository;
+	@Autowired
+	private SummaryScheduler summaryScheduler;
+	@Autowired
+	private TestEntityManager em;
+
+	private Novel novel;
+	private final StoryScene[] scenes = new StoryScene[WATERMARK + 2];
+
+	@BeforeEach
+	void setUp() {
+		clearInvocations(summaryScheduler);
+		User author = em.persist(User.builder().email("writer@amuse.com").nickname("작가").build());
+		novel = em.persist(Novel.builder().author(author).title("테스트").characterSettings("[설정]").totalSummary("요약")
+				.status("PROCESS").isShared(false).summarizedSequenceOrder(WATERMARK).summaryRevision(REVISION).build());
+		em.persist(Character.builder().novel(novel).name("서아").role(CharacterRole.MAIN).affinity(0)
+				.relationshipLevel("ACQUAINTANCE").build());
+		for (int i = 0; i < scenes.length; i++) {
+			// 요약 스냅샷은 요약 시점의 최신 장면(기준점)에만 있음
+			scenes[i] = em.persist(StoryScene.builder().novel(novel).sequenceOrder(i).userInput("입력").aiOutput("본문" + i)
+					.keyEvent("사건" + i).summary(i == WATERMARK ? "요약" : null).affinityAtMoment(0).build());
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	void 스냅샷이_없는_요약된_장면을_수정해도_기준점을_초기화하고_재요약을_요청한다() {
+		storySceneService.saveEditedScene(novel.getId(), scenes[2].getId(), "수정한 본문", "수정한 사건");
+		em.clear();
+
+		Novel reloaded = novelRepository.findById(novel.getId()).orElseThrow();
+		assertThat(reloaded.getSummarizedSequenceOrder()).isZero();
+		assertThat(reloaded.getSummaryRevision()).isEqualTo(REVISION + 1);
+		verify(summaryScheduler).request(novel.getId());
+	}
+
+	@Test
+	void 아직_요약되지_않은_장면_수정은_기준점을_유지한다() {
+		storySceneService.saveEditedScene(novel.getId(), scenes[WATERMARK + 1].getId(), "수정한 본문", "수정한 사건");
+		em.clear();
+
+		Novel reloaded = novelRepository.findById(novel.getId()).orElseThrow();
+		assertThat(reloaded.getSummarizedSequenceOrder()).isEqualTo(WATERMARK);
+		assertThat(reloaded.getSummaryRevision()).isEqualTo(REVISION);
+		verify(summaryScheduler, never()).request(novel.getId());
+	}
+
+	@Test
+	void 요약_중_기준점이_초기화되면_먼저_읽은_요약은_저장되지_않는다() {
+		// 요약이 REVISION 으로 대상을 읽은 뒤 장면 수정으로 기준점 초기화
+		novelRepository.resetSummaryWatermark(novel.getId(), 3);
+
+		assertThat(novelRepository.updateTotalSummary(novel.getId(), "오래된 요약", WATERMARK + 1, REVISION)).isZero();
+		em.clear();
+		Novel reloaded = novelRepository.findById(novel.getId()).orElseThrow();
+		assertThat(reloaded.getTotalSummary()).isEqualTo("요약");
+		assertThat(reloaded.getSummarizedSequenceOrder()).isZero(); // 재실행은 전체 재요약
+
+		assertThat(novelRepository.updateTotalSummary(novel.getId(), "새 요약", WATERMARK + 1, REVISION + 1)).isEqualTo(1);
+	}
+
+	@Test
+	void 전체_재요약_주기가_1_미만이면_시작하지_않는다() {
+		SummaryServiceImpl summaryService = new SummaryServiceImpl(null, null, null, null, null, null, null, null);
+		ReflectionTestUtils.setField(summaryService, "fullSummaryEvery", 0);
+
+		assertThatThrownBy(summaryService::validatePromptTemplates).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("amuse.summary.full-every");
+	}
+
+	@TestConfiguration
+	static class SceneServiceConfig {
+
+		@Bean
+		NovelContextCache novelContextCache() {
+			return new NovelContextCache(new ObjectMapper(), 0, Duration.ofMinutes(10));
+		}
+
+		@Bean
+		SummaryScheduler summaryScheduler() {
+			return mock(SummaryScheduler.class);
+		}
+	}
+}
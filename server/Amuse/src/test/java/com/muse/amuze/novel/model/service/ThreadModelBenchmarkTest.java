@@ -0,0 +1,159 @@
+package com.muse.amuze.novel.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+
+import com.muse.amuze.novel.model.dto.NovelContext;
+import com.muse.amuze.novel.model.dto.NovelUserInputRequest;
+import com.muse.amuze.novel.model.dto.StorySceneResponse;
+import com.muse.amuze.novel.model.entity.Character;
+import com.muse.amuze.novel.model.entity.CharacterRole;
+import com.muse.amuze.novel.model.entity.Novel;
+import com.muse.amuze.novel.model.entity.StoryScene;
+
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 max 200) vs 가상 스레드 모드 비교 벤치마크 (gradle benchmark)
+ * - AI 호출을 느린 스텁으로 대체하고 동일한 양의 동시 생성 요청을 실행
+ * - 최대 동시 생성 수, p50/p99 지연시간, 가상 스레드 pinning 이벤트 수를 출력
+ */
+@Tag("benchmark")
+@ExtendWith(MockitoExtension.class)
+class ThreadModelBenchmarkTest {
+
+	private static final int TOMCAT_MAX_THREADS = 200; // server.tomcat.threads.max 기본값
+	private static final int REQUESTS = 2000;
+	private static final long LLM_MILLIS = 300;
+
+	private static final String AI_JSON = "{\"ai_output\":\"본문\",\"affinity_delta\":1,\"reason\":\"이유\",\"key_event\":\"사건\"}";
+
+	@Mock(stubOnly = true)
+	private StorySceneService storySceneService;
+
+	@Mock(stubOnly = true)
+	private OpenAiChatModel chatModel;
+
+	private NovelServiceImpl novelService;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peakInFlight = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		novelService = NovelServiceFixture.of(storySceneService, chatModel).build();
+
+		lenient().when(storySceneService.loadContext(anyLong(), anyBoolean())).thenAnswer(inv -> snapshot());
+		lenient().when(storySceneService.saveGeneratedScene(any(NovelContext.class), anyString(), any()))
+				.thenReturn(StorySceneResponse.builder().novelId(1L).build());
+
+		lenient().when(chatModel.call(any(Prompt.class))).thenAnswer(inv -> {
+			peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(LLM_MILLIS);
+			} finally {
+				inFlight.decrementAndGet();
+			}
+			return new ChatResponse(List.of(new Generation(new AssistantMessage(AI_JSON))));
+		});
+	}
+
+	@Test
+	void compareThreadModels() throws Exception {
+		Result platform = run("platform", Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+
+		LongAdder pinned = new LongAdder();
+		Result virtual;
+		try (RecordingStream stream = new RecordingStream()) {
+			stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1));
+			stream.onEvent("jdk.VirtualThreadPinned", e -> pinned.increment());
+			stream.startAsync();
+			virtual = run("virtual", Executors.newVirtualThreadPerTaskExecutor());
+		}
+
+		System.out.println(platform);
+		System.out.println(virtual);
+		System.out.printf("[virtual] pinning 이벤트: %d건%n", pinned.sum());
+
+		assertThat(virtual.peakConcurrent()).isGreaterThan(platform.peakConcurrent());
+		assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+	}
+
+	private Result run(String name, ExecutorService executor) throws Exception {
+		inFlight.set(0);
+		peakInFlight.set(0);
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Long>> futures = new ArrayList<>(REQUESTS);
+
+		long begin = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			long novelId = i + 1; // 소설마다 하나씩 (같은 소설의 요청은 관문에서 차례로 실행됨)
+			futures.add(executor.submit(() -> {
+				start.await();
+				novelService.generateNextScene(
+						NovelUserInputRequest.builder().novelId(novelId).mode("USER").content("안녕")
+								.idempotencyKey(name + novelId).build()); // 실행 모델별로 새 요청
+				return System.nanoTime();
+			}));
+		}
+		start.countDown();
+
+		long[] latencies = new long[REQUESTS];
+		for (int i = 0; i < REQUESTS; i++) {
+			latencies[i] = (futures.get(i).get() - begin) / 1_000_000;
+		}
+		long wallMillis = (System.nanoTime() - begin) / 1_000_000;
+		executor.shutdown();
+
+		Arrays.sort(latencies);
+		return new Result(name, peakInFlight.get(), latencies[REQUESTS / 2], latencies[(int) (REQUESTS * 0.99) - 1],
+				wallMillis);
+	}
+
+	private record Result(String name, int peakConcurrent, long p50Millis, long p99Millis, long wallMillis) {
+		@Override
+		public String toString() {
+			return String.format("[%s] 요청 %d건 - 최대 동시 생성: %d, p50: %dms, p99: %dms, 총 소요: %dms", name, REQUESTS,
+					peakConcurrent, p50Millis, p99Millis, wallMillis);
+		}
+	}
+
+	private NovelContext snapshot() {
+		Novel novel = Novel.builder().id(1L).title("테스트").characterSettings("[설정]").totalSummary("요약").version(0L)
+				.build();
+		Character userChar = Character.builder().id(1L).novel(novel).name("주인공").role(CharacterRole.USER).build();
+		Character mainChar = Character.builder().id(2L).novel(novel).name("서아").role(CharacterRole.MAIN).version(0L)
+				.build();
+		StoryScene scene = StoryScene.builder().id(1L).novel(novel).sequenceOrder(0).userInput("시작").aiOutput("첫 장면")
+				.keyEvent("소설의 시작").build();
+		return new NovelContext(novel, userChar, mainChar, new ArrayList<>(List.of(scene)));
+	}
+}